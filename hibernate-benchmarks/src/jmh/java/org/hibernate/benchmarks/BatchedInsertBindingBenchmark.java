@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures batched inserts of {@link Author} rows through a stateless session, which
+ * exercises the binding of the values of each row without the overhead of a persistence
+ * context.  The inserts of each invocation are rolled back.
+ * <p>
+ * Meant to be run with the GC profiler, {@code -prof gc}, whose {@code gc.alloc.rate.norm}
+ * is the number of bytes allocated for all the inserts of an invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchedInsertBindingBenchmark {
+
+	@Param({ "10000" })
+	public int inserts;
+
+	@Param({ "50" })
+	public int batchSize;
+
+	private SessionFactory sessionFactory;
+	private Author[] authors;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( configuration -> configuration
+				.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) ) );
+		authors = new Author[inserts];
+		for ( int i = 0; i < inserts; i++ ) {
+			authors[i] = new Author( i + 1L, "Author " + i, i % 5 );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void insertBatched() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			session.beginTransaction();
+			for ( Author author : authors ) {
+				session.insert( author );
+			}
+			session.getTransaction().rollback();
+		}
+	}
+}
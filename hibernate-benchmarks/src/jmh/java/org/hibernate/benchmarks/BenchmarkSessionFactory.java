@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Document;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks: the {@link Author}/{@link Book}
+ * and {@link Document} model mapped against a private in-memory H2 database.
+ * <p>
+ * Every factory gets its own database so that parameterized benchmarks which need differently
+ * configured factories do not see each other's data.
+ */
+public final class BenchmarkSessionFactory {
+
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactory build() {
+		return build( configuration -> {} );
+	}
+
+	public static SessionFactory build(Consumer<Configuration> customizer) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClass( Document.class )
+				.setProperty(
+						AvailableSettings.URL,
+						"jdbc:h2:mem:benchmark_" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.setProperty( AvailableSettings.USER, "sa" )
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.setProperty( AvailableSettings.SHOW_SQL, "false" )
+				.setProperty( AvailableSettings.GENERATE_STATISTICS, "false" );
+		customizer.accept( configuration );
+		return configuration.buildSessionFactory();
+	}
+
+	/**
+	 * Inserts {@code authors} authors with {@code booksPerAuthor} books each.  Author ids start
+	 * at 1, book ids are {@code authorId * booksPerAuthor + n}.
+	 */
+	public static void populate(SessionFactory sessionFactory, int authors, int booksPerAuthor) {
+		final LocalDateTime published = LocalDateTime.of( 2020, 1, 1, 12, 0 );
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( long a = 1; a <= authors; a++ ) {
+				final Author author = new Author( a, "Author " + a, (int) ( a % 5 ) );
+				session.insert( author );
+				for ( int b = 0; b < booksPerAuthor; b++ ) {
+					final long bookId = a * booksPerAuthor + b;
+					session.insert( new Book(
+							bookId,
+							"Book " + bookId,
+							BigDecimal.valueOf( bookId % 100, 2 ),
+							published.plusDays( b ),
+							author
+					) );
+				}
+			}
+		} );
+	}
+
+	/**
+	 * Inserts {@code documents} documents with ids starting at 1, each with a content
+	 * of {@code contentSize} bytes.
+	 */
+	public static void populateDocuments(SessionFactory sessionFactory, int documents, int contentSize) {
+		final Date created = new Date( 1_577_880_000_000L );
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( long d = 1; d <= documents; d++ ) {
+				session.insert( new Document(
+						d,
+						new byte[contentSize],
+						created,
+						new Document.Review( "Reviewer " + d % 5, created, new byte[32] )
+				) );
+			}
+		} );
+	}
+}
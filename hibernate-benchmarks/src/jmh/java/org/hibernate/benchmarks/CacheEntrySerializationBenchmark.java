@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Java serialization of the {@link StandardCacheEntryImpl} of a {@link Book},
+ * which is what a serializing second-level cache stores by default, with the record written
+ * by {@link CompactCacheEntry}, for both writing and reading the entry.
+ * <p>
+ * The size of both forms of the entry is printed by the setup of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CacheEntrySerializationBenchmark {
+
+	private SessionFactory sessionFactory;
+	private SessionFactoryImplementor factory;
+	private CompactCacheEntry structure;
+	private CacheEntry entry;
+	private byte[] serialized;
+	private byte[] record;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, 1, 1 );
+		factory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		structure = new CompactCacheEntry( persister );
+
+		try ( Session session = sessionFactory.openSession() ) {
+			final Book book = session.find( Book.class, 1L );
+			entry = new StandardCacheEntryImpl(
+					persister.getValues( book ),
+					persister,
+					persister.getVersion( book ),
+					session.unwrap( SharedSessionContractImplementor.class ),
+					book
+			);
+		}
+		serialized = SerializationHelper.serialize( entry );
+		record = (byte[]) structure.structure( entry );
+		System.out.printf(
+				"%nJava serialization: %d bytes, compact record: %d bytes%n",
+				serialized.length,
+				record.length
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public byte[] writeJavaSerialization() {
+		return SerializationHelper.serialize( entry );
+	}
+
+	@Benchmark
+	public Object readJavaSerialization() {
+		return SerializationHelper.deserialize( serialized );
+	}
+
+	@Benchmark
+	public Object writeCompactRecord() {
+		return structure.structure( entry );
+	}
+
+	@Benchmark
+	public Object readCompactRecord() {
+		return structure.destructure( record, factory );
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dirty checking done by {@code DefaultFlushEntityEventListener} when a session
+ * holding {@link #managedEntities} entities is flushed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FlushDirtyCheckingBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private List<Book> books;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities / BOOKS_PER_AUTHOR, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void setUpIteration() {
+		session = sessionFactory.openSession();
+		session.beginTransaction();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Nothing has changed, so the whole cost is the dirty check of every managed entity.
+	 */
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	/**
+	 * A single entity has changed and is updated.
+	 */
+	@Benchmark
+	public void flushSingleDirty() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		books.get( random.nextInt( books.size() ) ).setTitle( "Title " + random.nextInt() );
+		session.flush();
+	}
+}
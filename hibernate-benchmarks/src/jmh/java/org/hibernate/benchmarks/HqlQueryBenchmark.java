@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures HQL execution through {@code QuerySqmImpl}, including the lookups in the
+ * query interpretation cache which are hit on every execution, for each of the
+ * {@value AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION} choices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HqlQueryBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "100" })
+	public int authors;
+
+	@Param({ "lirs", "tinylfu" })
+	public String planCacheImplementation;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( configuration -> configuration.setProperty(
+				AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION,
+				planCacheImplementation
+		) );
+		BenchmarkSessionFactory.populate( sessionFactory, authors, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entityQuery() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book b where b.author.id = :author", Book.class )
+					.setParameter( "author", randomAuthorId() )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entityQueryWithJoinFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+							"from Book b join fetch b.author a where a.rating = :rating",
+							Book.class
+					)
+					.setParameter( "rating", (int) ( randomAuthorId() % 5 ) )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public Long aggregateQuery() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "select count(b) from Book b where b.price > :price", Long.class )
+					.setParameter( "price", BigDecimal.valueOf( randomAuthorId() % 100, 2 ) )
+					.getSingleResult();
+		}
+	}
+
+	private long randomAuthorId() {
+		return ThreadLocalRandom.current().nextLong( 1, authors + 1 );
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the sorting of the insert actions enabled by {@value AvailableSettings#ORDER_INSERTS},
+ * alone, against the number of interleaved {@link Author} and {@link Book} inserts queued in the
+ * session.  The inserts are queued before each invocation, and rolled back after it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InsertActionSortBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 9;
+
+	@Param({ "1000", "10000", "100000" })
+	public int inserts;
+
+	private SessionFactory sessionFactory;
+	private SessionImplementor session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( configuration -> configuration
+				.setProperty( AvailableSettings.ORDER_INSERTS, "true" )
+				.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "50" ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void queueInserts() {
+		final LocalDateTime published = LocalDateTime.of( 2020, 1, 1, 12, 0 );
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.beginTransaction();
+		final int authors = inserts / ( BOOKS_PER_AUTHOR + 1 );
+		for ( long a = 1; a <= authors; a++ ) {
+			final Author author = new Author( a, "Author " + a, (int) ( a % 5 ) );
+			session.persist( author );
+			for ( int b = 0; b < BOOKS_PER_AUTHOR; b++ ) {
+				final long bookId = a * BOOKS_PER_AUTHOR + b;
+				session.persist( new Book( bookId, "Book " + bookId, BigDecimal.ONE, published, author ) );
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void discardInserts() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void sortInsertActions() {
+		session.getActionQueue().sortActions();
+	}
+}
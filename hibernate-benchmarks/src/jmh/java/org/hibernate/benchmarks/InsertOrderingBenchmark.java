@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a flush of interleaved {@link Author} and {@link Book} inserts, with and without
+ * the {@code ActionQueue} insert ordering enabled by {@value AvailableSettings#ORDER_INSERTS}.
+ * The transaction is rolled back after every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InsertOrderingBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "true", "false" })
+	public boolean orderInserts;
+
+	@Param({ "100", "1000" })
+	public int authors;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( configuration -> configuration
+				.setProperty( AvailableSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) )
+				.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "50" ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		final LocalDateTime published = LocalDateTime.of( 2020, 1, 1, 12, 0 );
+		try ( Session session = sessionFactory.openSession() ) {
+			session.beginTransaction();
+			try {
+				for ( long a = 1; a <= authors; a++ ) {
+					final Author author = new Author( a, "Author " + a, (int) ( a % 5 ) );
+					session.persist( author );
+					for ( int b = 0; b < BOOKS_PER_AUTHOR; b++ ) {
+						final long bookId = a * BOOKS_PER_AUTHOR + b;
+						session.persist( new Book( bookId, "Book " + bookId, BigDecimal.ONE, published, author ) );
+					}
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
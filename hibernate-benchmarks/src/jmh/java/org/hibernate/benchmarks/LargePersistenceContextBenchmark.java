@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the persistence context of a session holding {@link #entities} entities,
+ * with and without {@value AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING}:
+ * <ul>
+ *     <li>{@code getEntity} latency for hits and misses,
+ *     <li>the time and allocation needed to register all the entities,
+ *     <li>the heap retained by the by-key maps, printed once per trial.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LargePersistenceContextBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean openAddressing;
+
+	@Param({ "200000" })
+	public int entities;
+
+	private SessionFactory sessionFactory;
+	private SessionImplementor session;
+	private EntityKey[] keys;
+	private EntityKey[] absentKeys;
+	private Book[] books;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( configuration -> configuration.setProperty(
+				AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING,
+				Boolean.toString( openAddressing )
+		) );
+		session = (SessionImplementor) sessionFactory.openSession();
+
+		final EntityPersister persister = sessionFactory.unwrap( SessionFactoryImplementor.class )
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final LocalDateTime published = LocalDateTime.of( 2020, 1, 1, 12, 0 );
+		keys = new EntityKey[entities];
+		absentKeys = new EntityKey[entities];
+		books = new Book[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			keys[i] = session.generateEntityKey( (long) i, persister );
+			absentKeys[i] = session.generateEntityKey( (long) ( entities + i ), persister );
+			books[i] = new Book( (long) i, "Book " + i, BigDecimal.ONE, published, null );
+		}
+
+		final long before = usedHeap();
+		populate( session.getPersistenceContextInternal() );
+		final long after = usedHeap();
+		System.out.printf(
+				"%nRetained by the persistence context: %,d bytes (%.1f bytes per entity)%n",
+				after - before,
+				( after - before ) / (double) entities
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return session.getPersistenceContextInternal()
+				.getEntity( keys[ ThreadLocalRandom.current().nextInt( entities ) ] );
+	}
+
+	@Benchmark
+	public Object getEntityMiss() {
+		return session.getPersistenceContextInternal()
+				.getEntity( absentKeys[ ThreadLocalRandom.current().nextInt( entities ) ] );
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public int populateNewSession() {
+		try ( SessionImplementor newSession = (SessionImplementor) sessionFactory.openSession() ) {
+			final PersistenceContext persistenceContext = newSession.getPersistenceContextInternal();
+			populate( persistenceContext );
+			return persistenceContext.getEntitiesByKey().size();
+		}
+	}
+
+	private void populate(PersistenceContext persistenceContext) {
+		for ( int i = 0; i < entities; i++ ) {
+			persistenceContext.addEntity( keys[i], books[i] );
+		}
+	}
+
+	private static long usedHeap() {
+		final Runtime runtime = Runtime.getRuntime();
+		for ( int i = 0; i < 3; i++ ) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.cache.LegacyInternalCacheFactory;
+import org.hibernate.internal.util.cache.TinyLfuInternalCacheFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link InternalCacheFactory} implementations selectable through
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION}
+ * under the access pattern of the query interpretation cache: a small set of
+ * query strings read concurrently by many threads, with the occasional miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueryInterpretationCacheBenchmark {
+
+	private static final int MAX_SIZE = 2048;
+	private static final int QUERIES = 4 * MAX_SIZE;
+
+	@Param({ LegacyInternalCacheFactory.SHORT_NAME, TinyLfuInternalCacheFactory.SHORT_NAME })
+	public String implementation;
+
+	private InternalCache<String, Object> cache;
+	private String[] queries;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final InternalCacheFactory factory = LegacyInternalCacheFactory.SHORT_NAME.equals( implementation )
+				? LegacyInternalCacheFactory.INSTANCE
+				: TinyLfuInternalCacheFactory.INSTANCE;
+		cache = factory.createInternalCache( MAX_SIZE );
+		queries = new String[QUERIES];
+		for ( int i = 0; i < QUERIES; i++ ) {
+			queries[i] = "select e from Entity" + i + " e where e.id = :id";
+		}
+		for ( int i = 0; i < MAX_SIZE; i++ ) {
+			cache.put( queries[i], new Object() );
+		}
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Object resolve() {
+		return cache.computeIfAbsent( queries[ nextQueryIndex() ], query -> new Object() );
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Object get() {
+		return cache.get( queries[ nextQueryIndex() ] );
+	}
+
+	/**
+	 * A skewed distribution: most lookups hit the first few hundred queries,
+	 * a few fall outside the cache.
+	 */
+	private int nextQueryIndex() {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final double uniform = random.nextDouble();
+		return (int) ( QUERIES * uniform * uniform * uniform );
+	}
+}
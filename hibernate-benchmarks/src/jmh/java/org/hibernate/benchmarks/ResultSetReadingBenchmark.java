@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.query.ResultColumns;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures row reading through {@code JdbcValuesResultSetImpl} for queries returning
+ * {@link #rows} rows, both for scalar projections and for whole entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResultSetReadingBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, rows / BOOKS_PER_AUTHOR, BOOKS_PER_AUTHOR );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Object[]> scalarProjection() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+					"select b.id, b.title, b.price, b.published from Book b",
+					Object[].class
+			).getResultList();
+		}
+	}
+
+	@Benchmark
+	public ResultColumns scalarProjectionColumns() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+					"select b.id, b.title, b.price, b.published from Book b",
+					Object[].class
+			).getResultColumns();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesReadOnly() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).setReadOnly( true ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> entitiesStateless() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+}
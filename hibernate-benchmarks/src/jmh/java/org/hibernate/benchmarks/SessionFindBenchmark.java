@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SessionImpl#find}, both for a cold lookup in a fresh session (which
+ * goes to the database) and for a lookup which is resolved from the persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SessionFindBenchmark {
+
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param({ "1000" })
+	public int authors;
+
+	private SessionFactory sessionFactory;
+	private Session managedSession;
+	private long maxBookId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, authors, BOOKS_PER_AUTHOR );
+		maxBookId = (long) authors * BOOKS_PER_AUTHOR + BOOKS_PER_AUTHOR - 1;
+
+		managedSession = sessionFactory.openSession();
+		managedSession.beginTransaction();
+		for ( long id = BOOKS_PER_AUTHOR; id <= maxBookId; id++ ) {
+			managedSession.find( Book.class, id );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		managedSession.getTransaction().rollback();
+		managedSession.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book findInNewSession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, randomBookId() );
+		}
+	}
+
+	@Benchmark
+	public Book findManaged() {
+		return managedSession.find( Book.class, randomBookId() );
+	}
+
+	private long randomBookId() {
+		return ThreadLocalRandom.current().nextLong( BOOKS_PER_AUTHOR, maxBookId + 1 );
+	}
+}
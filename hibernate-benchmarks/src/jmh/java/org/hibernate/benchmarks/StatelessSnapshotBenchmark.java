@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.model.Document;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of {@link #rows} {@link Document}s, whose attributes are mostly
+ * mutable values of {@link #contentSize} bytes, by a {@link StatelessSession}, with and
+ * without {@value AvailableSettings#STATELESS_SESSION_SKIP_SNAPSHOTS}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StatelessSnapshotBenchmark {
+
+	@Param({ "10000" })
+	public int rows;
+
+	@Param({ "256", "4096" })
+	public int contentSize;
+
+	private SessionFactory sessionFactory;
+	private SessionFactory skipSnapshotsSessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populateDocuments( sessionFactory, rows, contentSize );
+		skipSnapshotsSessionFactory = BenchmarkSessionFactory.build( configuration -> configuration.setProperty(
+				AvailableSettings.STATELESS_SESSION_SKIP_SNAPSHOTS,
+				"true"
+		) );
+		BenchmarkSessionFactory.populateDocuments( skipSnapshotsSessionFactory, rows, contentSize );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+		skipSnapshotsSessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Document> stateless() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( "from Document", Document.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Document> statelessSkipSnapshots() {
+		try ( StatelessSession session = skipSnapshotsSessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( "from Document", Document.class ).getResultList();
+		}
+	}
+}
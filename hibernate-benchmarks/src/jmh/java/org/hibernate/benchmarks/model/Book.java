@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private BigDecimal price;
+	private LocalDateTime published;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	protected Book() {
+	}
+
+	public Book(Long id, String title, BigDecimal price, LocalDateTime published, Author author) {
+		this.id = id;
+		this.title = title;
+		this.price = price;
+		this.published = published;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public LocalDateTime getPublished() {
+		return published;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
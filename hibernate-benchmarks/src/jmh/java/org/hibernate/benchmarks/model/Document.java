@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+/**
+ * An entity whose attributes are mostly mutable values, which are deep copied
+ * into the snapshot of a loaded entity.
+ */
+@Entity
+public class Document {
+	@Id
+	private Long id;
+	@Column(length = 8192)
+	private byte[] content;
+	@Temporal(TemporalType.TIMESTAMP)
+	private Date created;
+	@Temporal(TemporalType.TIMESTAMP)
+	private Date modified;
+	@Embedded
+	private Review review;
+
+	protected Document() {
+	}
+
+	public Document(Long id, byte[] content, Date created, Review review) {
+		this.id = id;
+		this.content = content;
+		this.created = created;
+		this.modified = created;
+		this.review = review;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public byte[] getContent() {
+		return content;
+	}
+
+	public Date getCreated() {
+		return created;
+	}
+
+	public Date getModified() {
+		return modified;
+	}
+
+	public Review getReview() {
+		return review;
+	}
+
+	@Embeddable
+	public static class Review {
+		private String reviewer;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date reviewed;
+		private byte[] signature;
+
+		protected Review() {
+		}
+
+		public Review(String reviewer, Date reviewed, byte[] signature) {
+			this.reviewer = reviewer;
+			this.reviewed = reviewed;
+			this.signature = signature;
+		}
+
+		public String getReviewer() {
+			return reviewer;
+		}
+
+		public Date getReviewed() {
+			return reviewed;
+		}
+
+		public byte[] getSignature() {
+			return signature;
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -124,6 +126,59 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, assigning a generated identifier to each new
+	 * instance.
+	 * <p>
+	 * The instances are grouped by entity type, in the order in which each
+	 * type first occurs in the given list, and the rows of each type are then
+	 * inserted in list order. Thus, parent instances should be listed before
+	 * their children. Within a transaction, the statements are executed in
+	 * JDBC batches of the {@linkplain #setJdbcBatchSize session-level batch
+	 * size}, and every row has been written when this method returns.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple rows, grouped by entity type and batched just like
+	 * {@link #insertMultiple(List)}.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple rows, grouped by entity type and batched just like
+	 * {@link #insertMultiple(List)}. Thus, child instances should be listed
+	 * before their parents.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Use SQL {@code merge into} statements to upsert multiple rows, grouped
+	 * by entity type and batched just like {@link #insertMultiple(List)}.
+	 *
+	 * @param entities detached entity instances
+	 * @throws TransientObjectException is one of the entities is transient
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -198,6 +253,31 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple rows, returning entity instances in a
+	 * list where the position of an instance in the list matches
+	 * the position of its identifier in the given list, and the
+	 * list contains a null value if there is no persistent
+	 * instance matching a given identifier.
+	 * <p>
+	 * The rows are fetched using as few queries as possible: a
+	 * single query binding an array of identifiers on databases
+	 * which support it, or otherwise queries restricting the
+	 * identifier to a list of values, each of the batch size
+	 * chosen by the {@linkplain org.hibernate.dialect.Dialect#getBatchLoadSizingStrategy
+	 * dialect}.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return an ordered list of detached entity instances, with
+	 *         null elements representing missing entities
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
@@ -77,6 +77,7 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTI
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_PREFETCH;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
@@ -90,11 +91,13 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_CATALOG;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_OPEN_ADDRESSING;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.INCREMENTAL_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
@@ -105,16 +108,21 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SCROLL_READ_AHEAD_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STATELESS_SESSION_SKIP_SNAPSHOTS;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_QUERY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -169,6 +177,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean jtaTransactionAccessEnabled;
 	private boolean allowOutOfTransactionUpdateOperations;
 	private boolean releaseResourcesOnCloseEnabled;
+	private boolean persistenceContextOpenAddressingEnabled;
+	private boolean incrementalFlushEnabled;
+	private int parallelDirtyCheckThreshold;
+	private boolean batchFetchPrefetchEnabled;
+	private boolean statelessSessionSkipSnapshotsEnabled;
+	private int scrollReadAheadSize;
 	private boolean allowRefreshDetachedEntity;
 
 	// (JTA) transaction handling
@@ -231,6 +245,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
+	private boolean compactQueryCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
 	// Schema tooling
@@ -453,6 +469,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					BOOLEAN,
 					false
 			);
+			this.compactQueryCacheEntriesEnabled = configurationService.getSetting(
+					USE_COMPACT_QUERY_CACHE_ENTRIES,
+					BOOLEAN,
+					false
+			);
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 		}
 		else {
@@ -463,6 +485,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
+			this.compactQueryCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
 
@@ -525,6 +549,24 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.persistenceContextOpenAddressingEnabled = getBoolean(
+				PERSISTENCE_CONTEXT_OPEN_ADDRESSING,
+				configurationSettings
+		);
+
+		this.incrementalFlushEnabled = getBoolean(
+				INCREMENTAL_FLUSH,
+				configurationSettings
+		);
+
+		this.parallelDirtyCheckThreshold = getInt( PARALLEL_DIRTY_CHECK_THRESHOLD, configurationSettings, 0 );
+
+		this.batchFetchPrefetchEnabled = getBoolean( BATCH_FETCH_PREFETCH, configurationSettings );
+
+		this.statelessSessionSkipSnapshotsEnabled = getBoolean( STATELESS_SESSION_SKIP_SNAPSHOTS, configurationSettings );
+
+		this.scrollReadAheadSize = getInt( SCROLL_READ_AHEAD_SIZE, configurationSettings, 0 );
+
 		Object jdbcTimeZoneValue = configurationSettings.get(
 				JDBC_TIME_ZONE
 		);
@@ -845,6 +887,36 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return releaseResourcesOnCloseEnabled;
 	}
 
+	@Override
+	public boolean isPersistenceContextOpenAddressingEnabled() {
+		return persistenceContextOpenAddressingEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public boolean isBatchFetchPrefetchEnabled() {
+		return batchFetchPrefetchEnabled;
+	}
+
+	@Override
+	public boolean isStatelessSessionSkipSnapshotsEnabled() {
+		return statelessSessionSkipSnapshotsEnabled;
+	}
+
+	@Override
+	public int getScrollReadAheadSize() {
+		return scrollReadAheadSize;
+	}
+
 	@Override
 	public Object getBeanManagerReference() {
 		return beanManagerReference;
@@ -1050,6 +1122,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return compactQueryCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
@@ -33,6 +33,9 @@ import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
 import org.hibernate.id.enhanced.SingleNamingStrategy;
 import org.hibernate.id.enhanced.LegacyNamingStrategy;
 import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.cache.LegacyInternalCacheFactory;
+import org.hibernate.internal.util.cache.TinyLfuInternalCacheFactory;
 import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableMutationStrategy;
@@ -119,6 +122,7 @@ public class StrategySelectorBuilder {
 		addImplicitNamingStrategies( strategySelector );
 		addColumnOrderingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addInternalCacheFactories( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
 
@@ -273,6 +277,19 @@ public class StrategySelectorBuilder {
 		);
 	}
 
+	private static void addInternalCacheFactories(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				InternalCacheFactory.class,
+				LegacyInternalCacheFactory.SHORT_NAME,
+				LegacyInternalCacheFactory.class
+		);
+		strategySelector.registerStrategyImplementor(
+				InternalCacheFactory.class,
+				TinyLfuInternalCacheFactory.SHORT_NAME,
+				TinyLfuInternalCacheFactory.class
+		);
+	}
+
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
@@ -237,6 +237,36 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isReleaseResourcesOnCloseEnabled();
 	}
 
+	@Override
+	public boolean isPersistenceContextOpenAddressingEnabled() {
+		return delegate.isPersistenceContextOpenAddressingEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public boolean isBatchFetchPrefetchEnabled() {
+		return delegate.isBatchFetchPrefetchEnabled();
+	}
+
+	@Override
+	public boolean isStatelessSessionSkipSnapshotsEnabled() {
+		return delegate.isStatelessSessionSkipSnapshotsEnabled();
+	}
+
+	@Override
+	public int getScrollReadAheadSize() {
+		return delegate.getScrollReadAheadSize();
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return delegate.isSecondLevelCacheEnabled();
@@ -272,6 +302,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactQueryCacheEntriesEnabled() {
+		return delegate.isCompactQueryCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -174,6 +174,24 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * Should query results be stored in the query cache in a compact binary form?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_QUERY_CACHE_ENTRIES
+	 */
+	default boolean isCompactQueryCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should entities be stored in the second-level cache as compact binary records?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -215,6 +233,65 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isReleaseResourcesOnCloseEnabled();
 
+	/**
+	 * Should the persistence context use open-addressing maps for its
+	 * key-based lookups?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_OPEN_ADDRESSING
+	 */
+	default boolean isPersistenceContextOpenAddressingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should a flush skip the managed entities which are known to be unmodified?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The minimum number of entities to be dirty checked by a flush for the
+	 * dirty checks to be performed in parallel, or {@code 0} if they never are.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Whether the entities referenced by the results of a query should be
+	 * batch fetched once the results are read.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_PREFETCH
+	 */
+	default boolean isBatchFetchPrefetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the entities loaded by a stateless session should be loaded
+	 * without a snapshot of their state.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATELESS_SESSION_SKIP_SNAPSHOTS
+	 */
+	default boolean isStatelessSessionSkipSnapshotsEnabled() {
+		return false;
+	}
+
+	/**
+	 * The number of rows of a forward-only scroll which may be read ahead of
+	 * their processing, or {@code 0} if rows are read on demand.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE
+	 */
+	default int getScrollReadAheadSize() {
+		return 0;
+	}
+
 	TimeZone getJdbcTimeZone();
 
 	/**
@@ -0,0 +1,289 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SingularAttributeMapping;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_OFF_HEAP_DIRECTORY;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_OFF_HEAP_SIZE;
+import static org.hibernate.cfg.AvailableSettings.LOCAL_CACHE_TIME_TO_LIVE;
+
+/**
+ * {@link RegionFactory} holding the regions in the memory of the JVM, for applications
+ * running on a single node which need a second-level cache without depending on a
+ * caching provider.
+ * <p>
+ * Each region is held by a {@link LocalStorageAccess}, bounded by a
+ * {@linkplain org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_MAX_ENTRIES number of entries}
+ * or by an {@linkplain org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_MAX_SIZE estimated size},
+ * with an optional {@linkplain org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_TIME_TO_LIVE time to live}.
+ * The timestamps region is never bounded, since evicting the timestamp of a query space
+ * would let stale query results be read from the query cache.
+ * <p>
+ * The entity, collection and natural id regions may instead be held outside the Java heap
+ * by an {@link OffHeapStorageAccess} of a
+ * {@linkplain org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_OFF_HEAP_SIZE given capacity},
+ * optionally mapped to a file in a
+ * {@linkplain org.hibernate.cfg.AvailableSettings#LOCAL_CACHE_OFF_HEAP_DIRECTORY directory}
+ * so that the content of the regions survives a restart.
+ * <p>
+ * The number and estimated size of the entries of each region are reported by its
+ * {@link org.hibernate.stat.CacheRegionStatistics}.
+ */
+@Incubating
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum number of entries of a region
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private Map<String, Object> configValues;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final String regionName = regionConfig.getRegionName();
+		final long offHeapSize = getRegionSetting( LOCAL_CACHE_OFF_HEAP_SIZE, regionName, -1 );
+		if ( offHeapSize > 0 ) {
+			return createOffHeapStorageAccess( regionConfig, offHeapSize );
+		}
+		else {
+			return createStorageAccess( regionName );
+		}
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new LocalStorageAccess( -1, false, 0 );
+	}
+
+	/**
+	 * Creates the storage of a region, bounded according to the settings of the region
+	 */
+	protected LocalStorageAccess createStorageAccess(String regionName) {
+		final long maximumSize = getRegionSetting( LOCAL_CACHE_MAX_SIZE, regionName, -1 );
+		final long timeToLive = getRegionSetting( LOCAL_CACHE_TIME_TO_LIVE, regionName, 0 );
+		if ( maximumSize >= 0 ) {
+			return new LocalStorageAccess( maximumSize, true, timeToLive * 1000 );
+		}
+		else {
+			return new LocalStorageAccess(
+					getRegionSetting( LOCAL_CACHE_MAX_ENTRIES, regionName, DEFAULT_MAX_ENTRIES ),
+					false,
+					timeToLive * 1000
+			);
+		}
+	}
+
+	/**
+	 * Creates the storage of a region held outside the Java heap
+	 */
+	protected OffHeapStorageAccess createOffHeapStorageAccess(DomainDataRegionConfig regionConfig, long capacity) {
+		final String regionName = regionConfig.getRegionName();
+		final long timeToLive = getRegionSetting( LOCAL_CACHE_TIME_TO_LIVE, regionName, 0 );
+		Object directory = configValues.get( LOCAL_CACHE_OFF_HEAP_DIRECTORY + '.' + regionName );
+		if ( directory == null ) {
+			directory = configValues.get( LOCAL_CACHE_OFF_HEAP_DIRECTORY );
+		}
+		final Path file = directory == null
+				? null
+				: Paths.get( directory.toString().trim() ).resolve( regionName.replaceAll( "[^\\w.-]", "_" ) + ".cache" );
+		return new OffHeapStorageAccess(
+				capacity,
+				timeToLive * 1000,
+				file,
+				factory -> mappingFingerprint( regionConfig, factory.getMappingMetamodel() )
+		);
+	}
+
+	/**
+	 * A hash of the names and types of the attributes of the entities, natural ids and
+	 * collections cached in a region, identifying the layout of their cache entries
+	 */
+	private static int mappingFingerprint(DomainDataRegionConfig regionConfig, MappingMetamodelImplementor metamodel) {
+		// the order of the cached types is not significant
+		int fingerprint = 0;
+		for ( EntityDataCachingConfig entityConfig : regionConfig.getEntityCaching() ) {
+			for ( NavigableRole cachedType : entityConfig.getCachedTypes() ) {
+				final EntityPersister persister = metamodel.getEntityDescriptor( cachedType.getFullPath() );
+				int hash = persister.getEntityName().hashCode();
+				for ( int i = 0; i < persister.getNumberOfAttributeMappings(); i++ ) {
+					final AttributeMapping attributeMapping = persister.getAttributeMapping( i );
+					hash = 31 * hash + attributeMapping.getAttributeName().hashCode();
+					hash = 31 * hash + attributeMapping.getJavaType().getTypeName().hashCode();
+				}
+				fingerprint += hash;
+			}
+		}
+		for ( NaturalIdDataCachingConfig naturalIdConfig : regionConfig.getNaturalIdCaching() ) {
+			final EntityPersister persister = metamodel.getEntityDescriptor( naturalIdConfig.getNavigableRole().getFullPath() );
+			int hash = 31 * persister.getEntityName().hashCode() + 1;
+			for ( SingularAttributeMapping attributeMapping : persister.getNaturalIdMapping().getNaturalIdAttributes() ) {
+				hash = 31 * hash + attributeMapping.getAttributeName().hashCode();
+				hash = 31 * hash + attributeMapping.getJavaType().getTypeName().hashCode();
+			}
+			fingerprint += hash;
+		}
+		for ( CollectionDataCachingConfig collectionConfig : regionConfig.getCollectionCaching() ) {
+			final PluralAttributeMapping attributeMapping = metamodel
+					.getCollectionDescriptor( collectionConfig.getNavigableRole().getFullPath() )
+					.getAttributeMapping();
+			int hash = collectionConfig.getNavigableRole().getFullPath().hashCode();
+			hash = 31 * hash + attributeMapping.getElementDescriptor().getJavaType().getTypeName().hashCode();
+			if ( attributeMapping.getIndexDescriptor() != null ) {
+				hash = 31 * hash + attributeMapping.getIndexDescriptor().getJavaType().getTypeName().hashCode();
+			}
+			fingerprint += hash;
+		}
+		return fingerprint;
+	}
+
+	private long getRegionSetting(String settingName, String regionName, long defaultValue) {
+		Object value = configValues.get( settingName + '.' + regionName );
+		if ( value == null ) {
+			value = configValues.get( settingName );
+		}
+		if ( value == null ) {
+			return defaultValue;
+		}
+		else if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+		else {
+			try {
+				return Long.parseLong( value.toString().trim() );
+			}
+			catch (NumberFormatException e) {
+				throw new ConfigurationException(
+						"Could not determine how to handle configuration value [name=" + settingName
+								+ ", region=" + regionName + ", value=" + value + "] as long"
+				);
+			}
+		}
+	}
+
+	private static class LocalDomainDataRegion extends DomainDataRegionTemplate implements ExtendedStatisticsSupport {
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				DomainDataStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return ( (ExtendedStatisticsSupport) getCacheStorageAccess() ).getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return ( (ExtendedStatisticsSupport) getCacheStorageAccess() ).getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return ( (ExtendedStatisticsSupport) getCacheStorageAccess() ).getSizeInMemory();
+		}
+	}
+
+	private static class LocalQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private LocalQueryResultsRegion(String name, RegionFactory regionFactory, StorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return ( (LocalStorageAccess) getStorageAccess() ).getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return ( (LocalStorageAccess) getStorageAccess() ).getSizeInMemory();
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.cache.WindowTinyLfuPolicy;
+
+/**
+ * In-process {@link DomainDataStorageAccess}, holding the entries of a region of the
+ * {@link LocalRegionFactory} in a {@link ConcurrentHashMap} bounded either by a number
+ * of entries or by an estimated size in bytes, with an optional time to live.
+ * <p>
+ * Entries are evicted using the {@linkplain WindowTinyLfuPolicy W-TinyLFU} policy, so
+ * that an entry is only admitted into the main space of the cache if it is accessed more
+ * often than the entry it would replace. Reads never block, writes apply the eviction
+ * policy under its lock. Expired entries are removed when they are read, or when they
+ * are evicted.
+ */
+public class LocalStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	/**
+	 * The estimated size of an entry, in addition to the size of its key and value
+	 */
+	private static final long ENTRY_OVERHEAD = 96;
+	private static final int MAXIMUM_ESTIMATE_DEPTH = 3;
+
+	private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+	private final WindowTinyLfuPolicy<Node> policy;
+	private final boolean weighBySize;
+	private final long timeToLiveNanos;
+
+	private final LongAdder sizeInMemory = new LongAdder();
+
+	/**
+	 * Constructs a LocalStorageAccess.
+	 *
+	 * @param maximumSize The maximum number of entries, or the maximum estimated size in bytes
+	 * of the entries if {@code weighBySize} is true, or a negative value for no limit
+	 * @param weighBySize Whether {@code maximumSize} is a size in bytes
+	 * @param timeToLiveMillis The time after which an entry expires, or zero for no expiration
+	 */
+	public LocalStorageAccess(long maximumSize, boolean weighBySize, long timeToLiveMillis) {
+		this.weighBySize = weighBySize;
+		this.timeToLiveNanos = timeToLiveMillis * 1_000_000;
+		this.policy = new WindowTinyLfuPolicy<>(
+				maximumSize,
+				maximumSize < 0 ? 1024 : weighBySize ? maximumSize / 256 : maximumSize,
+				node -> data.get( node.getKey() ) == node,
+				node -> {
+					data.remove( node.getKey(), node );
+					sizeInMemory.add( -node.size );
+				}
+		);
+	}
+
+	/**
+	 * The current time, in nanoseconds, used to expire entries
+	 */
+	protected long currentTime() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Estimates the size in bytes of a key or value stored in this region
+	 */
+	protected long estimateSize(Object value) {
+		return estimateSize( value, 0 );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Node node = data.get( key );
+		return node != null && !isExpired( node );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Node node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		else if ( isExpired( node ) ) {
+			if ( data.remove( key, node ) ) {
+				recordRemoval( node );
+			}
+			return null;
+		}
+		else {
+			policy.recordRead( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final long size = ENTRY_OVERHEAD + estimateSize( key ) + estimateSize( value );
+		final Node node = new Node(
+				key,
+				value,
+				weighBySize ? size : 1,
+				size,
+				timeToLiveNanos > 0 ? currentTime() + timeToLiveNanos : 0
+		);
+		final Node replaced = data.put( key, node );
+		if ( replaced != null ) {
+			recordRemoval( replaced );
+		}
+		if ( policy.recordWrite( node ) ) {
+			sizeInMemory.add( size );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public void evictData() {
+		policy.clear( () -> {
+			data.clear();
+			sizeInMemory.reset();
+		} );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final Node node = data.remove( key );
+		if ( node != null ) {
+			recordRemoval( node );
+		}
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	/**
+	 * The number of entries held, including expired entries which were not removed yet
+	 */
+	@Override
+	public long getElementCountInMemory() {
+		return data.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The estimated size in bytes of the entries held
+	 */
+	@Override
+	public long getSizeInMemory() {
+		return sizeInMemory.sum();
+	}
+
+	/**
+	 * The number of entries evicted to respect the maximum size of the region
+	 */
+	public long getEvictionCount() {
+		return policy.getEvictionCount();
+	}
+
+	private boolean isExpired(Node node) {
+		return timeToLiveNanos > 0 && currentTime() - node.expirationTime >= 0;
+	}
+
+	private void recordRemoval(Node node) {
+		if ( policy.recordRemoval( node ) ) {
+			sizeInMemory.add( -node.size );
+		}
+	}
+
+	private static long estimateSize(Object value, int depth) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof String ) {
+			return 40 + 2L * ( (String) value ).length();
+		}
+		else if ( value instanceof byte[] ) {
+			return 16 + ( (byte[]) value ).length;
+		}
+		else if ( value instanceof Number || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum || value instanceof Date || value instanceof Temporal ) {
+			return 24;
+		}
+		else if ( depth == MAXIMUM_ESTIMATE_DEPTH ) {
+			return 32;
+		}
+		else if ( value instanceof Object[] ) {
+			final Object[] array = (Object[]) value;
+			long size = 16 + 8L * array.length;
+			for ( Object element : array ) {
+				size += estimateSize( element, depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof Collection ) {
+			long size = 48;
+			for ( Object element : (Collection<?>) value ) {
+				size += 16 + estimateSize( element, depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof Map ) {
+			long size = 48;
+			for ( Map.Entry<?, ?> entry : ( (Map<?, ?>) value ).entrySet() ) {
+				size += 32 + estimateSize( entry.getKey(), depth + 1 ) + estimateSize( entry.getValue(), depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof CacheEntry ) {
+			return 32 + estimateSize( ( (CacheEntry) value ).getDisassembledState(), depth + 1 );
+		}
+		else if ( value instanceof CollectionCacheEntry ) {
+			return 16 + estimateSize( ( (CollectionCacheEntry) value ).getState(), depth + 1 );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item ) {
+			return 40 + estimateSize( ( (AbstractReadWriteAccess.Item) value ).getValue(), depth + 1 );
+		}
+		else {
+			return 32;
+		}
+	}
+
+	private static final class Node extends WindowTinyLfuPolicy.Node {
+		private final Object value;
+		private final long size;
+		private final long expirationTime;
+
+		private Node(Object key, Object value, long weight, long size, long expirationTime) {
+			super( key, weight );
+			this.value = value;
+			this.size = size;
+			this.expirationTime = expirationTime;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Implementation of {@link TimestampsCacheFactory} which returns instances of
+ * {@link NearTimestampsCacheImpl}, keeping a local copy of the timestamps held
+ * by the {@link TimestampsRegion}. This avoids reading the region on every query
+ * cache hit, which matters when the region is held by a remote or clustered cache.
+ * <p>
+ * The region must {@linkplain TimestampsRegion#addUpdateListener notify} the
+ * changes of timestamps, or else the standard {@link TimestampsCacheEnabledImpl}
+ * is used.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_FACTORY
+ */
+@Incubating
+public class NearTimestampsCacheFactory implements TimestampsCacheFactory {
+	private static final Logger log = Logger.getLogger( NearTimestampsCacheFactory.class );
+
+	/**
+	 * Singleton access
+	 */
+	public static final NearTimestampsCacheFactory INSTANCE = new NearTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		final NearTimestampsCacheImpl timestampsCache = new NearTimestampsCacheImpl( timestampsRegion );
+		if ( timestampsRegion.addUpdateListener( timestampsCache ) ) {
+			return timestampsCache;
+		}
+		else {
+			log.warnf(
+					"Timestamps region [%s] does not notify updates, no local copy of the timestamps will be kept",
+					timestampsRegion.getName()
+			);
+			return new TimestampsCacheEnabledImpl( timestampsRegion );
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Implementation of TimestampsCache which keeps a local copy of the last
+ * update timestamp of each query space, so that cached query results can
+ * be validated without reading the {@link TimestampsRegion}.
+ * <p>
+ * The local copy is kept up to date by the notifications of a
+ * {@linkplain TimestampsRegion#addUpdateListener region listener}, and
+ * the region is only read for the spaces which have no local copy yet.
+ *
+ * @see NearTimestampsCacheFactory
+ */
+public class NearTimestampsCacheImpl extends TimestampsCacheEnabledImpl implements TimestampsRegion.UpdateListener {
+	/**
+	 * Local marker of a space which has no timestamp in the region
+	 */
+	private static final Object NO_TIMESTAMP = new Object();
+
+	private final ConcurrentMap<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented before applying each notification, so that a timestamp read
+	 * from the region concurrently with a notification is not kept
+	 */
+	private final AtomicLong notifications = new AtomicLong();
+
+	public NearTimestampsCacheImpl(TimestampsRegion timestampsRegion) {
+		super( timestampsRegion );
+	}
+
+	@Override
+	public void timestampUpdated(Object space, Object timestamp) {
+		notifications.incrementAndGet();
+		if ( timestamp == null ) {
+			timestamps.remove( space );
+		}
+		else {
+			timestamps.put( space, timestamp );
+		}
+	}
+
+	@Override
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+		final Object timestamp = timestamps.get( space );
+		if ( timestamp != null ) {
+			return timestamp == NO_TIMESTAMP ? null : (Long) timestamp;
+		}
+
+		final long notified = notifications.get();
+		final Long lastUpdate = super.getLastUpdateTimestampForSpace( space, session );
+		// a notification received while the region was being read is more recent
+		// than what was read, and must not be overwritten
+		final Object local = lastUpdate == null ? NO_TIMESTAMP : lastUpdate;
+		if ( timestamps.putIfAbsent( space, local ) == null && notifications.get() != notified ) {
+			// the notification might have been applied before the value read was
+			// kept, so keeping it could resurrect a removed or older timestamp
+			timestamps.remove( space, local );
+		}
+		return lastUpdate;
+	}
+
+	@Override
+	public void timestampsCleared() {
+		notifications.incrementAndGet();
+		timestamps.clear();
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		super.clear();
+		timestampsCleared();
+	}
+}
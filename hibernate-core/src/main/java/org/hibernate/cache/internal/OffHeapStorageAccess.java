@@ -0,0 +1,559 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * {@link DomainDataStorageAccess} holding the entries of a region of the
+ * {@link LocalRegionFactory} outside the Java heap, so that a large region does not
+ * increase the size of the heap and the duration of garbage collections. The keys and
+ * values are serialized into slabs of direct {@link ByteBuffer}s, and a value is only
+ * deserialized when it is {@linkplain #getFromCache read}. Only an index from the keys
+ * to the position of their entries is held on the heap.
+ * <p>
+ * The slabs are filled in turn by appending entries, and when all slabs are full, the
+ * slab holding the oldest entries is cleared and reused. Replaced and removed entries
+ * are not reclaimed until their slab is reused.
+ * <p>
+ * The slabs may be mapped to a file, in which case the entries found in the file are
+ * loaded when the storage is created, so that a restarted node starts with the content
+ * of the region at the time it stopped. The file is written through the memory mapping,
+ * and its content is only as recent as what the operating system wrote to disk. The slabs
+ * record a fingerprint of the mapping of the cached entities and collections, and the
+ * entries loaded from a file written for a different mapping are discarded when the
+ * storage is first used by a session, since the mapping is not known before.
+ * <p>
+ * Reads do not block: an entry is read optimistically, and only read again under a lock
+ * if a slab was reused while it was read. Writes are serialized by a lock.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private static final Logger log = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private static final int MAXIMUM_SLAB_SIZE = 64 * 1024 * 1024;
+	private static final int MINIMUM_SLAB_COUNT = 4;
+
+	/**
+	 * Marks a slab which was formatted by this class, and the version of its layout
+	 */
+	private static final int MAGIC = 0x48424f49;
+	// magic, sequence number of the slab, mapping fingerprint
+	private static final int SLAB_HEADER_SIZE = 4 + 8 + 4;
+	// key length, value length (or TOMBSTONE), expiration time
+	private static final int RECORD_HEADER_SIZE = 4 + 4 + 8;
+	private static final int TOMBSTONE = -1;
+
+	private final ConcurrentHashMap<Object, Long> index = new ConcurrentHashMap<>();
+	private final ByteBuffer[] slabs;
+	private final int slabSize;
+	private final boolean persistent;
+	private final long timeToLiveMillis;
+	private final ToIntFunction<SessionFactoryImplementor> mappingFingerprint;
+	private volatile boolean mappingVerified;
+
+	private final StampedLock reuseLock = new StampedLock();
+
+	// guarded by the write lock
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final List<Object>[] slabKeys;
+	private final int[] slabPositions;
+	private int currentSlab;
+	private long nextSequence;
+	private int fingerprint;
+
+	/**
+	 * Constructs an OffHeapStorageAccess holding the entries in direct buffers
+	 *
+	 * @param capacity The size in bytes of the memory allocated for the entries
+	 * @param timeToLiveMillis The time after which an entry expires, or zero for no expiration
+	 */
+	public OffHeapStorageAccess(long capacity, long timeToLiveMillis) {
+		this( capacity, timeToLiveMillis, null );
+	}
+
+	/**
+	 * Constructs an OffHeapStorageAccess holding the entries in a memory-mapped file, or in
+	 * direct buffers if no file is given. The entries held by an existing file are loaded.
+	 *
+	 * @param capacity The size in bytes of the memory allocated for the entries
+	 * @param timeToLiveMillis The time after which an entry expires, or zero for no expiration
+	 * @param file The file holding the entries, or null
+	 */
+	public OffHeapStorageAccess(long capacity, long timeToLiveMillis, Path file) {
+		this( capacity, timeToLiveMillis, file, null );
+	}
+
+	/**
+	 * Constructs an OffHeapStorageAccess holding the entries in a memory-mapped file, or in
+	 * direct buffers if no file is given. The entries held by an existing file are loaded,
+	 * and discarded on first use if the file was written for a different mapping.
+	 *
+	 * @param capacity The size in bytes of the memory allocated for the entries
+	 * @param timeToLiveMillis The time after which an entry expires, or zero for no expiration
+	 * @param file The file holding the entries, or null
+	 * @param mappingFingerprint Computes a hash identifying the mapping of the cached entries,
+	 * or null if the entries need not be verified
+	 */
+	@SuppressWarnings("unchecked")
+	public OffHeapStorageAccess(
+			long capacity,
+			long timeToLiveMillis,
+			Path file,
+			ToIntFunction<SessionFactoryImplementor> mappingFingerprint) {
+		final int slabCount = (int) Math.max( MINIMUM_SLAB_COUNT, ( capacity + MAXIMUM_SLAB_SIZE - 1 ) / MAXIMUM_SLAB_SIZE );
+		this.slabSize = (int) Math.min( capacity / slabCount, MAXIMUM_SLAB_SIZE );
+		if ( slabSize <= SLAB_HEADER_SIZE + RECORD_HEADER_SIZE ) {
+			throw new CacheException( "Off-heap cache capacity is too small: " + capacity );
+		}
+		this.slabs = new ByteBuffer[slabCount];
+		this.slabKeys = new List[slabCount];
+		this.slabPositions = new int[slabCount];
+		this.persistent = file != null;
+		this.timeToLiveMillis = timeToLiveMillis;
+		this.mappingFingerprint = mappingFingerprint;
+		this.mappingVerified = mappingFingerprint == null;
+
+		for ( int i = 0; i < slabCount; i++ ) {
+			slabKeys[i] = new ArrayList<>();
+		}
+		if ( file == null ) {
+			for ( int i = 0; i < slabCount; i++ ) {
+				slabs[i] = ByteBuffer.allocateDirect( slabSize );
+			}
+			reset();
+		}
+		else {
+			mapFile( file, (long) slabSize * slabCount );
+		}
+	}
+
+	/**
+	 * The current time in milliseconds, used to expire entries. Wall clock time is used,
+	 * since a file may be loaded by another process.
+	 */
+	protected long currentTime() {
+		return System.currentTimeMillis();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		// the entries might have been written for a different mapping
+		return mappingVerified && read( key ) != null;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		if ( !verifyMapping( session ) ) {
+			return null;
+		}
+		final byte[] value = read( key );
+		if ( value == null ) {
+			return null;
+		}
+		try {
+			return SerializationHelper.deserialize( value );
+		}
+		catch (SerializationException e) {
+			// for example, an entry loaded from a file written by a previous version of the application
+			log.debugf( e, "Could not deserialize off-heap cache entry: %s", key );
+			evictData( key );
+			return null;
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( !verifyMapping( session ) ) {
+			return;
+		}
+		final byte[] keyBytes = SerializationHelper.serialize( (Serializable) key );
+		final byte[] valueBytes = serializeValue( key, value );
+		final long expirationTime = timeToLiveMillis > 0 ? currentTime() + timeToLiveMillis : 0;
+		writeLock.lock();
+		try {
+			final long address = valueBytes == null ? -1 : append( keyBytes, valueBytes, expirationTime );
+			if ( address < 0 ) {
+				// too large to be cached, or not serializable, and any previous value is now stale
+				remove( key );
+			}
+			else {
+				slabKeys[slab( address )].add( key );
+				index.put( key, address );
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private static byte[] serializeValue(Object key, Object value) {
+		if ( !( value instanceof Serializable ) ) {
+			// for example, a reference cache entry
+			log.debugf( "Off-heap cache entry is not serializable: %s", key );
+			return null;
+		}
+		try {
+			return SerializationHelper.serialize( (Serializable) value );
+		}
+		catch (SerializationException e) {
+			log.debugf( e, "Could not serialize off-heap cache entry: %s", key );
+			return null;
+		}
+	}
+
+	/**
+	 * Discards the entries if they were written for a different mapping, which is only
+	 * known once the storage is used by a session
+	 *
+	 * @return false if the mapping could not be verified, since there is no session
+	 */
+	private boolean verifyMapping(SharedSessionContractImplementor session) {
+		if ( mappingVerified ) {
+			return true;
+		}
+		else if ( session == null ) {
+			return false;
+		}
+		writeLock.lock();
+		try {
+			if ( !mappingVerified ) {
+				final int currentFingerprint = mappingFingerprint.applyAsInt( session.getFactory() );
+				if ( currentFingerprint != fingerprint ) {
+					if ( !index.isEmpty() ) {
+						log.debugf( "Discarding %s off-heap cache entries written for a different mapping", index.size() );
+					}
+					fingerprint = currentFingerprint;
+					final long stamp = reuseLock.writeLock();
+					try {
+						index.clear();
+						reset();
+					}
+					finally {
+						reuseLock.unlockWrite( stamp );
+					}
+				}
+				mappingVerified = true;
+			}
+			return true;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public void evictData() {
+		writeLock.lock();
+		try {
+			final long stamp = reuseLock.writeLock();
+			try {
+				index.clear();
+				reset();
+			}
+			finally {
+				reuseLock.unlockWrite( stamp );
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		writeLock.lock();
+		try {
+			remove( key );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		// a file is kept, so that its entries can be loaded by the next storage using it
+		index.clear();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return index.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return persistent ? index.size() : 0;
+	}
+
+	/**
+	 * The number of bytes used by the entries in the off-heap memory, including the
+	 * replaced and removed entries which were not reclaimed yet
+	 */
+	@Override
+	public long getSizeInMemory() {
+		writeLock.lock();
+		try {
+			long size = 0;
+			for ( int position : slabPositions ) {
+				size += position;
+			}
+			return size;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private byte[] read(Object key) {
+		long stamp = reuseLock.tryOptimisticRead();
+		final byte[] value = readValue( key );
+		if ( reuseLock.validate( stamp ) ) {
+			return value;
+		}
+		// the slab of the entry was reused while it was read
+		stamp = reuseLock.readLock();
+		try {
+			return readValue( key );
+		}
+		finally {
+			reuseLock.unlockRead( stamp );
+		}
+	}
+
+	private byte[] readValue(Object key) {
+		final Long address = index.get( key );
+		if ( address == null ) {
+			return null;
+		}
+		final ByteBuffer buffer = slabs[slab( address )].duplicate();
+		final int position = offset( address );
+		final int keyLength = buffer.getInt( position );
+		final int valueLength = buffer.getInt( position + 4 );
+		final long expirationTime = buffer.getLong( position + 8 );
+		if ( keyLength <= 0 || valueLength <= 0
+				|| position + RECORD_HEADER_SIZE + keyLength + valueLength > slabSize ) {
+			// overwritten while it was read, and read again
+			return null;
+		}
+		if ( expirationTime != 0 && currentTime() >= expirationTime ) {
+			return null;
+		}
+		final byte[] value = new byte[valueLength];
+		buffer.position( position + RECORD_HEADER_SIZE + keyLength );
+		buffer.get( value );
+		return value;
+	}
+
+	private void remove(Object key) {
+		if ( index.remove( key ) != null && persistent ) {
+			// so that the entry is not loaded again from the file
+			append( SerializationHelper.serialize( (Serializable) key ), null, 0 );
+		}
+	}
+
+	/**
+	 * Appends an entry, or a tombstone if the value is null, reusing the next slab if the
+	 * current slab is full
+	 *
+	 * @return The address of the entry, or -1 if it is too large for a slab
+	 */
+	private long append(byte[] key, byte[] value, long expirationTime) {
+		final int length = RECORD_HEADER_SIZE + key.length + ( value == null ? 0 : value.length );
+		if ( SLAB_HEADER_SIZE + length > slabSize ) {
+			return -1;
+		}
+		if ( slabPositions[currentSlab] + length > slabSize ) {
+			currentSlab = ( currentSlab + 1 ) % slabs.length;
+			reuseSlab( currentSlab );
+		}
+
+		final ByteBuffer buffer = slabs[currentSlab].duplicate();
+		final int position = slabPositions[currentSlab];
+		buffer.position( position );
+		buffer.putInt( key.length );
+		buffer.putInt( value == null ? TOMBSTONE : value.length );
+		buffer.putLong( expirationTime );
+		buffer.put( key );
+		if ( value != null ) {
+			buffer.put( value );
+		}
+		if ( buffer.remaining() >= 4 ) {
+			// marks the end of the entries of the slab
+			buffer.putInt( 0 );
+		}
+		slabPositions[currentSlab] = position + length;
+		return ( (long) currentSlab << 32 ) | position;
+	}
+
+	private void reuseSlab(int slab) {
+		final long stamp = reuseLock.writeLock();
+		try {
+			for ( Object key : slabKeys[slab] ) {
+				final Long address = index.get( key );
+				if ( address != null && slab( address ) == slab ) {
+					index.remove( key, address );
+				}
+			}
+			formatSlab( slab );
+		}
+		finally {
+			reuseLock.unlockWrite( stamp );
+		}
+	}
+
+	private void reset() {
+		// the current slab is the most recent
+		for ( int i = 1; i <= slabs.length; i++ ) {
+			formatSlab( i % slabs.length );
+		}
+		currentSlab = 0;
+	}
+
+	private void formatSlab(int slab) {
+		final ByteBuffer buffer = slabs[slab];
+		buffer.putInt( 0, MAGIC );
+		buffer.putLong( 4, nextSequence++ );
+		buffer.putInt( 12, fingerprint );
+		buffer.putInt( SLAB_HEADER_SIZE, 0 );
+		slabKeys[slab].clear();
+		slabPositions[slab] = SLAB_HEADER_SIZE;
+	}
+
+	private void mapFile(Path file, long fileSize) {
+		try {
+			final boolean exists = Files.exists( file ) && Files.size( file ) == fileSize;
+			try ( FileChannel channel = FileChannel.open(
+					file,
+					StandardOpenOption.CREATE,
+					StandardOpenOption.READ,
+					StandardOpenOption.WRITE
+			) ) {
+				if ( !exists ) {
+					channel.truncate( 0 );
+				}
+				for ( int i = 0; i < slabs.length; i++ ) {
+					slabs[i] = channel.map( FileChannel.MapMode.READ_WRITE, (long) i * slabSize, slabSize );
+				}
+			}
+			if ( !exists || !load() ) {
+				index.clear();
+				nextSequence = 0;
+				fingerprint = 0;
+				reset();
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not map off-heap cache file: " + file, e );
+		}
+	}
+
+	/**
+	 * Loads the entries of the slabs mapped to a file, oldest slab first
+	 *
+	 * @return false if the slabs could not be read
+	 */
+	private boolean load() {
+		final Integer[] order = new Integer[slabs.length];
+		for ( int i = 0; i < slabs.length; i++ ) {
+			if ( slabs[i].getInt( 0 ) != MAGIC || slabs[i].getInt( 12 ) != slabs[0].getInt( 12 ) ) {
+				return false;
+			}
+			order[i] = i;
+		}
+		// verified against the current mapping on first use
+		fingerprint = slabs[0].getInt( 12 );
+		Arrays.sort( order, Comparator.comparingLong( slab -> slabs[slab].getLong( 4 ) ) );
+
+		final long now = currentTime();
+		try {
+			for ( int slab : order ) {
+				final ByteBuffer buffer = slabs[slab].duplicate();
+				int position = SLAB_HEADER_SIZE;
+				while ( position + RECORD_HEADER_SIZE <= slabSize ) {
+					final int keyLength = buffer.getInt( position );
+					if ( keyLength == 0 ) {
+						break;
+					}
+					final int valueLength = buffer.getInt( position + 4 );
+					final long expirationTime = buffer.getLong( position + 8 );
+					final int length = RECORD_HEADER_SIZE + keyLength + Math.max( valueLength, 0 );
+					if ( keyLength < 0 || position + length > slabSize ) {
+						return false;
+					}
+					final byte[] key = new byte[keyLength];
+					buffer.position( position + RECORD_HEADER_SIZE );
+					buffer.get( key );
+					final Object deserializedKey = SerializationHelper.deserialize( key );
+					if ( valueLength == TOMBSTONE || expirationTime != 0 && now >= expirationTime ) {
+						index.remove( deserializedKey );
+					}
+					else {
+						index.put( deserializedKey, ( (long) slab << 32 ) | position );
+						slabKeys[slab].add( deserializedKey );
+					}
+					position += length;
+				}
+				slabPositions[slab] = position;
+				currentSlab = slab;
+				nextSequence = slabs[slab].getLong( 4 ) + 1;
+			}
+			log.debugf( "Loaded %s off-heap cache entries", index.size() );
+			return true;
+		}
+		catch (RuntimeException e) {
+			// for example, the classes of the keys changed
+			log.debugf( e, "Could not load off-heap cache entries" );
+			for ( List<Object> keys : slabKeys ) {
+				keys.clear();
+			}
+			return false;
+		}
+	}
+
+	private static int slab(long address) {
+		return (int) ( address >>> 32 );
+	}
+
+	private static int offset(long address) {
+		return (int) address;
+	}
+}
@@ -17,6 +17,7 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.internal.CompactQueryResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -73,7 +74,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// compact results are immutable, and decoded when read
+		return results instanceof CompactQueryResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -173,7 +173,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
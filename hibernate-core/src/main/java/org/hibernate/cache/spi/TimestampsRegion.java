@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.Incubating;
+
 /**
  * Defines the contract for a cache region that stores timestamps.
  * The timestamps are used to manage query results with respect to
@@ -15,4 +17,48 @@ package org.hibernate.cache.spi;
  * @author Steve Ebersole
  */
 public interface TimestampsRegion extends DirectAccessRegion {
+	/**
+	 * Register a listener to be notified whenever the timestamp of a
+	 * query space changes in this region, whichever process made the
+	 * change. Changes made through {@link #putIntoCache} in this process
+	 * must be notified before {@code putIntoCache} returns, and the
+	 * {@link #clear} of this region before {@code clear} returns.
+	 * The listener must be deregistered when this region is
+	 * {@linkplain #destroy destroyed}.
+	 *
+	 * @return {@code true} if the listener was registered, or {@code false}
+	 *         if this region is not able to notify changes
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default boolean addUpdateListener(UpdateListener listener) {
+		return false;
+	}
+
+	/**
+	 * Notified of the changes to the timestamps held by a {@link TimestampsRegion}.
+	 *
+	 * @see #addUpdateListener
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	@FunctionalInterface
+	interface UpdateListener {
+		/**
+		 * The timestamp of the given query space changed.
+		 *
+		 * @param space The query space
+		 * @param timestamp The new timestamp, or {@code null} if the
+		 *        timestamp was removed or expired from the region
+		 */
+		void timestampUpdated(Object space, Object timestamp);
+
+		/**
+		 * All the timestamps were removed from the region.
+		 */
+		default void timestampsCleared() {
+		}
+	}
 }
@@ -6,8 +6,13 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -96,6 +101,102 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to retrieve several objects from the cache, ideally in a
+	 * single operation on the underlying cache. Used when resolving
+	 * batches of entities/collections from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, by key. The keys of items which were not
+	 *         found, or which are not readable, are absent from the map.
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database,
+	 * ideally in a single operation on the underlying cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the order of the keys
+	 * @param versions The item version numbers, in the order of the keys
+	 *
+	 * @return the number of objects which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		int puts = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( putFromLoad( session, keys[i], values[i], versions[i] ) ) {
+				puts++;
+			}
+		}
+		return puts;
+	}
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database,
+	 * explicitly specifying the minimalPut behavior, ideally in a single
+	 * operation on the underlying cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the order of the keys
+	 * @param versions The item version numbers, in the order of the keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 *
+	 * @return the number of objects which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions,
+			boolean minimalPutOverride) {
+		int puts = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( putFromLoad( session, keys[i], values[i], versions[i], minimalPutOverride ) ) {
+				puts++;
+			}
+		}
+		return puts;
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
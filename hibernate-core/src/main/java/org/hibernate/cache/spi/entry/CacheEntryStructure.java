@@ -29,7 +29,8 @@ public interface CacheEntryStructure {
 	 * @param structured The structured form.
 	 * @param factory The session factory.
 	 *
-	 * @return The item
+	 * @return The item, or {@code null} if the structured form can no longer be
+	 * converted, in which case it is treated as a cache miss for entities
 	 */
 	Object destructure(Object structured, SessionFactoryImplementor factory);
 }
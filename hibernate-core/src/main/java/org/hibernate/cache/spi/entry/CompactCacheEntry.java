@@ -0,0 +1,371 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Compact CacheEntry format for entities. Used to store the entry into the second-level cache
+ * as a {@code byte[]} record, so that caches which serialize their values do not need to
+ * serialize the entry using Java serialization, with its class descriptors and boxed values.
+ * <p>
+ * The layout of the record is given by the {@linkplain AttributeMapping attribute mappings}
+ * of the entity: the disassembled state is written in attribute order, without attribute
+ * names, each value preceded by a one byte tag identifying its type. Types without a tag
+ * are written using Java serialization. The record starts with the version of the format
+ * and a fingerprint of the attribute mappings, and a record written with a different
+ * format or for a different mapping of the entity is treated as a cache miss by
+ * {@link #destructure}, which returns {@code null}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+ */
+@Incubating
+public class CompactCacheEntry implements CacheEntryStructure {
+	/**
+	 * The version of the record format, to be incremented whenever the format changes
+	 */
+	public static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte STRING = 3;
+	private static final byte INTEGER = 4;
+	private static final byte LONG = 5;
+	private static final byte SHORT = 6;
+	private static final byte BYTE = 7;
+	private static final byte TRUE = 8;
+	private static final byte FALSE = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte FLOAT = 11;
+	private static final byte CHARACTER = 12;
+	private static final byte BYTES = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte DATE = 17;
+	private static final byte TIMESTAMP = 18;
+	private static final byte INSTANT = 19;
+	private static final byte LOCAL_DATE = 20;
+	private static final byte LOCAL_TIME = 21;
+	private static final byte LOCAL_DATE_TIME = 22;
+	private static final byte ARRAY = 23;
+	private static final byte SERIALIZED = 24;
+
+	private final EntityPersister persister;
+	private volatile Integer fingerprint;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 * state.length + 64 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			writeString( entry.getSubclass(), output );
+			output.writeInt( getFingerprint() );
+			writeValue( entry.getVersion(), output );
+			output.writeInt( state.length );
+			for ( Serializable value : state ) {
+				writeValue( value, output );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not structure cache entry for entity: " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			final String subclass = readString( input );
+			final CompactCacheEntry subclassStructure = getSubclassStructure( subclass, factory );
+			if ( subclassStructure == null || input.readInt() != subclassStructure.getFingerprint() ) {
+				// written for a different mapping of the entity
+				return null;
+			}
+			final Object version = readValue( input );
+			final Serializable[] state = new Serializable[input.readInt()];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( input );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not destructure cache entry for entity: " + persister.getEntityName(), e );
+		}
+	}
+
+	private CompactCacheEntry getSubclassStructure(String subclass, SessionFactoryImplementor factory) {
+		if ( subclass.equals( persister.getEntityName() ) ) {
+			return this;
+		}
+		else {
+			final EntityPersister subclassPersister = factory.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.findEntityDescriptor( subclass );
+			return subclassPersister != null && subclassPersister.getCacheEntryStructure() instanceof CompactCacheEntry
+					? (CompactCacheEntry) subclassPersister.getCacheEntryStructure()
+					: null;
+		}
+	}
+
+	/**
+	 * A hash of the names and types of the attributes of the entity, identifying the
+	 * layout of the records written for it
+	 */
+	private int getFingerprint() {
+		Integer fingerprint = this.fingerprint;
+		if ( fingerprint == null ) {
+			int hash = persister.getEntityName().hashCode();
+			for ( int i = 0; i < persister.getNumberOfAttributeMappings(); i++ ) {
+				final AttributeMapping attributeMapping = persister.getAttributeMapping( i );
+				hash = 31 * hash + attributeMapping.getAttributeName().hashCode();
+				hash = 31 * hash + attributeMapping.getJavaType().getTypeName().hashCode();
+			}
+			this.fingerprint = fingerprint = hash;
+		}
+		return fingerprint;
+	}
+
+	private static void writeValue(Object value, DataOutputStream output) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN );
+		}
+		else {
+			final Class<?> type = value.getClass();
+			if ( type == String.class ) {
+				output.writeByte( STRING );
+				writeString( (String) value, output );
+			}
+			else if ( type == Integer.class ) {
+				output.writeByte( INTEGER );
+				output.writeInt( (Integer) value );
+			}
+			else if ( type == Long.class ) {
+				output.writeByte( LONG );
+				output.writeLong( (Long) value );
+			}
+			else if ( type == Short.class ) {
+				output.writeByte( SHORT );
+				output.writeShort( (Short) value );
+			}
+			else if ( type == Byte.class ) {
+				output.writeByte( BYTE );
+				output.writeByte( (Byte) value );
+			}
+			else if ( type == Boolean.class ) {
+				output.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( type == Double.class ) {
+				output.writeByte( DOUBLE );
+				output.writeDouble( (Double) value );
+			}
+			else if ( type == Float.class ) {
+				output.writeByte( FLOAT );
+				output.writeFloat( (Float) value );
+			}
+			else if ( type == Character.class ) {
+				output.writeByte( CHARACTER );
+				output.writeChar( (Character) value );
+			}
+			else if ( type == byte[].class ) {
+				output.writeByte( BYTES );
+				writeBytes( (byte[]) value, output );
+			}
+			else if ( type == BigDecimal.class ) {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeByte( BIG_DECIMAL );
+				output.writeInt( decimal.scale() );
+				writeBytes( decimal.unscaledValue().toByteArray(), output );
+			}
+			else if ( type == BigInteger.class ) {
+				output.writeByte( BIG_INTEGER );
+				writeBytes( ( (BigInteger) value ).toByteArray(), output );
+			}
+			else if ( type == UUID.class ) {
+				final UUID uuid = (UUID) value;
+				output.writeByte( UUID_VALUE );
+				output.writeLong( uuid.getMostSignificantBits() );
+				output.writeLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( type == Date.class ) {
+				output.writeByte( DATE );
+				output.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( type == Timestamp.class ) {
+				final Timestamp timestamp = (Timestamp) value;
+				output.writeByte( TIMESTAMP );
+				output.writeLong( timestamp.getTime() );
+				output.writeInt( timestamp.getNanos() );
+			}
+			else if ( type == Instant.class ) {
+				final Instant instant = (Instant) value;
+				output.writeByte( INSTANT );
+				output.writeLong( instant.getEpochSecond() );
+				output.writeInt( instant.getNano() );
+			}
+			else if ( type == LocalDate.class ) {
+				output.writeByte( LOCAL_DATE );
+				output.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+			else if ( type == LocalTime.class ) {
+				output.writeByte( LOCAL_TIME );
+				output.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+			else if ( type == LocalDateTime.class ) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeByte( LOCAL_DATE_TIME );
+				output.writeLong( dateTime.toLocalDate().toEpochDay() );
+				output.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( type == Object[].class ) {
+				// the disassembled state of an embeddable
+				final Object[] array = (Object[]) value;
+				output.writeByte( ARRAY );
+				output.writeInt( array.length );
+				for ( Object element : array ) {
+					writeValue( element, output );
+				}
+			}
+			else {
+				output.writeByte( SERIALIZED );
+				writeBytes( SerializationHelper.serialize( (Serializable) value ), output );
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case STRING:
+				return readString( input );
+			case INTEGER:
+				return input.readInt();
+			case LONG:
+				return input.readLong();
+			case SHORT:
+				return input.readShort();
+			case BYTE:
+				return input.readByte();
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case DOUBLE:
+				return input.readDouble();
+			case FLOAT:
+				return input.readFloat();
+			case CHARACTER:
+				return input.readChar();
+			case BYTES:
+				return readBytes( input );
+			case BIG_DECIMAL: {
+				final int scale = input.readInt();
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( input ) );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case DATE:
+				return new Date( input.readLong() );
+			case TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( input.readLong() );
+				timestamp.setNanos( input.readInt() );
+				return timestamp;
+			}
+			case INSTANT:
+				return Instant.ofEpochSecond( input.readLong(), input.readInt() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readLong() );
+			case LOCAL_DATE_TIME:
+				return LocalDateTime.of( LocalDate.ofEpochDay( input.readLong() ), LocalTime.ofNanoOfDay( input.readLong() ) );
+			case ARRAY: {
+				final Object[] array = new Object[input.readInt()];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = readValue( input );
+				}
+				return array;
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new CacheException( "Unknown value tag in compact cache entry: " + tag );
+		}
+	}
+
+	private static void writeString(String string, DataOutputStream output) throws IOException {
+		writeBytes( string.getBytes( StandardCharsets.UTF_8 ), output );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
@@ -6,10 +6,17 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -70,9 +77,54 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 			Object value,
 			Object version,
 			boolean minimalPutOverride) {
+		if ( minimalPutOverride && getStorageAccess().contains( key ) ) {
+			return false;
+		}
 		return putFromLoad( session, key, value, version );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		return putAllFromLoad( session, keys, values, versions, false );
+	}
+
+	/**
+	 * Bulk form of {@link #putFromLoad}: with minimal puts, the items already present
+	 * are determined with one read of the underlying cache, and the others are put with
+	 * one write. As for a single item, the versions are not compared, since the data is
+	 * cached without its version.
+	 */
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions,
+			boolean minimalPutOverride) {
+		final Map<Object, Object> existing = minimalPutOverride
+				? getStorageAccess().getAllFromCache( Arrays.asList( keys ), session )
+				: Collections.emptyMap();
+		final Map<Object, Object> items = new HashMap<>( CollectionHelper.determineProperSizing( keys.length ) );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( !existing.containsKey( keys[i] ) ) {
+				items.put( keys[i], values[i] );
+			}
+		}
+		if ( !items.isEmpty() ) {
+			getStorageAccess().putAllFromLoad( items, session );
+		}
+		return items.size();
+	}
+
 	private static final SoftLock REGION_LOCK = new SoftLock() {
 	};
 
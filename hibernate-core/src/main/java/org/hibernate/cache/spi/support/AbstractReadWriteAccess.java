@@ -7,8 +7,12 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -18,6 +22,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -140,6 +145,79 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #get}: unreadable items are omitted from the returned map.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.size() );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> values = new HashMap<>( CollectionHelper.determineProperSizing( items.size() ) );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( timestamp ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), values.size(), keys.size() );
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Bulk form of {@link #putFromLoad}: the existing items are read, and the writeable
+	 * ones replaced, in one operation each on the underlying cache.
+	 */
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		try {
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Caching data from load [region=`%s` (%s)] : %s items", getRegion().getName(), getAccessType(), keys.length );
+			}
+			writeLock.lock();
+			final Map<Object, Object> existing = getStorageAccess().getAllFromCache( Arrays.asList( keys ), session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> items = new HashMap<>( CollectionHelper.determineProperSizing( keys.length ) );
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) existing.get( keys[i] );
+				if ( item == null || item.isWriteable( timestamp, versions[i], getVersionComparator() ) ) {
+					items.put( keys[i], new Item( values[i], versions[i], timestamp ) );
+				}
+			}
+			if ( !items.isEmpty() ) {
+				getStorageAccess().putAllIntoCache( items, session );
+			}
+			return items.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public final int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions,
+			boolean minimalPutOverride) {
+		return putAllFromLoad( session, keys, values, versions );
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
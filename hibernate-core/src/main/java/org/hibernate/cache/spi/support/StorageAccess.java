@@ -6,6 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -28,6 +33,46 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items with the given keys from the cache.
+	 *
+	 * @return the items found in the cache, by key. Keys of items which
+	 *         were not found are absent from the returned map.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for
+	 *           each key. Providers which support bulk reads should override
+	 *           it to read all the items in a single operation.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put the given items into the cache
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for
+	 *           each item. Providers which support bulk writes should
+	 *           override it to write all the items in a single operation.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : items.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -177,6 +177,77 @@ public interface AvailableSettings
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
 
+	/**
+	 * When enabled, specifies that the persistence context should keep its
+	 * entities, snapshots and collections by key in open-addressing hash maps,
+	 * which need no node object per entry and so retain much less memory than
+	 * {@link java.util.HashMap} for sessions holding very many entities.
+	 * <p>
+	 * The {@link java.util.Map} views exposed by these maps are read-only.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.internal.util.collections.OpenAddressingHashMap
+	 *
+	 * @since 6.4
+	 */
+	String PERSISTENCE_CONTEXT_OPEN_ADDRESSING = "hibernate.persistence_context.open_addressing";
+
+	/**
+	 * When enabled, specifies that the entities loaded by a {@link org.hibernate.StatelessSession}
+	 * are loaded like read-only entities: no snapshot of their state is taken, since a
+	 * stateless session never dirty checks the entities it loads.
+	 * <p>
+	 * This avoids a deep copy of every mutable attribute, for example, of {@code byte[]}
+	 * or {@link java.util.Date} attributes, and so mostly benefits the loading of entities
+	 * with large mutable attributes.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String STATELESS_SESSION_SKIP_SNAPSHOTS = "hibernate.stateless_session.skip_snapshots";
+
+	/**
+	 * When enabled, specifies that a flush should skip, without firing a
+	 * {@link org.hibernate.event.spi.FlushEntityEvent}, every managed entity
+	 * which is known not to have been modified since it was loaded or last
+	 * flushed, so that the cost of a flush depends mostly on the number of
+	 * modified entities rather than on the size of the persistence context.
+	 * <p>
+	 * An entity is known to be unmodified when it is {@linkplain
+	 * org.hibernate.engine.spi.SelfDirtinessTracker bytecode enhanced} with
+	 * dirty tracking and reports no dirty attribute, or when the
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy} reports it as not
+	 * dirty, and when it has no collection.  Entities are never skipped when a
+	 * custom {@link org.hibernate.event.spi.FlushEntityEventListener} is
+	 * registered.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
+	/**
+	 * Specifies the minimum number of entities to be dirty checked by a flush for
+	 * the comparison of their current state against their loaded state to be
+	 * performed in parallel, using the {@linkplain java.util.concurrent.ForkJoinPool#commonPool()
+	 * common fork-join pool}, before the entities are flushed one by one.  The
+	 * updates are still scheduled on the flushing thread, in the usual order.
+	 * <p>
+	 * Only entities which are not bytecode enhanced, and which have no collection
+	 * and no association, are checked in parallel.  The result of the comparison
+	 * is discarded if any property value of the entity was replaced in the meantime,
+	 * but flush callbacks are expected not to modify the state of other entities
+	 * in place.
+	 *
+	 * @settingDefault {@code 0}, that is, dirty checks are never performed in parallel
+	 *
+	 * @since 6.4
+	 */
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
 	/**
 	 * When enabled, specifies that the generated identifier of an entity is unset
 	 * when the entity is {@linkplain org.hibernate.Session#remove(Object) deleted}.
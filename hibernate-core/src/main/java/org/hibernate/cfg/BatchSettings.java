@@ -65,6 +65,40 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that each batch of inserts into a table should be
+	 * executed as a single {@code insert} statement with one row in its
+	 * {@code values} list per batched insert, instead of as a JDBC batch, if the
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsMultiRowInsert Dialect
+	 * supports it}.
+	 * <p/>
+	 * The number of rows of each statement is limited by {@link #STATEMENT_BATCH_SIZE}
+	 * and by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+	 * parameter limit} of the database.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String MULTI_ROW_INSERT = "hibernate.jdbc.batch_multi_row_insert";
+
+	/**
+	 * When enabled, specifies that each full batch should be executed asynchronously,
+	 * so that the values of the next batch are bound while the database executes it.
+	 * All executions complete before the batch is executed explicitly, for example at
+	 * the end of a flush, or released.
+	 * <p/>
+	 * Since the JDBC connection is used by two threads at once, this requires a JDBC
+	 * driver which supports concurrent use of a connection.
+	 *
+	 * @see org.hibernate.engine.jdbc.batch.internal.PipelinedBatchBuilder
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
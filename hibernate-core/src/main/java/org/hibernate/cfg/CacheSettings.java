@@ -87,6 +87,9 @@ public interface CacheSettings {
 	 * </ul>
 	 * <p>
 	 * Defaults to {@link NoCachingRegionFactory}, so that caching is disabled.
+	 * <p>
+	 * For a cache held in the memory of the JVM, with no additional dependency,
+	 * specify {@link org.hibernate.cache.internal.LocalRegionFactory}.
 	 *
 	 * @see #USE_SECOND_LEVEL_CACHE
 	 */
@@ -94,6 +97,10 @@ public interface CacheSettings {
 
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
+	 * <p>
+	 * When the timestamps region is held by a remote or clustered cache, consider
+	 * {@link org.hibernate.cache.internal.NearTimestampsCacheFactory}, which keeps
+	 * a local copy of the timestamps, refreshed by notifications from the region.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyTimestampsCacheFactory(TimestampsCacheFactory)
 	 */
@@ -174,6 +181,40 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Enables the storage of query results in the query cache in a compact binary
+	 * form, where the values of basic types are encoded without boxing, and are only
+	 * decoded when the cached results are read.
+	 * <p>
+	 * By default, query results are stored as a list of arrays of values. The compact
+	 * form reduces the heap used by the query cache region, and the size of the entries
+	 * transferred to a distributed cache.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String USE_COMPACT_QUERY_CACHE_ENTRIES = "hibernate.cache.use_compact_query_entries";
+
+	/**
+	 * Enables the storage of entities in the second-level cache as compact binary
+	 * records, laid out according to the attribute mappings of the entity. Each
+	 * record carries a fingerprint of the mapping, and a record written for a
+	 * different mapping of the entity is treated as a cache miss.
+	 * <p>
+	 * The records are byte arrays, and so a cache which serializes its entries does
+	 * not need to serialize the disassembled state of the entities using Java
+	 * serialization. This setting is ignored when {@value #USE_STRUCTURED_CACHE}
+	 * is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.4
+	 */
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -206,6 +247,81 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * The maximum number of entries held by each region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory}. The limit of a
+	 * specific region is given by appending the name of the region to the name
+	 * of this setting, for example {@code hibernate.cache.local.max_entries.com.acme.Book}.
+	 * <p>
+	 * Ignored for a region with a {@linkplain #LOCAL_CACHE_MAX_SIZE maximum size}.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 6.4
+	 */
+	String LOCAL_CACHE_MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The maximum estimated size in bytes of the entries held by each region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory}, instead of a
+	 * {@linkplain #LOCAL_CACHE_MAX_ENTRIES maximum number of entries}. The limit of
+	 * a specific region is given by appending the name of the region to the name of
+	 * this setting.
+	 *
+	 * @settingDefault no limit on the size
+	 *
+	 * @since 6.4
+	 */
+	String LOCAL_CACHE_MAX_SIZE = "hibernate.cache.local.max_size";
+
+	/**
+	 * The time in seconds after which an entry of a region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory} expires, or {@code 0}
+	 * for entries which do not expire. The time to live of a specific region is given
+	 * by appending the name of the region to the name of this setting.
+	 * <p>
+	 * The entries of the timestamps region never expire.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.4
+	 */
+	String LOCAL_CACHE_TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+	/**
+	 * The size in bytes of the memory allocated outside the Java heap to hold the
+	 * entries of an entity, collection or natural id region of the
+	 * {@link org.hibernate.cache.internal.LocalRegionFactory}. When set, the region
+	 * is held by an {@link org.hibernate.cache.internal.OffHeapStorageAccess}, and the
+	 * {@value #LOCAL_CACHE_MAX_ENTRIES} and {@value #LOCAL_CACHE_MAX_SIZE} settings do not
+	 * apply to it. The size for a specific region is given by appending the name of the
+	 * region to the name of this setting.
+	 *
+	 * @settingDefault the region is held on the heap
+	 *
+	 * @since 6.4
+	 */
+	String LOCAL_CACHE_OFF_HEAP_SIZE = "hibernate.cache.local.off_heap_size";
+
+	/**
+	 * A directory holding the files to which the regions held outside the Java heap
+	 * are mapped, as specified by {@value #LOCAL_CACHE_OFF_HEAP_SIZE}. Each region is
+	 * mapped to a file named after the region, and the entries found in the file are
+	 * loaded when the region is created, so that a restarted node does not start with
+	 * empty regions. The directory for a specific region is given by appending the name
+	 * of the region to the name of this setting.
+	 * <p>
+	 * The entries loaded from a file are not invalidated by the changes made to the
+	 * database while the node was stopped, so a file should only be used by a node
+	 * whose data is not changed by another application, or with regions whose entries
+	 * {@linkplain #LOCAL_CACHE_TIME_TO_LIVE expire}.
+	 *
+	 * @settingDefault the regions are not mapped to files
+	 *
+	 * @since 6.4
+	 */
+	String LOCAL_CACHE_OFF_HEAP_DIRECTORY = "hibernate.cache.local.off_heap_directory";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -33,6 +33,40 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the entities referenced by the lazy to-one associations of the
+	 * results of a query are initialized by batch fetching as soon as the results
+	 * are read, instead of when the first of their proxies is accessed.  The number
+	 * of entities initialized by each batch follows the batch size of the entity,
+	 * and the entities initialized this way are not themselves prefetched.
+	 * <p>
+	 * Only affects entities which are {@linkplain BatchSize batch fetched}, for
+	 * example due to {@link #DEFAULT_BATCH_FETCH_SIZE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String BATCH_FETCH_PREFETCH = "hibernate.batch_fetch_prefetch";
+
+	/**
+	 * When enabled, batch fetching of entities with a single-column identifier
+	 * chooses, for each batch, between a SQL {@code IN} predicate and a single
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays array}
+	 * parameter, depending on the number of entities to initialize: the {@code IN}
+	 * predicate is used when the batch fits into a single statement, and the array
+	 * parameter otherwise.
+	 * <p>
+	 * Has no effect unless the database supports array parameters.
+	 *
+	 * @settingDefault {@code false}, that is, an array parameter is used if the
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters Dialect}
+	 * prefers it, and an {@code IN} predicate otherwise
+	 *
+	 * @since 6.4
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.batch_fetch_adaptive";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -152,6 +152,26 @@ public interface MappingSettings {
 	 */
 	String SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY = "hibernate.id.sequence.increment_size_mismatch_strategy";
 
+	/**
+	 * When enabled, a {@link org.hibernate.id.enhanced.SequenceStyleGenerator} backed
+	 * by a database sequence obtains the next pool of values ahead of time, from a
+	 * background thread, on a separate JDBC connection, once half of the current pool
+	 * has been used, so that the application threads don't have to wait for the round
+	 * trip to the database.
+	 * <p>
+	 * Prefetching requires the {@linkplain StandardOptimizerDescriptor#POOLED_CONCURRENT
+	 * pooled-concurrent} optimizer, which is used in place of the
+	 * {@linkplain StandardOptimizerDescriptor#POOLED pooled} optimizer when this setting
+	 * is enabled. Values generated for a tenant, in a multi-tenant setup, and sequences
+	 * with an increment size of {@code 1}, are never prefetched.  The background thread
+	 * is released when the session factory is closed.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	String SEQUENCE_PREFETCH = "hibernate.id.sequence.prefetch";
+
 	/**
 	 * Specifies the preferred JDBC type for storing boolean values.
 	 * <p>
@@ -191,6 +191,34 @@ public interface QuerySettings {
 	 */
 	String CALLABLE_NAMED_PARAMS_ENABLED = "hibernate.query.proc.callable_named_params_enabled";
 
+	/**
+	 * When set to a positive number, specifies that the rows of a
+	 * {@linkplain org.hibernate.ScrollMode#FORWARD_ONLY forward-only}
+	 * {@linkplain org.hibernate.query.SelectionQuery#scroll(org.hibernate.ScrollMode) scroll}
+	 * or {@linkplain org.hibernate.query.SelectionQuery#stream() stream} should be read
+	 * from the JDBC {@link java.sql.ResultSet} by a background thread, ahead of their
+	 * processing, into a buffer holding up to the given number of rows.  This overlaps
+	 * the latency of fetching rows from the database with the processing of the
+	 * previous rows.
+	 * <p>
+	 * The JDBC driver must allow the connection to be used by another thread, to run
+	 * the statements issued while the rows are processed, while the {@code ResultSet}
+	 * is advanced.
+	 * <p>
+	 * When enabled, {@link org.hibernate.query.SelectionQuery#scroll()} is forward-only,
+	 * and scrolling with any other {@link org.hibernate.ScrollMode} is rejected with an
+	 * {@link org.hibernate.query.IllegalQueryOperationException}.  The rows of results
+	 * with {@linkplain java.sql.Blob LOB} columns are not read ahead, but on demand,
+	 * since a LOB may only be read while the {@code ResultSet} is on its row.
+	 *
+	 * @settingDefault {@code 0}, rows are read on demand
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#getScrollReadAheadSize()
+	 *
+	 * @since 6.4
+	 */
+	String SCROLL_READ_AHEAD_SIZE = "hibernate.query.scroll_read_ahead_size";
+
 	/**
 	 * When enabled, specifies that {@linkplain QueryPlan query plans} should be
 	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache cached}.
@@ -213,6 +241,27 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the implementation of the bounded caches backing the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}.  Accepts either:
+	 * <ul>
+	 *     <li>{@code lirs}, a segmented map with LIRS eviction,
+	 *     <li>{@code tinylfu}, a map with lock-free reads and W-TinyLFU eviction,
+	 *         better suited to heavily concurrent query execution, or
+	 *     <li>an instance, class, or class name of an
+	 *         {@link org.hibernate.internal.util.cache.InternalCacheFactory}.
+	 * </ul>
+	 * <p>
+	 * The default is {@code lirs}.
+	 *
+	 * @see org.hibernate.internal.util.cache.LegacyInternalCacheFactory
+	 * @see org.hibernate.internal.util.cache.TinyLfuInternalCacheFactory
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -4380,6 +4380,23 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect support executing a batch of inserts into a table
+	 * as a single {@code insert} statement with a {@code values} list of
+	 * form {@code VALUES (?, ?), (?, ?), (?, ?)}, reporting the total number
+	 * of inserted rows as its update count?
+	 *
+	 * @return {@code true} if batched inserts may be executed as multi-row
+	 *         {@code insert} statements
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+	 *
+	 * @since 6.4
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
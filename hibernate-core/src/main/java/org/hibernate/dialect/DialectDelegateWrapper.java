@@ -1342,6 +1342,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return wrapped.supportsMultiRowInsert();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
@@ -772,6 +772,11 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsFetchClause(FetchClauseType type) {
 		return true;
@@ -584,6 +584,11 @@ public class HSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 2 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean requiresFloatCastingOfIntegerDivision() {
 		return true;
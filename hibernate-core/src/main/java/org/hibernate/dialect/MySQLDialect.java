@@ -1465,6 +1465,11 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8, 0, 14 );
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return getMySQLVersion().isSameOrAfter( 8 );
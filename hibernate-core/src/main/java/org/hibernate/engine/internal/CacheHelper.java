@@ -7,6 +7,9 @@
 package org.hibernate.engine.internal;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -41,6 +44,31 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Bulk form of {@link #fromSharedCache(SharedSessionContractImplementor, Object, CachedDomainDataAccess)},
+	 * reading all the given keys with a single call to {@link CachedDomainDataAccess#getAll}.
+	 *
+	 * @return the cached values, by key
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		if ( cacheKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( cachedValues != null && !cachedValues.isEmpty() );
+		}
+		return cachedValues;
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
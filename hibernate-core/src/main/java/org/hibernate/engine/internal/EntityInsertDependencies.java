@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The entity types whose inserts may have to be executed before the inserts of
+ * each entity type, derived from the mapping model, for the ordering of inserts
+ * enabled by {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS}.
+ * <p>
+ * An entity type depends on the types it references through a foreign key, on
+ * the owners of the one-to-many associations it is an element of, and, in both
+ * cases, transitively, on their own dependencies.  A reference to an entity type
+ * is also a reference to each of its subtypes.  An entity type which depends on
+ * itself, directly or through other types, is {@linkplain #isCyclic cyclic}: the
+ * order of its inserts can only be determined by examining the entity instances.
+ * <p>
+ * The dependencies are determined once, the first time they are needed, since
+ * they do not change during the lifetime of the {@code SessionFactory}.
+ */
+public final class EntityInsertDependencies {
+	private final SessionFactoryImplementor sessionFactory;
+	private volatile Map<String, Set<String>> dependencies;
+
+	public EntityInsertDependencies(SessionFactoryImplementor sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * The names of the entity types whose inserts may have to be executed before
+	 * the inserts of the given entity type.
+	 */
+	public Set<String> getDependencies(String entityName) {
+		final Set<String> entityDependencies = dependencies().get( entityName );
+		return entityDependencies == null ? Set.of() : entityDependencies;
+	}
+
+	/**
+	 * Does the given entity type depend on itself?
+	 */
+	public boolean isCyclic(String entityName) {
+		return getDependencies( entityName ).contains( entityName );
+	}
+
+	private Map<String, Set<String>> dependencies() {
+		Map<String, Set<String>> result = dependencies;
+		if ( result == null ) {
+			result = buildDependencies( sessionFactory.getMappingMetamodel() );
+			dependencies = result;
+		}
+		return result;
+	}
+
+	private static Map<String, Set<String>> buildDependencies(MappingMetamodelImplementor mappingMetamodel) {
+		final Map<String, Set<String>> directDependencies = new HashMap<>();
+		mappingMetamodel.forEachEntityDescriptor(
+				persister -> {
+					final String entityName = persister.getEntityName();
+					directDependencies.computeIfAbsent( entityName, name -> new HashSet<>() );
+					for ( Type type : persister.getPropertyTypes() ) {
+						addDirectDependencies( entityName, type, mappingMetamodel, directDependencies );
+					}
+				}
+		);
+
+		final Map<String, Set<String>> transitiveDependencies = new HashMap<>( directDependencies.size() );
+		for ( String entityName : directDependencies.keySet() ) {
+			final Set<String> reachable = new HashSet<>();
+			collectDependencies( entityName, directDependencies, reachable );
+			transitiveDependencies.put( entityName, Set.copyOf( reachable ) );
+		}
+		return transitiveDependencies;
+	}
+
+	private static void addDirectDependencies(
+			String entityName,
+			Type type,
+			MappingMetamodelImplementor mappingMetamodel,
+			Map<String, Set<String>> directDependencies) {
+		if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			final String associatedEntityName = entityType.getAssociatedEntityName();
+			if ( entityType.isOneToOne() && entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+				if ( !entityType.isReferenceToPrimaryKey() ) {
+					// the associated entity holds the foreign key
+					addDependency( associatedEntityName, entityName, mappingMetamodel, directDependencies );
+				}
+			}
+			else {
+				addDependency( entityName, associatedEntityName, mappingMetamodel, directDependencies );
+			}
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionPersister collectionDescriptor =
+					mappingMetamodel.getCollectionDescriptor( ( (CollectionType) type ).getRole() );
+			final PluralAttributeMapping attributeMapping = collectionDescriptor.getAttributeMapping();
+			// the elements of a one-to-many association hold the foreign key to the owner
+			if ( collectionDescriptor.isOneToMany()
+					&& attributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+				final String elementEntityName = ( (EntityCollectionPart) attributeMapping.getElementDescriptor() )
+						.getAssociatedEntityMappingType()
+						.getEntityName();
+				addDependency( elementEntityName, entityName, mappingMetamodel, directDependencies );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				addDirectDependencies( entityName, subtype, mappingMetamodel, directDependencies );
+			}
+		}
+	}
+
+	private static void addDependency(
+			String dependentEntityName,
+			String entityName,
+			MappingMetamodelImplementor mappingMetamodel,
+			Map<String, Set<String>> directDependencies) {
+		final EntityPersister dependency = mappingMetamodel.getEntityDescriptor( entityName );
+		final Set<String> dependentEntityNames = new HashSet<>();
+		dependentEntityNames.add( dependentEntityName );
+		final EntityPersister dependent = mappingMetamodel.findEntityDescriptor( dependentEntityName );
+		if ( dependent != null ) {
+			dependentEntityNames.addAll( dependent.getEntityMetamodel().getSubclassEntityNames() );
+		}
+		for ( String dependentName : dependentEntityNames ) {
+			final Set<String> names = directDependencies.computeIfAbsent( dependentName, name -> new HashSet<>() );
+			names.add( dependency.getEntityName() );
+			names.addAll( dependency.getEntityMetamodel().getSubclassEntityNames() );
+		}
+	}
+
+	private static void collectDependencies(
+			String entityName,
+			Map<String, Set<String>> directDependencies,
+			Set<String> reachable) {
+		final Set<String> direct = directDependencies.get( entityName );
+		if ( direct != null ) {
+			for ( String dependency : direct ) {
+				if ( reachable.add( dependency ) ) {
+					collectDependencies( dependency, directDependencies, reachable );
+				}
+			}
+		}
+	}
+}
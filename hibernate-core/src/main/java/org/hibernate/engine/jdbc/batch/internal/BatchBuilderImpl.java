@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -30,6 +31,7 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInsertEnabled;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +40,30 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertEnabled Whether batches of inserts should be executed
+	 * as {@linkplain MultiRowInsertBatch multi-row inserts}, when possible
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInsertEnabled) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts: %s)",
+					globalBatchSize,
+					Boolean.valueOf( multiRowInsertEnabled )
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInsertEnabled = multiRowInsertEnabled;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +81,32 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		// the values of a multi-row insert are bound on execution, which requires the session
+		if ( multiRowInsertEnabled && jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor ) {
+			final SharedSessionContractImplementor session =
+					(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+			if ( session.getJdbcServices().getDialect().supportsMultiRowInsert()
+					&& MultiRowInsertBatch.isApplicable( statementGroup ) ) {
+				return new MultiRowInsertBatch( key, statementGroup, batchSize, session );
+			}
+		}
+		return buildStandardBatch( key, statementGroup, statementGroupSupplier, batchSize, jdbcCoordinator );
+	}
+
+	/**
+	 * Build a batch which is executed as a JDBC batch
+	 *
+	 * @param statementGroup The statements of the batch
+	 * @param statementGroupSupplier Supplies further groups of the same statements
+	 */
+	protected Batch buildStandardBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
 	}
 
 
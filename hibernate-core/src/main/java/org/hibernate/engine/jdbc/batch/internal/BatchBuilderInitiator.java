@@ -43,9 +43,12 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
-			);
+			final int batchSize = ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 );
+			final boolean multiRowInsertEnabled =
+					ConfigurationHelper.getBoolean( BatchSettings.MULTI_ROW_INSERT, configurationValues );
+			return ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues )
+					? new PipelinedBatchBuilder( batchSize, multiRowInsertEnabled )
+					: new BatchBuilderImpl( batchSize, multiRowInsertEnabled );
 		}
 
 		if ( builder instanceof BatchBuilder ) {
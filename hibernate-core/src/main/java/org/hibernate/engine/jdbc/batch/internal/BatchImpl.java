@@ -275,7 +275,7 @@ public class BatchImpl implements Batch {
 						finally {
 							observer.jdbcExecuteBatchEnd();
 						}
-						checkRowCounts( rowCounts, statementDetails );
+						checkRowCounts( rowCounts, statementDetails, batchPosition );
 					}
 					else {
 						statement.executeBatch();
@@ -298,7 +298,8 @@ public class BatchImpl implements Batch {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	static void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int batchPosition)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
 			if ( numberOfRowCounts != batchPosition ) {
@@ -0,0 +1,416 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.PreparableMutationOperation;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * A batch of inserts which is executed as a single {@code insert} statement per
+ * table, with one row in its {@code values} list per batched insert, instead of
+ * as a JDBC batch of single-row inserts.
+ * <p>
+ * The values of each insert are collected when it is {@linkplain #addToBatch added
+ * to the batch}, and bound when the batch is executed, since the number of rows of
+ * the statement is only known then.  The SQL of the statement is
+ * {@linkplain JdbcInsertMutation#getMultiRowSqlString rendered} by the insert
+ * mutation of the table, which keeps it for each number of rows.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT
+ * @see org.hibernate.dialect.Dialect#supportsMultiRowInsert()
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+
+	private final SharedSessionContractImplementor session;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final Map<String, TableInserts> tableInserts = new LinkedHashMap<>();
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			SharedSessionContractImplementor session) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( session == null ) {
+			throw new IllegalArgumentException( "Session cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.session = session;
+		this.jdbcCoordinator = session.getJdbcCoordinator();
+		this.sqlStatementLogger = session.getJdbcServices().getSqlStatementLogger();
+		this.sqlExceptionHelper = session.getJdbcServices().getSqlExceptionHelper();
+
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		statementGroup.forEachStatement(
+				(tableName, statementDetails) -> tableInserts.put(
+						tableName,
+						new TableInserts( statementDetails, batchSizeToUse, parameterCountLimit )
+				)
+		);
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created multi-row insert Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Can the inserts of the given statements be executed as multi-row inserts?
+	 * That is the case when each statement is a {@linkplain JdbcInsertMutation#isMultiRowInsertCapable()
+	 * plain} {@code insert ... values (...)} whose outcome is verified, if at all, by its
+	 * row count.  Other statements are executed by a standard batch.
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup) {
+		return statementGroup.getNumberOfStatements() > 0
+			&& !statementGroup.hasMatching( statementDetails -> !isApplicable( statementDetails ) );
+	}
+
+	private static boolean isApplicable(PreparedStatementDetails statementDetails) {
+		final Expectation expectation = statementDetails.getExpectation();
+		if ( expectation != Expectations.BASIC && expectation != Expectations.NONE ) {
+			return false;
+		}
+		final JdbcInsertMutation insert = insertMutation( statementDetails );
+		return insert != null
+			&& insert.isMultiRowInsertCapable()
+			&& insert.getSqlString().equals( statementDetails.getSqlString() );
+	}
+
+	private static JdbcInsertMutation insertMutation(PreparedStatementDetails statementDetails) {
+		final PreparableMutationOperation operation = statementDetails.getMutationOperation();
+		return operation instanceof JdbcInsertMutation ? (JdbcInsertMutation) operation : null;
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final boolean loggerTraceEnabled = BATCH_LOGGER.isTraceEnabled();
+		if ( loggerTraceEnabled ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				if ( inclusionChecker != null && !inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+					if ( loggerTraceEnabled ) {
+						MODEL_MUTATION_LOGGER.tracef(
+								"Skipping addBatch for table : %s (batch-position=%s)",
+								statementDetails.getMutatingTableDetails().getTableName(),
+								batchPosition+1
+						);
+					}
+					return;
+				}
+
+				try {
+					final BindingGroup bindingGroup =
+							jdbcValueBindings.getBindingGroup( statementDetails.getMutatingTableDetails().getTableName() );
+					// the bindings are immutable, and are not affected by the group being cleared for the next row
+					tableInserts.get( tableName ).rows.add(
+							bindingGroup == null ? NO_BINDINGS : bindingGroup.getBindings().toArray( NO_BINDINGS )
+					);
+				}
+				finally {
+					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchPosition = 0;
+			batchExecuted = true;
+		}
+	}
+
+	protected void releaseStatements() {
+		for ( TableInserts inserts : tableInserts.values() ) {
+			inserts.rows.clear();
+			inserts.releaseStatement();
+		}
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		if ( getStatementGroup().getNumberOfStatements() == 0 ) {
+			return;
+		}
+
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted ) {
+					if ( BATCH_LOGGER.isDebugEnabled() ) {
+						BATCH_LOGGER.debugf(
+								"No batched statements to execute - %s",
+								getKey().toLoggableString()
+						);
+					}
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			for ( TableInserts inserts : tableInserts.values() ) {
+				final int rowCount = inserts.rows.size();
+				for ( int offset = 0; offset < rowCount; offset += inserts.maxRowsPerStatement ) {
+					executeRows( inserts, offset, Math.min( inserts.maxRowsPerStatement, rowCount - offset ) );
+				}
+				inserts.rows.clear();
+			}
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	private void executeRows(TableInserts inserts, int offset, int rowCount) {
+		final String sql = inserts.insert.getMultiRowSqlString( rowCount );
+		try {
+			final PreparedStatement statement = inserts.resolveStatement( rowCount, sql );
+			sqlStatementLogger.logStatement( sql );
+			for ( int row = 0; row < rowCount; row++ ) {
+				final int positionOffset = row * inserts.parameterCount;
+				for ( Binding binding : inserts.rows.get( offset + row ) ) {
+					binding.getValueBinder().bind(
+							statement,
+							binding.getValue(),
+							positionOffset + binding.getPosition(),
+							session
+					);
+				}
+			}
+
+			final int affectedRowCount;
+			try {
+				jdbcObserver().jdbcExecuteStatementStart();
+				affectedRowCount = statement.executeUpdate();
+			}
+			finally {
+				jdbcObserver().jdbcExecuteStatementEnd();
+			}
+			if ( inserts.statementDetails.getMutatingTableDetails().isIdentifierTable()
+					&& inserts.statementDetails.getExpectation() != Expectations.NONE ) {
+				checkRowCount( affectedRowCount, rowCount, sql );
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+	}
+
+	@SuppressWarnings("removal")
+	private JdbcObserver jdbcObserver() {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	private static void checkRowCount(int affectedRowCount, int expectedRowCount, String sql) {
+		if ( affectedRowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Multi-row insert returned unexpected row count; actual row count: " + affectedRowCount
+							+ "; expected: " + expectedRowCount + "; statement executed: " + sql
+			);
+		}
+		if ( affectedRowCount > expectedRowCount ) {
+			throw new TooManyRowsAffectedException(
+					"Multi-row insert returned unexpected row count; actual row count: " + affectedRowCount
+							+ "; expected: " + expectedRowCount,
+					expectedRowCount,
+					affectedRowCount
+			);
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			for ( TableInserts inserts : tableInserts.values() ) {
+				if ( !inserts.rows.isEmpty() ) {
+					BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+					break;
+				}
+			}
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The batched inserts into a table
+	 */
+	private class TableInserts {
+		private final PreparedStatementDetails statementDetails;
+		private final JdbcInsertMutation insert;
+		private final int parameterCount;
+		private final int maxRowsPerStatement;
+		private final List<Binding[]> rows = new ArrayList<>();
+
+		private PreparedStatement statement;
+		private int statementRowCount;
+
+		private TableInserts(PreparedStatementDetails statementDetails, int batchSize, int parameterCountLimit) {
+			this.statementDetails = statementDetails;
+			this.insert = insertMutation( statementDetails );
+			assert insert != null && insert.isMultiRowInsertCapable();
+			this.parameterCount = insert.getParameterBinders().size();
+			this.maxRowsPerStatement = parameterCountLimit > 0 && parameterCount > 0
+					? Math.max( 1, Math.min( batchSize, parameterCountLimit / parameterCount ) )
+					: batchSize;
+		}
+
+		private PreparedStatement resolveStatement(int rowCount, String sql) {
+			if ( statement != null && statementRowCount != rowCount ) {
+				releaseStatement();
+			}
+			if ( statement == null ) {
+				statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+				statementRowCount = rowCount;
+			}
+			return statement;
+		}
+
+		private void releaseStatement() {
+			if ( statement != null ) {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				statement = null;
+			}
+		}
+	}
+}
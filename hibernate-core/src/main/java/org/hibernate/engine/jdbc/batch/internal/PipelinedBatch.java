@@ -0,0 +1,414 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+
+/**
+ * A batch which is executed asynchronously each time it is full, so that the values
+ * of the next batch may be bound while the database executes the previous one.
+ * <p>
+ * The batch alternates between two groups of the same statements: while the JDBC
+ * batches of one group are executed, the values are bound to the statements of the
+ * other.  At most one execution is in progress at a time, and an execution does not
+ * start before the previous one completed, so that the statements are executed in
+ * the same order as by a {@link BatchImpl}.  The pending execution is awaited when
+ * the batch is {@linkplain #execute() executed}, when the next execution is started,
+ * and before a query is prepared, and its failure is reported then.
+ * <p>
+ * Since the connection is used by two threads at once, this requires a JDBC driver
+ * supporting concurrent use of a connection.
+ *
+ * @see PipelinedBatchBuilder
+ */
+public class PipelinedBatch implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final PreparedStatementGroup[] statementGroups = new PreparedStatementGroup[2];
+	private final Executor executor;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private int current;
+	private int batchPosition;
+	private boolean batchExecuted;
+	private CompletableFuture<Void> pendingExecution;
+
+	public PipelinedBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroups[0] = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.executor = executor;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Created pipelined Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	/**
+	 * The group of statements the values are currently bound to
+	 */
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroups[current];
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final boolean loggerTraceEnabled = BATCH_LOGGER.isTraceEnabled();
+		if ( loggerTraceEnabled ) {
+			BATCH_LOGGER.tracef(
+					"Adding to pipelined JDBC batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				if ( inclusionChecker != null && !inclusionChecker.include( statementDetails.getMutatingTableDetails() ) ) {
+					if ( loggerTraceEnabled ) {
+						MODEL_MUTATION_LOGGER.tracef(
+								"Skipping addBatch for table : %s (batch-position=%s)",
+								statementDetails.getMutatingTableDetails().getTableName(),
+								batchPosition+1
+						);
+					}
+					return;
+				}
+
+				//noinspection resource
+				final PreparedStatement statement = statementDetails.resolveStatement();
+				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				jdbcValueBindings.beforeStatement( statementDetails );
+
+				try {
+					statement.addBatch();
+				}
+				catch (SQLException e) {
+					BATCH_LOGGER.debug( "SQLException escaped proxy", e );
+					throw sqlExceptionHelper.convert(
+							e,
+							"Could not perform addBatch",
+							statementDetails.getSqlString()
+					);
+				}
+				finally {
+					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			startExecution();
+			batchExecuted = true;
+		}
+	}
+
+	/**
+	 * Start the execution of the current group of statements, once the previous
+	 * execution completed, and switch to the other group.
+	 */
+	private void startExecution() {
+		awaitExecutions();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Starting execution of JDBC batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementGroup statementGroup = statementGroups[current];
+		final int rowCount = batchPosition;
+		jdbcObserver().jdbcExecuteBatchStart();
+		pendingExecution = CompletableFuture.runAsync( () -> executeStatements( statementGroup, rowCount ), executor );
+
+		batchPosition = 0;
+		current = 1 - current;
+		if ( statementGroups[current] == null ) {
+			statementGroups[current] = statementGroupSupplier.get();
+		}
+	}
+
+	/**
+	 * Wait for the pending execution, if any, to complete, and report its failure.
+	 */
+	@Override
+	public void awaitExecutions() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				final RuntimeException cause = e.getCause() instanceof RuntimeException
+						? (RuntimeException) e.getCause()
+						: new HibernateException( "Could not execute batch", e.getCause() );
+				abortBatch( cause );
+				throw cause;
+			}
+			finally {
+				jdbcObserver().jdbcExecuteBatchEnd();
+			}
+		}
+	}
+
+	/**
+	 * Execute the JDBC batches of the given group, on a thread of the executor
+	 * unless the execution is synchronous.
+	 */
+	private void executeStatements(PreparedStatementGroup statementGroup, int rowCount) {
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
+
+			if ( statement == null ) {
+				return;
+			}
+
+			try {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts = statement.executeBatch();
+					BatchImpl.checkRowCounts( rowCounts, statementDetails, rowCount );
+				}
+				else {
+					statement.executeBatch();
+				}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		} );
+	}
+
+	@SuppressWarnings("removal")
+	private JdbcObserver jdbcObserver() {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	protected void releaseStatements() {
+		for ( PreparedStatementGroup statementGroup : statementGroups ) {
+			if ( statementGroup != null ) {
+				statementGroup.forEachStatement( (tableName, statementDetails) -> {
+					if ( statementDetails.getStatement() != null ) {
+						clearBatch( statementDetails );
+					}
+				} );
+				statementGroup.release();
+			}
+		}
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	protected void clearBatch(PreparedStatementDetails statementDetails) {
+		final PreparedStatement statement = statementDetails.getStatement();
+		assert statement != null;
+
+		try {
+			if ( !statement.isClosed() ) {
+				statement.clearBatch();
+			}
+		}
+		catch ( SQLException e ) {
+			BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		if ( getStatementGroup().getNumberOfStatements() == 0 ) {
+			return;
+		}
+
+		try {
+			awaitExecutions();
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted ) {
+					if ( BATCH_LOGGER.isDebugEnabled() ) {
+						BATCH_LOGGER.debugf(
+								"No batched statements to execute - %s",
+								getKey().toLoggableString()
+						);
+					}
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	/**
+	 * Execute the current group of statements synchronously
+	 */
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			jdbcObserver().jdbcExecuteBatchStart();
+			executeStatements( getStatementGroup(), batchPosition );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			throw re;
+		}
+		finally {
+			jdbcObserver().jdbcExecuteBatchEnd();
+			batchPosition = 0;
+		}
+	}
+
+	@Override
+	public void release() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			// the statements may not be released while they are executed
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				BATCH_LOGGER.debug( "Execution of released batch failed", e.getCause() );
+			}
+			finally {
+				jdbcObserver().jdbcExecuteBatchEnd();
+			}
+		}
+
+		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
+			for ( PreparedStatementGroup statementGroup : statementGroups ) {
+				if ( statementGroup != null && statementGroup.getNumberOfStatements() != 0
+						&& statementGroup.hasMatching( (statementDetails) -> statementDetails.getStatement() != null ) ) {
+					BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+					break;
+				}
+			}
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatch(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A builder for {@link PipelinedBatch} instances, which are executed on the
+ * threads of an executor owned by the builder.
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+ */
+public class PipelinedBatchBuilder extends BatchBuilderImpl implements Stoppable {
+	private static final long serialVersionUID = 1L;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool(
+			runnable -> {
+				final Thread thread = new Thread( runnable, "hibernate-batch-execution" );
+				thread.setDaemon( true );
+				return thread;
+			}
+	);
+
+	/**
+	 * Constructs a PipelinedBatchBuilder
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertEnabled Whether batches of inserts should be executed
+	 * as {@linkplain MultiRowInsertBatch multi-row inserts}, when possible, instead
+	 * of being pipelined
+	 */
+	public PipelinedBatchBuilder(int globalBatchSize, boolean multiRowInsertEnabled) {
+		super( globalBatchSize, multiRowInsertEnabled );
+	}
+
+	@Override
+	protected Batch buildStandardBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		return new PipelinedBatch( key, statementGroup, statementGroupSupplier, batchSize, jdbcCoordinator, executor );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+	}
+}
@@ -56,6 +56,16 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Wait for the executions of this batch which are in progress, if any, to complete.
+	 * Called before a statement which is not part of the batch is prepared, so that the
+	 * statement observes the effects of the executions.
+	 *
+	 * @since 6.4
+	 */
+	default void awaitExecutions() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
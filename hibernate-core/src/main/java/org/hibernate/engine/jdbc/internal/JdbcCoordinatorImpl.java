@@ -205,6 +205,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * Wait for the executions of the current batch which are in progress, if any
+	 */
+	void awaitBatchExecutions() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitExecutions();
+		}
+	}
+
 	@Override
 	public void abortBatch() {
 		if ( currentBatch != null ) {
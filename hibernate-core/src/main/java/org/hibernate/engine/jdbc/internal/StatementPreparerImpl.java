@@ -73,6 +73,7 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	@Override
 	public PreparedStatement prepareStatement(String sql) {
+		jdbcCoordinator.awaitBatchExecutions();
 		return buildPreparedStatementPreparationTemplate( sql, false ).prepareStatement();
 	}
 
@@ -128,6 +129,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			String sql,
 			final boolean isCallable,
 			final ScrollMode scrollMode) {
+		jdbcCoordinator.awaitBatchExecutions();
 		if ( scrollMode != null && !scrollMode.equals( ScrollMode.FORWARD_ONLY ) ) {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
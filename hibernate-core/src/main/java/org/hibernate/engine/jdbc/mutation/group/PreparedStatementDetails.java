@@ -12,6 +12,7 @@ import java.sql.PreparedStatement;
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 
 /**
@@ -26,6 +27,13 @@ public interface PreparedStatementDetails {
 	 */
 	TableMapping getMutatingTableDetails();
 
+	/**
+	 * The mutation operation whose SQL is prepared, if known
+	 */
+	default PreparableMutationOperation getMutationOperation() {
+		return null;
+	}
+
 	/**
 	 * The SQL used to mutate the table
 	 */
@@ -20,18 +20,15 @@ import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
  */
 public abstract class AbstractSingleMutationExecutor extends AbstractMutationExecutor implements JdbcValueBindingsImpl.JdbcValueDescriptorAccess {
 	private final PreparableMutationOperation mutationOperation;
-	private final JdbcValueBindingsImpl valueBindings;
+	private final SharedSessionContractImplementor session;
+
+	private JdbcValueBindingsImpl valueBindings;
 
 	public AbstractSingleMutationExecutor(
 			PreparableMutationOperation mutationOperation,
 			SharedSessionContractImplementor session) {
 		this.mutationOperation = mutationOperation;
-		this.valueBindings = new JdbcValueBindingsImpl(
-				mutationOperation.getMutationType(),
-				mutationOperation.getMutationTarget(),
-				this,
-				session
-		);
+		this.session = session;
 	}
 
 	protected PreparableMutationOperation getMutationOperation() {
@@ -59,8 +56,28 @@ public abstract class AbstractSingleMutationExecutor extends AbstractMutationExe
 		return mutationOperation.findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public int getExpectedNumberOfBindings(String tableName) {
+		return mutationOperation.getParameterBinders().size();
+	}
+
 	@Override
 	public JdbcValueBindings getJdbcValueBindings() {
+		if ( valueBindings == null ) {
+			valueBindings = resolveJdbcValueBindings();
+		}
 		return valueBindings;
 	}
+
+	/**
+	 * The bindings for the values of this mutation, resolved on first access
+	 */
+	protected JdbcValueBindingsImpl resolveJdbcValueBindings() {
+		return new JdbcValueBindingsImpl(
+				mutationOperation.getMutationType(),
+				mutationOperation.getMutationTarget(),
+				this,
+				session
+		);
+	}
 }
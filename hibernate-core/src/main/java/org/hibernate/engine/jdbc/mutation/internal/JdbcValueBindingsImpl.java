@@ -21,6 +21,7 @@ import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
+import org.hibernate.type.descriptor.ValueBinder;
 
 /**
  * @author Steve Ebersole
@@ -70,7 +71,8 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 			return existing;
 		}
 
-		final BindingGroup created = new BindingGroup( tableName );
+		final BindingGroup created =
+				new BindingGroup( tableName, jdbcValueDescriptorAccess.getExpectedNumberOfBindings( tableName ) );
 		bindingGroupMap.put( tableName, created );
 		return created;
 	}
@@ -78,16 +80,16 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 	@Override
 	public void beforeStatement(PreparedStatementDetails statementDetails) {
 		final BindingGroup bindingGroup = bindingGroupMap.get( statementDetails.getMutatingTableDetails().getTableName() );
-		if ( bindingGroup == null ) {
+		if ( bindingGroup == null || bindingGroup.isEmpty() ) {
 			statementDetails.resolveStatement();
 		}
 		else {
-			bindingGroup.forEachBinding( (binding) -> {
+			bindingGroup.forEachValue( (value, valueDescriptor) -> {
 				try {
-					binding.getValueBinder().bind(
+					valueBinder( valueDescriptor ).bind(
 							statementDetails.resolveStatement(),
-							binding.getValue(),
-							binding.getPosition(),
+							value,
+							valueDescriptor.getJdbcPosition(),
 							session
 					);
 				}
@@ -97,8 +99,8 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 							String.format(
 									Locale.ROOT,
 									"Unable to bind parameter #%s - %s",
-									binding.getPosition(),
-									binding.getValue()
+									valueDescriptor.getJdbcPosition(),
+									value
 							)
 					);
 				}
@@ -106,9 +108,16 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private static ValueBinder<Object> valueBinder(JdbcValueDescriptor valueDescriptor) {
+		// the values are bound by the parameter's own JdbcMapping, so its binder accepts them
+		return valueDescriptor.getJdbcMapping().getJdbcValueBinder();
+	}
+
 	@Override
 	public void afterStatement(TableMapping mutatingTable) {
-		final BindingGroup bindingGroup = bindingGroupMap.remove( mutatingTable.getTableName() );
+		// keep the group, so that its storage is reused if these bindings are reset for another row
+		final BindingGroup bindingGroup = bindingGroupMap.get( mutatingTable.getTableName() );
 		if ( bindingGroup == null ) {
 			return;
 		}
@@ -116,6 +125,17 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		bindingGroup.clear();
 	}
 
+	/**
+	 * Clear the bindings for all tables, so that this instance can be reused to
+	 * bind the values of another row of the same mutation, without allocating
+	 * new groups.  Bindings for a table are usually cleared
+	 * {@linkplain #afterStatement after its statement}, but not for tables
+	 * which were excluded from the mutation.
+	 */
+	public void reset() {
+		bindingGroupMap.values().forEach( BindingGroup::clear );
+	}
+
 	/**
 	 * Access to {@link JdbcValueDescriptor} values
 	 */
@@ -126,5 +146,13 @@ public class JdbcValueBindingsImpl implements JdbcValueBindings {
 		}
 
 		JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage);
+
+		/**
+		 * The number of values usually bound for the given physical table, used
+		 * to size its {@link BindingGroup}
+		 */
+		default int getExpectedNumberOfBindings(String tableName) {
+			return 0;
+		}
 	}
 }
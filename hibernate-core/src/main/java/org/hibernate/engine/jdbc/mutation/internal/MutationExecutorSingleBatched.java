@@ -55,6 +55,15 @@ public class MutationExecutorSingleBatched extends AbstractSingleMutationExecuto
 		return batch;
 	}
 
+	@Override
+	protected JdbcValueBindingsImpl resolveJdbcValueBindings() {
+		// the rows added to the batch all bind their values through the bindings
+		// of its statement group, which are reset for each row
+		final JdbcValueBindingsImpl valueBindings = getStatementGroup().getReusableValueBindings();
+		valueBindings.reset();
+		return valueBindings;
+	}
+
 	@Override
 	protected void performBatchedOperations(ValuesAnalysis valuesAnalysis, TableInclusionChecker inclusionChecker) {
 		resolveBatch().addToBatch( getJdbcValueBindings(), inclusionChecker );
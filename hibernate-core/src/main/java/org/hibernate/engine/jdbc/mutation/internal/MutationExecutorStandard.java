@@ -149,12 +149,22 @@ public class MutationExecutorStandard extends AbstractMutationExecutor implement
 
 		this.selfExecutingMutations = selfExecutingMutations;
 
-		this.valueBindings = new JdbcValueBindingsImpl(
-				mutationOperationGroup.getMutationType(),
-				mutationOperationGroup.getMutationTarget(),
-				this,
-				session
-		);
+		if ( batch != null && nonBatchedJdbcMutations == null && selfExecutingMutations == null
+				&& batch.getStatementGroup() instanceof PreparedStatementGroupStandard
+				&& batch.getStatementGroup().getNumberOfStatements() == batchedJdbcMutations.size() ) {
+			// all the statements are batched, so the rows added to the batch all bind their
+			// values through the bindings of its statement group, which are reset for each row
+			this.valueBindings = ( (PreparedStatementGroupStandard) batch.getStatementGroup() ).getReusableValueBindings();
+			this.valueBindings.reset();
+		}
+		else {
+			this.valueBindings = new JdbcValueBindingsImpl(
+					mutationOperationGroup.getMutationType(),
+					mutationOperationGroup.getMutationTarget(),
+					this,
+					session
+			);
+		}
 
 		if ( isNotEmpty( nonBatchedJdbcMutations ) || isNotEmpty( selfExecutingMutations ) ) {
 			prepareForNonBatchedWork( batchKey, session );
@@ -176,6 +186,14 @@ public class MutationExecutorStandard extends AbstractMutationExecutor implement
 		return mutationOperationGroup.getOperation( tableName ).findValueDescriptor( columnName, usage );
 	}
 
+	@Override
+	public int getExpectedNumberOfBindings(String tableName) {
+		final MutationOperation operation = mutationOperationGroup.getOperation( tableName );
+		return operation instanceof PreparableMutationOperation
+				? ( (PreparableMutationOperation) operation ).getParameterBinders().size()
+				: 0;
+	}
+
 	@Override
 	public PreparedStatementDetails getPreparedStatementDetails(String tableName) {
 		final StatementLocation statementLocation = statementLocationMap.get( tableName );
@@ -24,6 +24,7 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class PreparedStatementDetailsStandard implements PreparedStatementDetails {
+	private final PreparableMutationOperation mutationOperation;
 	private final TableMapping mutatingTableDetails;
 	private final String sql;
 	private final Supplier<PreparedStatement> jdbcStatementCreator;
@@ -51,6 +52,7 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 			Supplier<PreparedStatement> jdbcStatementCreator,
 			Expectation expectation,
 			JdbcServices jdbcServices) {
+		this.mutationOperation = tableMutation;
 		this.mutatingTableDetails = tableMutation.getTableDetails();
 		this.sql = sql;
 		this.jdbcStatementCreator = jdbcStatementCreator;
@@ -58,6 +60,11 @@ public class PreparedStatementDetailsStandard implements PreparedStatementDetail
 		this.jdbcServices = jdbcServices;
 	}
 
+	@Override
+	public PreparableMutationOperation getMutationOperation() {
+		return mutationOperation;
+	}
+
 	@Override
 	public TableMapping getMutatingTableDetails() {
 		return mutatingTableDetails;
@@ -9,11 +9,13 @@ package org.hibernate.engine.jdbc.mutation.internal;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * PreparedStatementGroup implementation for cases where we
@@ -21,12 +23,15 @@ import org.hibernate.sql.model.TableMapping;
  *
  * @author Steve Ebersole
  */
-public class PreparedStatementGroupSingleTable implements PreparedStatementGroup {
+public class PreparedStatementGroupSingleTable
+		implements PreparedStatementGroup, JdbcValueBindingsImpl.JdbcValueDescriptorAccess {
 	private final PreparableMutationOperation jdbcMutation;
 	private final SharedSessionContractImplementor session;
 
 	private final PreparedStatementDetails statementDetails;
 
+	private JdbcValueBindingsImpl reusableValueBindings;
+
 	public PreparedStatementGroupSingleTable(
 			PreparableMutationOperation jdbcMutation,
 			SharedSessionContractImplementor session) {
@@ -39,6 +44,38 @@ public class PreparedStatementGroupSingleTable implements PreparedStatementGroup
 		return jdbcMutation.getTableDetails();
 	}
 
+	/**
+	 * Value bindings for the operation, to be {@linkplain JdbcValueBindingsImpl#reset() reset}
+	 * and reused for each row added to a batch of this group
+	 */
+	public JdbcValueBindingsImpl getReusableValueBindings() {
+		if ( reusableValueBindings == null ) {
+			reusableValueBindings = new JdbcValueBindingsImpl(
+					jdbcMutation.getMutationType(),
+					jdbcMutation.getMutationTarget(),
+					this,
+					session
+			);
+		}
+		return reusableValueBindings;
+	}
+
+	@Override
+	public String resolvePhysicalTableName(String tableName) {
+		return getMutatingTableDetails().getTableName();
+	}
+
+	@Override
+	public JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage) {
+		assert getMutatingTableDetails().containsTableName( tableName );
+		return jdbcMutation.findValueDescriptor( columnName, usage );
+	}
+
+	@Override
+	public int getExpectedNumberOfBindings(String tableName) {
+		return jdbcMutation.getParameterBinders().size();
+	}
+
 	@Override
 	public int getNumberOfStatements() {
 		return 1;
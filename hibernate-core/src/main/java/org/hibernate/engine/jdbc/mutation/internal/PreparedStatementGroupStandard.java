@@ -17,6 +17,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -27,6 +28,7 @@ import org.hibernate.sql.model.MutationTarget;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * A group of {@link PreparedStatementDetails} references related to multi-table
@@ -34,7 +36,8 @@ import org.hibernate.sql.model.TableMapping;
  *
  * @author Steve Ebersole
  */
-public class PreparedStatementGroupStandard implements PreparedStatementGroup {
+public class PreparedStatementGroupStandard
+		implements PreparedStatementGroup, JdbcValueBindingsImpl.JdbcValueDescriptorAccess {
 	private final MutationType mutationType;
 	private final MutationTarget<?> mutationTarget;
 	private final List<PreparableMutationOperation> jdbcMutations;
@@ -42,6 +45,7 @@ public class PreparedStatementGroupStandard implements PreparedStatementGroup {
 
 	private final SortedMap<String, PreparedStatementDetails> statementMap;
 
+	private JdbcValueBindingsImpl reusableValueBindings;
 
 	public PreparedStatementGroupStandard(
 			MutationType mutationType,
@@ -57,6 +61,29 @@ public class PreparedStatementGroupStandard implements PreparedStatementGroup {
 		this.statementMap = createStatementDetailsMap( jdbcMutations, mutationType, mutationTarget, session );
 	}
 
+	/**
+	 * Value bindings for the operations, to be {@linkplain JdbcValueBindingsImpl#reset() reset}
+	 * and reused for each row added to a batch of this group
+	 */
+	public JdbcValueBindingsImpl getReusableValueBindings() {
+		if ( reusableValueBindings == null ) {
+			reusableValueBindings = new JdbcValueBindingsImpl( mutationType, mutationTarget, this, session );
+		}
+		return reusableValueBindings;
+	}
+
+	@Override
+	public JdbcValueDescriptor resolveValueDescriptor(String tableName, String columnName, ParameterUsage usage) {
+		final PreparableMutationOperation jdbcMutation = locateMutation( tableName );
+		return jdbcMutation == null ? null : jdbcMutation.findValueDescriptor( columnName, usage );
+	}
+
+	@Override
+	public int getExpectedNumberOfBindings(String tableName) {
+		final PreparableMutationOperation jdbcMutation = locateMutation( tableName );
+		return jdbcMutation == null ? 0 : jdbcMutation.getParameterBinders().size();
+	}
+
 	@Override
 	public int getNumberOfStatements() {
 		return jdbcMutations.size();
@@ -193,10 +220,15 @@ public class PreparedStatementGroupStandard implements PreparedStatementGroup {
 	}
 
 	private TableMapping locateTableMapping(String name) {
+		final PreparableMutationOperation jdbcMutation = locateMutation( name );
+		return jdbcMutation == null ? null : jdbcMutation.getTableDetails();
+	}
+
+	private PreparableMutationOperation locateMutation(String tableName) {
 		for ( int i = 0; i < jdbcMutations.size(); i++ ) {
-			final TableMapping tableMapping = jdbcMutations.get( i ).getTableDetails();
-			if ( tableMapping.getTableName().equals( name ) ) {
-				return tableMapping;
+			final PreparableMutationOperation jdbcMutation = jdbcMutations.get( i );
+			if ( jdbcMutation.getTableDetails().getTableName().equals( tableName ) ) {
+				return jdbcMutation;
 			}
 		}
 		return null;
@@ -6,28 +6,49 @@
  */
 package org.hibernate.engine.jdbc.mutation.spi;
 
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
 
 /**
  * Group of all parameter {@linkplain #getBindings() bindings} for a table.
+ * <p/>
+ * The bound values are held by {@linkplain Binding#getPosition() position}, and
+ * {@linkplain #clear() clearing} the group keeps their storage, so that a group
+ * may be reused for each row of a batch without allocating.  {@link Binding}
+ * instances are only created when {@linkplain #getBindings() requested}.
  *
  * @author Steve Ebersole
  */
 public class BindingGroup {
 	private final String tableName;
-	private final Set<Binding> bindings;
+
+	// the values and descriptors of the current row, indexed by position - 1
+	private Object[] values;
+	private JdbcValueDescriptor[] valueDescriptors;
+	private int size;
+	private int maxPosition;
+
+	private Set<Binding> bindings;
 
 	public BindingGroup(String tableName) {
+		this( tableName, 0 );
+	}
+
+	/**
+	 * @param expectedSize The expected number of bindings, usually the
+	 * number of parameters of the table's statement
+	 */
+	public BindingGroup(String tableName, int expectedSize) {
 		this.tableName = tableName;
-		// todo (6.2) : TreeSet to log the parameter binding sequentially
-		//		- if we don't care, this can be another type of Set for perf
-		this.bindings = new TreeSet<>( Comparator.comparing( Binding::getPosition ) );
+		this.values = new Object[expectedSize];
+		this.valueDescriptors = new JdbcValueDescriptor[expectedSize];
 	}
 
 	/**
@@ -38,17 +59,55 @@ public class BindingGroup {
 	}
 
 	/**
-	 * The parameter bindings
+	 * The parameter bindings, ordered by position.
+	 * <p/>
+	 * The returned set is unmodifiable, and is not affected by values bound
+	 * after this call, or by {@linkplain #clear() clearing} the group.
 	 */
 	public Set<Binding> getBindings() {
+		if ( bindings == null ) {
+			if ( size == 0 ) {
+				bindings = Collections.emptySet();
+			}
+			else {
+				final Set<Binding> created = new LinkedHashSet<>( size * 2 );
+				for ( int i = 0; i < maxPosition; i++ ) {
+					final JdbcValueDescriptor valueDescriptor = valueDescriptors[i];
+					if ( valueDescriptor != null ) {
+						created.add( new Binding( valueDescriptor.getColumnName(), values[i], valueDescriptor ) );
+					}
+				}
+				bindings = Collections.unmodifiableSet( created );
+			}
+		}
 		return bindings;
 	}
 
 	/**
-	 * Visit each parameter binding
+	 * Whether no value is bound
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Visit each parameter binding, ordered by position
 	 */
 	public void forEachBinding(Consumer<Binding> action) {
-		bindings.forEach( action );
+		getBindings().forEach( action );
+	}
+
+	/**
+	 * Visit each bound value and its descriptor, ordered by position, without
+	 * creating {@link Binding} instances
+	 */
+	public void forEachValue(BiConsumer<Object, JdbcValueDescriptor> action) {
+		for ( int i = 0; i < maxPosition; i++ ) {
+			final JdbcValueDescriptor valueDescriptor = valueDescriptors[i];
+			if ( valueDescriptor != null ) {
+				action.accept( values[i], valueDescriptor );
+			}
+		}
 	}
 
 	/**
@@ -56,13 +115,34 @@ public class BindingGroup {
 	 */
 	public void bindValue(String columnName, Object value, JdbcValueDescriptor valueDescriptor) {
 		assert Objects.equals( columnName, valueDescriptor.getColumnName() );
-		bindings.add( new Binding( columnName, value, valueDescriptor ) );
+		final int index = valueDescriptor.getJdbcPosition() - 1;
+		if ( index >= values.length ) {
+			final int length = Math.max( index + 1, values.length * 2 );
+			values = Arrays.copyOf( values, length );
+			valueDescriptors = Arrays.copyOf( valueDescriptors, length );
+		}
+		else if ( valueDescriptors[index] != null ) {
+			// the first binding for a position wins
+			return;
+		}
+
+		values[index] = value;
+		valueDescriptors[index] = valueDescriptor;
+		size++;
+		maxPosition = Math.max( maxPosition, index + 1 );
+		bindings = null;
 	}
 
 	/**
-	 * Clear the {@linkplain #getBindings() bindings}
+	 * Clear the {@linkplain #getBindings() bindings}, keeping the storage for reuse
 	 */
 	public void clear() {
-		bindings.clear();
+		if ( size > 0 ) {
+			Arrays.fill( values, 0, maxPosition, null );
+			Arrays.fill( valueDescriptors, 0, maxPosition, null );
+			size = 0;
+			maxPosition = 0;
+		}
+		bindings = null;
 	}
 }
@@ -42,6 +42,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -1083,7 +1084,13 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * The algorithm first discovers the transitive incoming dependencies for every insert action
+	 * When none of the entity types being inserted depends on itself, the inserts are grouped by entity name
+	 * in a single pass, and the groups are scheduled according to the dependencies between entity types,
+	 * which are derived from the mapping model once per {@code SessionFactoryImplementor}.
+	 * See {@link EntityInsertDependencies}.
+	 * </p>
+	 * <p>
+	 * Otherwise, the algorithm first discovers the transitive incoming dependencies for every insert action
 	 * and groups all inserts by the entity name.
 	 * Finally, it schedules these groups one by one, as long as all the dependencies of the groups are fulfilled.
 	 * </p>
@@ -1244,6 +1251,77 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
+			if ( insertions.size() > 1 && !sortByEntityDependencies( insertions ) ) {
+				sortByInstanceDependencies( insertions );
+			}
+		}
+
+		/**
+		 * Group the insert actions by entity name, and order the groups according
+		 * to the dependencies between the entity types, if none is cyclic.
+		 *
+		 * @return {@code false} if the insert actions must be sorted by examining
+		 * the dependencies between the entity instances
+		 */
+		private boolean sortByEntityDependencies(List<AbstractEntityInsertAction> insertions) {
+			final EntityInsertDependencies entityInsertDependencies = insertions.get( 0 ).getSession()
+					.getFactory()
+					.getFastSessionServices()
+					.entityInsertDependencies;
+			final Map<String, List<AbstractEntityInsertAction>> insertionsByEntityName = new LinkedHashMap<>();
+			String lastEntityName = null;
+			List<AbstractEntityInsertAction> lastGroup = null;
+			for ( AbstractEntityInsertAction insertion : insertions ) {
+				final String entityName = insertion.getPersister().getEntityName();
+				if ( !entityName.equals( lastEntityName ) ) {
+					lastGroup = insertionsByEntityName.get( entityName );
+					if ( lastGroup == null ) {
+						if ( entityInsertDependencies.isCyclic( entityName ) ) {
+							return false;
+						}
+						lastGroup = new ArrayList<>();
+						insertionsByEntityName.put( entityName, lastGroup );
+					}
+					lastEntityName = entityName;
+				}
+				lastGroup.add( insertion );
+			}
+			if ( insertionsByEntityName.size() == 1 ) {
+				return true;
+			}
+			// the dependencies are acyclic, so that every group eventually gets scheduled
+			final Set<String> unscheduledEntityNames = new HashSet<>( insertionsByEntityName.keySet() );
+			insertions.clear();
+			while ( !unscheduledEntityNames.isEmpty() ) {
+				final Iterator<Map.Entry<String, List<AbstractEntityInsertAction>>> iterator =
+						insertionsByEntityName.entrySet().iterator();
+				while ( iterator.hasNext() ) {
+					final Map.Entry<String, List<AbstractEntityInsertAction>> group = iterator.next();
+					if ( !dependsOnAny( entityInsertDependencies.getDependencies( group.getKey() ), unscheduledEntityNames ) ) {
+						insertions.addAll( group.getValue() );
+						unscheduledEntityNames.remove( group.getKey() );
+						iterator.remove();
+					}
+				}
+			}
+			return true;
+		}
+
+		private static boolean dependsOnAny(Set<String> dependencies, Set<String> entityNames) {
+			final Set<String> smaller = dependencies.size() <= entityNames.size() ? dependencies : entityNames;
+			final Set<String> larger = smaller == dependencies ? entityNames : dependencies;
+			for ( String entityName : smaller ) {
+				if ( larger.contains( entityName ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Sort the insert actions by examining the dependencies between the entity instances.
+		 */
+		private void sortByInstanceDependencies(List<AbstractEntityInsertAction> insertions) {
 			final int insertInfoCount = insertions.size();
 			// Build up dependency metadata for insert actions
 			final InsertInfo[] insertInfos = new InsertInfo[insertInfoCount];
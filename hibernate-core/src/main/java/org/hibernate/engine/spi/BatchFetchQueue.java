@@ -6,10 +6,18 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -65,6 +73,14 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * The entity keys added while the results of a query were read, which are prefetched
+	 * once the results are read when {@value org.hibernate.cfg.FetchSettings#BATCH_FETCH_PREFETCH}
+	 * is enabled.
+	 */
+	private @Nullable List<EntityKey> prefetchableEntityKeys;
+	private boolean prefetching;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -83,6 +99,7 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		prefetchableEntityKeys = null;
 	}
 
 
@@ -157,7 +174,51 @@ public class BatchFetchQueue {
 					k -> CollectionHelper.linkedSetOfSize( 8 )
 			);
 
-			keysForEntity.add( key );
+			if ( keysForEntity.add( key ) && isPrefetchable() ) {
+				if ( prefetchableEntityKeys == null ) {
+					prefetchableEntityKeys = new ArrayList<>();
+				}
+				prefetchableEntityKeys.add( key );
+			}
+		}
+	}
+
+	private boolean isPrefetchable() {
+		return !prefetching
+			&& !context.isLoadFinished()
+			&& context.getSession().getFactory().getFastSessionServices().batchFetchPrefetch;
+	}
+
+	/**
+	 * Initialize, by batch fetching, the entities whose keys were queued while the
+	 * results of a query were read, instead of waiting for each of their proxies to
+	 * be initialized on first access.  Only called once a top-level load is finished,
+	 * and the entities loaded by the prefetch are not themselves prefetched.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_PREFETCH
+	 */
+	public void prefetchBatchLoadableEntities() {
+		if ( prefetchableEntityKeys == null || prefetching || !context.isLoadFinished() ) {
+			return;
+		}
+
+		final List<EntityKey> keys = prefetchableEntityKeys;
+		prefetchableEntityKeys = null;
+		final SharedSessionContractImplementor session = context.getSession();
+		prefetching = true;
+		try {
+			for ( EntityKey key : keys ) {
+				// keys loaded by the batch of a previous key are no longer queued
+				if ( containsEntityKey( key ) ) {
+					LOG.tracef( "Prefetching entity %s", key );
+					session.internalLoad( key.getEntityName(), key.getIdentifier(), true, true );
+					// found or not, remove the key from the queue, like the batch loaders do
+					removeBatchLoadableEntityKey( key );
+				}
+			}
+		}
+		finally {
+			prefetching = false;
 		}
 	}
 
@@ -178,7 +239,7 @@ public class BatchFetchQueue {
 	}
 
 	/**
-	 * Intended for test usage. Really has no use-case in Hibernate proper.
+	 * Is the given key queued for batch fetching?
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() ) && batchLoadableEntityKeys != null ) {
@@ -214,6 +275,8 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CachedKeys<EntityKey> cached =
+				new CachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -229,7 +292,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !cached.contains( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -272,6 +335,8 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final CachedKeys<EntityKey> cached =
+					new CachedEntityKeys( set, entityDescriptor.getEntityPersister(), maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +348,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( !cached.contains( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,22 +366,6 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
-		}
-		return false;
-	}
-
-
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -382,6 +431,9 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final CachedKeys<Object> cached =
+				new CachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,7 +477,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( !cached.contains( loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +521,7 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final CachedKeys<Object> cached = new CachedCollectionKeys( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +556,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( !cached.contains( loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,22 +572,158 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+	public SharedSessionContractImplementor getSession() {
+		return context.getSession();
+	}
+
+	/**
+	 * The loaded keys of the given collections in order, or null for the collections which
+	 * are already initialized
+	 */
+	private static Iterator<Object> loadedKeys(Map<CollectionEntry, PersistentCollection<?>> collections) {
+		final Iterator<Entry<CollectionEntry, PersistentCollection<?>>> entries = collections.entrySet().iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return entries.hasNext();
+			}
+
+			@Override
+			public Object next() {
+				final Entry<CollectionEntry, PersistentCollection<?>> me = entries.next();
+				// the keys of initialized collections are skipped by the scan
+				return me.getValue().wasInitialized() ? null : me.getKey().getLoadedKey();
+			}
+		};
+	}
+
+	/**
+	 * Determines which of the keys queued for batch fetching have data in the second-level
+	 * cache, as they are scanned in the order in which they were queued. The cache is read
+	 * in bulk, a chunk of the size of the batch at a time, and only when a key which was not
+	 * read yet is scanned, so that the keys after those which fill the batch are not read.
+	 *
+	 * @param <K> The type of the keys, compared by identity
+	 */
+	private abstract class CachedKeys<K> {
+		private final Iterator<K> lookahead;
+		private final int chunkSize;
+		private final boolean enabled;
+		private final Set<K> read = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final Set<K> cached = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		private CachedKeys(Iterator<K> lookahead, int chunkSize, boolean enabled) {
+			this.lookahead = lookahead;
+			this.chunkSize = Math.max( chunkSize, 1 );
+			this.enabled = enabled;
+		}
+
+		boolean contains(K key) {
+			if ( !enabled ) {
+				return false;
+			}
+			if ( !read.contains( key ) ) {
+				readChunk( key );
+			}
+			return cached.contains( key );
+		}
+
+		private void readChunk(K key) {
+			// the keys are scanned in order, so the lookahead has not passed the given key
+			final List<K> chunk = new ArrayList<>( chunkSize );
+			boolean reached = false;
+			while ( lookahead.hasNext() && ( !reached || chunk.size() < chunkSize ) ) {
+				final K next = lookahead.next();
+				if ( next != null && read.add( next ) ) {
+					chunk.add( next );
+					reached = reached || next == key;
+				}
+			}
+			if ( !chunk.isEmpty() ) {
+				cached.addAll( readCached( chunk ) );
+			}
+		}
+
+		/**
+		 * @return the given keys which have data in the second-level cache
+		 */
+		abstract Collection<K> readCached(List<K> keys);
+	}
+
+	private final class CachedEntityKeys extends CachedKeys<EntityKey> {
+		private final EntityPersister persister;
+
+		private CachedEntityKeys(Collection<EntityKey> entityKeys, EntityPersister persister, int batchSize) {
+			super(
+					entityKeys.iterator(),
+					batchSize,
+					context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache()
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+			this.persister = persister;
+		}
+
+		@Override
+		Collection<EntityKey> readCached(List<EntityKey> entityKeys) {
+			final SharedSessionContractImplementor session = context.getSession();
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Map<Object, EntityKey> entityKeysByCacheKey =
+					new HashMap<>( CollectionHelper.determineProperSizing( entityKeys.size() ) );
+			for ( EntityKey entityKey : entityKeys ) {
+				final Object key = cache.generateCacheKey(
+						entityKey.getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				entityKeysByCacheKey.put( key, entityKey );
+			}
+			final Map<Object, Object> cachedValues =
+					CacheHelper.fromSharedCache( session, entityKeysByCacheKey.keySet(), cache );
+			final List<EntityKey> cached = new ArrayList<>( cachedValues.size() );
+			for ( Object key : cachedValues.keySet() ) {
+				cached.add( entityKeysByCacheKey.get( key ) );
+			}
+			return cached;
 		}
-		return false;
 	}
 
-	public SharedSessionContractImplementor getSession() {
-		return context.getSession();
+	private final class CachedCollectionKeys extends CachedKeys<Object> {
+		private final CollectionPersister persister;
+
+		private CachedCollectionKeys(
+				Map<CollectionEntry, PersistentCollection<?>> collections,
+				CollectionPersister persister,
+				int batchSize) {
+			super(
+					loadedKeys( collections ),
+					batchSize,
+					context.getSession().getCacheMode().isGetEnabled() && persister.hasCache()
+			);
+			this.persister = persister;
+		}
+
+		@Override
+		Collection<Object> readCached(List<Object> loadedKeys) {
+			final SharedSessionContractImplementor session = context.getSession();
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Map<Object, Object> loadedKeysByCacheKey =
+					new HashMap<>( CollectionHelper.determineProperSizing( loadedKeys.size() ) );
+			for ( Object loadedKey : loadedKeys ) {
+				final Object cacheKey = cache.generateCacheKey(
+						loadedKey,
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				loadedKeysByCacheKey.put( cacheKey, loadedKey );
+			}
+			final Map<Object, Object> cachedValues =
+					CacheHelper.fromSharedCache( session, loadedKeysByCacheKey.keySet(), cache );
+			final List<Object> cached = new ArrayList<>( cachedValues.size() );
+			for ( Object cacheKey : cachedValues.keySet() ) {
+				cached.add( loadedKeysByCacheKey.get( cacheKey ) );
+			}
+			return cached;
+		}
 	}
 }
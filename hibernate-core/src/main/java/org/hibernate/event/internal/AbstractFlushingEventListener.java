@@ -34,6 +34,7 @@ import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.PersistContext;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.util.EntityPrinter;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -212,16 +213,32 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		final FastSessionServices fastSessionServices = source.getFactory().getFastSessionServices();
+		final boolean onlyDefaultListener = hasOnlyDefaultListener( flushListeners );
+		final boolean skipUnmodified = fastSessionServices.incrementalFlush && onlyDefaultListener;
+		final int parallelDirtyCheckThreshold = fastSessionServices.parallelDirtyCheckThreshold;
+		final ParallelDirtyCheck parallelDirtyCheck = parallelDirtyCheckThreshold > 0 && onlyDefaultListener
+				? ParallelDirtyCheck.perform( entityEntries, parallelDirtyCheckThreshold, source )
+				: null;
+
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
+				if ( skipUnmodified && isUnmodified( me.getKey(), entry, status ) ) {
+					// the listener would neither schedule an update nor reach any collection
+					continue;
+				}
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( i, entityEvent );
+				}
 
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 				entityEvent.setAllowedToReuse( true );
@@ -234,6 +251,38 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static boolean hasOnlyDefaultListener(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( flushListeners.count() != 1 ) {
+			return false;
+		}
+		final boolean[] onlyDefaultListener = { true };
+		flushListeners.fireEventOnEachListener(
+				onlyDefaultListener,
+				(listener, result) -> {
+					if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+						result[0] = false;
+					}
+				}
+		);
+		return onlyDefaultListener[0];
+	}
+
+	/**
+	 * Is the entity known not to have been modified since it was loaded or last
+	 * flushed, according to its dirty tracker or to the
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy}, so that flushing it
+	 * would have no effect?  The cheapest checks come first, since this is
+	 * evaluated for every managed entity.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	private static boolean isUnmodified(Object entity, EntityEntry entry, Status status) {
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+			&& entry.getLoadedState() != null
+			&& !entry.getPersister().hasCollections()
+			&& !entry.requiresDirtyCheck( entity );
+	}
+
 	/**
 	 * Reuses a FlushEntityEvent for a new purpose, if possible;
 	 * if not possible a new actual instance is returned.
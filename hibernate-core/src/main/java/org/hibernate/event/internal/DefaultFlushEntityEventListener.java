@@ -492,7 +492,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = isPrecomputedDirtyCheckValid( event, values )
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -537,6 +539,24 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		return dirtyProperties;
 	}
 
+	/**
+	 * Was the entity dirty checked in parallel, with the same property values?
+	 *
+	 * @see ParallelDirtyCheck
+	 */
+	private static boolean isPrecomputedDirtyCheckValid(FlushEntityEvent event, Object[] values) {
+		final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+		if ( precomputedValues == null || precomputedValues.length != values.length ) {
+			return false;
+		}
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( precomputedValues[i] != values[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Attempt to get the dirty properties from either the Interceptor,
 	 * the bytecode enhancement, or a custom dirtiness strategy.
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Compares the current state of the entities about to be flushed against their
+ * loaded state on the {@linkplain ForkJoinPool#commonPool() common fork-join pool},
+ * so that the {@link DefaultFlushEntityEventListener} may reuse the results instead
+ * of performing the comparisons one by one.
+ * <p>
+ * Only the entities whose dirty check has no side effect are considered: entities
+ * which are not bytecode enhanced, whose state was loaded, and which have no
+ * collection and no association, since comparing associations might require the
+ * identifier of a transient entity to be resolved.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	private static final int CHUNK_SIZE = 256;
+
+	private final Map.Entry<Object,EntityEntry>[] entityEntries;
+	private final SessionImplementor session;
+	private final boolean[] candidates;
+	private final Object[][] values;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			SessionImplementor session,
+			boolean[] candidates) {
+		this.entityEntries = entityEntries;
+		this.session = session;
+		this.candidates = candidates;
+		this.values = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+	}
+
+	/**
+	 * Perform the dirty checks of the given entities in parallel, if at least
+	 * {@code threshold} of them may be checked in parallel.
+	 *
+	 * @return The results, or {@code null} if the dirty checks were not performed
+	 */
+	static ParallelDirtyCheck perform(
+			Map.Entry<Object,EntityEntry>[] entityEntries,
+			int threshold,
+			SessionImplementor session) {
+		final boolean[] candidates = new boolean[entityEntries.length];
+		final Map<EntityPersister,Boolean> checkablePersisters = new IdentityHashMap<>();
+		int count = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
+			if ( isCandidate( me.getKey(), me.getValue(), checkablePersisters ) ) {
+				candidates[i] = true;
+				count++;
+			}
+		}
+		if ( count < threshold ) {
+			return null;
+		}
+
+		LOG.debugf( "Dirty checking %s entities in parallel", count );
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, session, candidates );
+		ForkJoinPool.commonPool().invoke( dirtyCheck.new Chunk( 0, entityEntries.length ) );
+		return dirtyCheck;
+	}
+
+	private static boolean isCandidate(
+			Object entity,
+			EntityEntry entry,
+			Map<EntityPersister,Boolean> checkablePersisters) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& entry.isModifiableEntity()
+			&& !isSelfDirtinessTracker( entity )
+			&& !isPersistentAttributeInterceptable( entity )
+			&& checkablePersisters.computeIfAbsent( entry.getPersister(), ParallelDirtyCheck::isCheckable );
+	}
+
+	private static boolean isCheckable(EntityPersister persister) {
+		return !persister.hasCollections() && hasOnlyValueTypes( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasOnlyValueTypes(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType()
+					|| type.isComponentType() && !hasOnlyValueTypes( ( (CompositeType) type ).getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Supply the result of the dirty check of the entity at the given position
+	 * to the event, if there is one.
+	 */
+	void applyTo(int position, FlushEntityEvent event) {
+		if ( values[position] != null ) {
+			event.setPrecomputedDirtyCheck( values[position], dirtyProperties[position] );
+		}
+	}
+
+	private void check(int position) {
+		final Object entity = entityEntries[position].getKey();
+		final EntityEntry entry = entityEntries[position].getValue();
+		final EntityPersister persister = entry.getPersister();
+		try {
+			final Object[] currentValues = persister.getValues( entity );
+			dirtyProperties[position] = persister.findDirty( currentValues, entry.getLoadedState(), entity, session );
+			values[position] = currentValues;
+		}
+		catch (RuntimeException e) {
+			// leave it to the flush of the entity, which will report the problem
+			LOG.tracef( e, "Could not dirty check entity %s in parallel", entry.getEntityKey() );
+		}
+	}
+
+	private class Chunk extends RecursiveAction {
+		private final int start;
+		private final int end;
+
+		private Chunk(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start > CHUNK_SIZE ) {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll( new Chunk( start, middle ), new Chunk( middle, end ) );
+			}
+			else {
+				for ( int i = start; i < end; i++ ) {
+					if ( candidates[i] ) {
+						check( i );
+					}
+				}
+			}
+		}
+	}
+}
@@ -20,6 +20,8 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private EntityEntry entityEntry;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
@@ -79,6 +81,27 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * Supply the result of a comparison of the state of the entity against its
+	 * loaded state, performed ahead of the flush of this entity, and which remains
+	 * valid as long as the entity has the same property values.
+	 *
+	 * @param propertyValues The property values which were compared
+	 * @param dirtyProperties The indexes of the dirty properties, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +125,8 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -0,0 +1,286 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.service.spi.Stoppable;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} which hands out the values of the current
+ * pool without locking.
+ * <p>
+ * The database value is interpreted as the hi value of the pool, exactly as by
+ * {@link PooledOptimizer}, so that the two optimizers may be used interchangeably
+ * against the same table or sequence.  But here, the values of the current pool
+ * are handed out by incrementing an {@link AtomicLong}, and the lock is only
+ * acquired when the pool is exhausted, and the next hi value must be obtained
+ * from the database.  Unlike {@link PooledLoThreadLocalOptimizer}, all threads
+ * share the same pool, so that no values are wasted, even when the ids are
+ * generated from very many short-lived threads.
+ * <p>
+ * Optionally, the next hi value may be {@linkplain #enablePrefetch prefetched}
+ * from a background thread once half of the current pool has been handed out,
+ * so that, in steady state, no application thread ever waits for the database.
+ * <p>
+ * The generated values must fit in a {@code long}.
+ *
+ * @see PooledOptimizer
+ */
+public class PooledConcurrentOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer, Stoppable {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledConcurrentOptimizer.class.getName()
+	);
+
+	/**
+	 * An immutable pool of values, from which values are taken by incrementing {@link #next}.
+	 */
+	private static class Pool {
+		// the value read from the database
+		private final IntegralDataTypeHolder hiValue;
+		private final long hi;
+		private final AtomicLong next;
+		// the value whose generation triggers the prefetching of the next hi value
+		private final long prefetchTrigger;
+
+		private Pool(IntegralDataTypeHolder hiValue, long next, boolean prefetch, int incrementSize) {
+			this.hiValue = hiValue;
+			this.hi = hiValue.makeValue().longValue();
+			this.next = new AtomicLong( next );
+			// the trigger must be handed out from the pool, and not be the lo value returned on
+			// its creation, so a pool without further values, of size 1, is never prefetched
+			this.prefetchTrigger = prefetch && next <= hi
+					? Math.max( next, hi - incrementSize / 2 )
+					: Long.MIN_VALUE;
+		}
+	}
+
+	private class GenerationState {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private final boolean prefetch;
+		private volatile Pool pool;
+		// the next hi value, being obtained by a background thread
+		private volatile CompletableFuture<IntegralDataTypeHolder> prefetchedHiValue;
+
+		private GenerationState(boolean prefetch) {
+			this.prefetch = prefetch;
+		}
+
+		private long generate(AccessCallback callback) {
+			final Pool current = pool;
+			if ( current != null ) {
+				final long value = current.next.getAndIncrement();
+				if ( value <= current.hi ) {
+					if ( value == current.prefetchTrigger ) {
+						// exactly one thread gets this value, so the prefetch is only started once per pool
+						startPrefetch();
+					}
+					return value;
+				}
+			}
+			return generateFromNextPool( callback );
+		}
+
+		private void startPrefetch() {
+			try {
+				prefetchedHiValue = CompletableFuture.supplyAsync( prefetchCallback::getNextValue, prefetchExecutor );
+			}
+			catch (RejectedExecutionException e) {
+				// stopped, the next hi value is obtained from the session
+				log.debug( "Not prefetching the next hi value, since prefetching was stopped" );
+			}
+		}
+
+		private long generateFromNextPool(AccessCallback callback) {
+			lock.lock();
+			try {
+				// another thread might have obtained the next pool in the meantime
+				final Pool current = pool;
+				if ( current != null ) {
+					final long value = current.next.getAndIncrement();
+					if ( value <= current.hi ) {
+						return value;
+					}
+				}
+
+				final IntegralDataTypeHolder hiValue = current == null ? callback.getNextValue() : nextHiValue( callback );
+				final long lo;
+				if ( current == null ) {
+					// unfortunately not really safe to normalize this
+					// to 1 as an initial value like we do for the others
+					// because we would not be able to control this if
+					// we are using a sequence...
+					if ( hiValue.lt( 1 ) ) {
+						log.pooledOptimizerReportedInitialValue( hiValue );
+					}
+					// the call to obtain next-value just gave us the initialValue
+					if ( ( initialValue == -1 && hiValue.lt( incrementSize ) )
+							|| hiValue.eq( initialValue ) ) {
+						lo = hiValue.makeValue().longValue();
+					}
+					else {
+						lo = hiValue.makeValue().longValue() - ( incrementSize - 1 );
+					}
+				}
+				else {
+					lo = hiValue.makeValue().longValue() - ( incrementSize - 1 );
+				}
+				pool = new Pool( hiValue, lo + 1, prefetch && prefetchCallback != null, incrementSize );
+				return lo;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private IntegralDataTypeHolder nextHiValue(AccessCallback callback) {
+			final CompletableFuture<IntegralDataTypeHolder> prefetched = prefetchedHiValue;
+			if ( prefetched != null ) {
+				prefetchedHiValue = null;
+				try {
+					return prefetched.join();
+				}
+				catch (CompletionException e) {
+					log.debug( "Could not prefetch the next hi value, obtaining it from the session", e.getCause() );
+				}
+			}
+			return callback.getNextValue();
+		}
+	}
+
+	private final GenerationState noTenantState = new GenerationState( true );
+	private final ConcurrentHashMap<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	private volatile long initialValue = -1;
+	private volatile AccessCallback prefetchCallback;
+	private volatile ExecutorService prefetchExecutor;
+
+	/**
+	 * Constructs a {@code PooledConcurrentOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating pooled concurrent optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return makeValue( locateGenerationState( callback.getTenantIdentifier() ).generate( callback ) );
+	}
+
+	private Serializable makeValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		else {
+			return (Serializable) IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+					.initialize( value )
+					.makeValue();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState( false ) );
+	}
+
+	private Pool noTenantPool() {
+		final Pool pool = noTenantState.pool;
+		if ( pool == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return pool;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantPool().hiValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * Enable the prefetching of the next hi value, once half of the current pool
+	 * has been handed out.  The prefetching only applies to values generated
+	 * without a tenant identifier, and to pools of more than one value.
+	 * <p>
+	 * The next hi value is obtained from a daemon thread, which must be released
+	 * by {@linkplain #stop() stopping} the optimizer.
+	 *
+	 * @param isolatedCallback A callback which obtains the next hi value without
+	 * depending on any session, since it is called from a background thread
+	 *
+	 * @since 6.4
+	 */
+	public void enablePrefetch(AccessCallback isolatedCallback) {
+		if ( prefetchExecutor == null ) {
+			prefetchExecutor = Executors.newCachedThreadPool(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-id-prefetch" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+		}
+		this.prefetchCallback = isolatedCallback;
+	}
+
+	/**
+	 * Stop prefetching, and release the thread used for it.  The values are then
+	 * obtained from the session.
+	 */
+	@Override
+	public void stop() {
+		final ExecutorService executor = prefetchExecutor;
+		if ( executor != null ) {
+			executor.shutdown();
+		}
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
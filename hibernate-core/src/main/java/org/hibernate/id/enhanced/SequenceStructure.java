@@ -6,9 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -17,10 +19,13 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
 
 import org.jboss.logging.Logger;
 
@@ -43,7 +48,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -73,7 +78,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -95,7 +100,7 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -140,6 +145,56 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Build a callback which obtains the next value of the sequence on a separate
+	 * JDBC connection, independently of any session, and which may therefore be
+	 * called from a background thread.
+	 *
+	 * @param jdbcServices The {@link JdbcServices} providing the connection
+	 *
+	 * @since 6.4
+	 */
+	public AccessCallback buildIsolatedCallback(JdbcServices jdbcServices) {
+		final JdbcIsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				jdbcServices.getBootstrapJdbcConnectionAccess(),
+				jdbcServices.getSqlExceptionHelper()
+		);
+
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				if ( sql == null ) {
+					throw new AssertionFailure( "SequenceStyleGenerator's SequenceStructure was not properly initialized" );
+				}
+				accessCounter.incrementAndGet();
+				return isolationDelegate.delegateWork(
+						new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								jdbcServices.getSqlStatementLogger().logStatement( sql );
+								try ( PreparedStatement st = connection.prepareStatement( sql );
+										ResultSet rs = st.executeQuery() ) {
+									rs.next();
+									final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+									value.initialize( rs, 1 );
+									if ( LOG.isDebugEnabled() ) {
+										LOG.debugf( "Sequence value prefetched: %s", value.makeValue() );
+									}
+									return value;
+								}
+							}
+						},
+						true
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return null;
+			}
+		};
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
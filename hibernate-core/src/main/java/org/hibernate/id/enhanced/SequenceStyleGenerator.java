@@ -21,7 +21,9 @@ import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
 import org.hibernate.id.IdentifierGenerator;
@@ -30,6 +32,7 @@ import org.hibernate.id.SequenceMismatchStrategy;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.tool.schema.extract.spi.SequenceInformation;
 import org.hibernate.type.Type;
 
@@ -106,7 +109,7 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
  * @author Lukasz Antoniak
  */
 public class SequenceStyleGenerator
-		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator {
+		implements PersistentIdentifierGenerator, BulkInsertionCapableIdentifierGenerator, Stoppable {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class,
@@ -177,6 +180,17 @@ public class SequenceStyleGenerator
 		return optimizer;
 	}
 
+	/**
+	 * Stop the {@linkplain AvailableSettings#SEQUENCE_PREFETCH prefetching} of sequence
+	 * values, if enabled, when the session factory is closed
+	 */
+	@Override
+	public void stop() {
+		if ( optimizer instanceof Stoppable ) {
+			( (Stoppable) optimizer ).stop();
+		}
+	}
+
 	/**
 	 * Getter for property 'identifierType'.
 	 *
@@ -199,7 +213,9 @@ public class SequenceStyleGenerator
 		final QualifiedName sequenceName = determineSequenceName( parameters, dialect, jdbcEnvironment, serviceRegistry );
 		final int initialValue = determineInitialValue( parameters );
 		int incrementSize = determineIncrementSize( parameters );
-		final OptimizerDescriptor optimizationStrategy = determineOptimizationStrategy( parameters, incrementSize );
+		final boolean prefetch = isPrefetchEnabled( serviceRegistry );
+		final OptimizerDescriptor optimizationStrategy =
+				prefetchOptimizationStrategy( determineOptimizationStrategy( parameters, incrementSize ), prefetch );
 
 		boolean forceTableUse = getBoolean( FORCE_TBL_PARAM, parameters );
 		final boolean physicalSequence = isPhysicalSequence( jdbcEnvironment, forceTableUse );
@@ -236,6 +252,37 @@ public class SequenceStyleGenerator
 				getInt( INITIAL_PARAM, parameters, -1 )
 		);
 		this.databaseStructure.configure( optimizer );
+
+		if ( prefetch ) {
+			if ( optimizer instanceof PooledConcurrentOptimizer && databaseStructure instanceof SequenceStructure ) {
+				( (PooledConcurrentOptimizer) optimizer ).enablePrefetch(
+						( (SequenceStructure) databaseStructure )
+								.buildIsolatedCallback( serviceRegistry.getService( JdbcServices.class ) )
+				);
+			}
+			else {
+				LOG.debugf(
+						"Ignoring setting '%s' for sequence [%s], since it does not use a physical sequence with the 'pooled' optimizer",
+						AvailableSettings.SEQUENCE_PREFETCH,
+						sequenceName
+				);
+			}
+		}
+	}
+
+	private static boolean isPrefetchEnabled(ServiceRegistry serviceRegistry) {
+		return serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( AvailableSettings.SEQUENCE_PREFETCH, StandardConverters.BOOLEAN, false );
+	}
+
+	/**
+	 * Prefetching is implemented by {@link PooledConcurrentOptimizer}, which is
+	 * interchangeable with {@link PooledOptimizer}.
+	 */
+	private static OptimizerDescriptor prefetchOptimizationStrategy(OptimizerDescriptor optimizationStrategy, boolean prefetch) {
+		return prefetch && optimizationStrategy == StandardOptimizerDescriptor.POOLED
+				? StandardOptimizerDescriptor.POOLED_CONCURRENT
+				: optimizationStrategy;
 	}
 
 	private int adjustIncrementSize(
@@ -44,7 +44,13 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, as for {@link #POOLED}, and
+	 * the values of the current chunk are handed out without locking.
+	 */
+	POOLED_CONCURRENT;
 
 	@Override
 	public String getExternalName() {
@@ -61,6 +67,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_CONCURRENT:
+				return "pooled-concurrent";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -80,6 +88,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_CONCURRENT:
+				return PooledConcurrentOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -94,6 +104,7 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_CONCURRENT:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
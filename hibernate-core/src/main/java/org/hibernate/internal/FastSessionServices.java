@@ -18,6 +18,7 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.EntityInsertDependencies;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
@@ -175,6 +176,11 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	public final boolean persistenceContextOpenAddressing;
+	public final boolean incrementalFlush;
+	public final int parallelDirtyCheckThreshold;
+	public final boolean batchFetchPrefetch;
+	public final EntityInsertDependencies entityInsertDependencies;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -262,6 +268,11 @@ public final class FastSessionServices {
 		this.defaultCacheRetrieveMode = determineCacheRetrieveMode( defaultSessionProperties );
 		this.initialSessionCacheMode = CacheModeHelper.interpretCacheMode( defaultCacheStoreMode, defaultCacheRetrieveMode );
 		this.discardOnClose = sessionFactoryOptions.isReleaseResourcesOnCloseEnabled();
+		this.persistenceContextOpenAddressing = sessionFactoryOptions.isPersistenceContextOpenAddressingEnabled();
+		this.incrementalFlush = sessionFactoryOptions.isIncrementalFlushEnabled();
+		this.parallelDirtyCheckThreshold = sessionFactoryOptions.getParallelDirtyCheckThreshold();
+		this.batchFetchPrefetch = sessionFactoryOptions.isBatchFetchPrefetchEnabled();
+		this.entityInsertDependencies = new EntityInsertDependencies( sessionFactory );
 		this.defaultJdbcObservers = new ConnectionObserverStatsBridge( sessionFactory );
 		this.defaultSessionEventListeners = sessionFactoryOptions.getBaselineSessionEventsListenerBuilder();
 		this.defaultLockOptions = initializeDefaultLockOptions( defaultSessionProperties );
@@ -108,6 +108,7 @@ import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 import org.hibernate.service.spi.SessionFactoryServiceRegistryFactory;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.Type;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -894,6 +895,15 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 				( (MappingMetamodelImpl) runtimeMetamodels.getMappingMetamodel() ).close();
 			}
 
+			if ( identifierGenerators != null ) {
+				// for example, release the threads prefetching sequence values
+				for ( Generator generator : identifierGenerators.values() ) {
+					if ( generator instanceof Stoppable ) {
+						( (Stoppable) generator ).stop();
+					}
+				}
+			}
+
 			if ( queryEngine != null ) {
 				queryEngine.close();
 			}
@@ -6,13 +6,19 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import jakarta.persistence.EntityGraph;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -33,6 +39,7 @@ import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
@@ -95,7 +102,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		return performInsert( getEntityPersister( entityName, entity ), entity );
+	}
+
+	private Object performInsert(EntityPersister persister, Object entity) {
 		final Object id;
 		final Object[] state = persister.getValues( entity );
 		final Generator generator = persister.getGenerator();
@@ -127,7 +137,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		performDelete( getEntityPersister( entityName, entity ), entity );
+	}
+
+	private void performDelete(EntityPersister persister, Object entity) {
 		final Object id = persister.getIdentifier( entity, this );
 		final Object version = persister.getVersion( entity );
 		persister.delete( id, version, entity, this );
@@ -151,7 +164,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		performUpdate( getEntityPersister( entityName, entity ), entity );
+	}
+
+	private void performUpdate(EntityPersister persister, Object entity) {
 		final Object id = persister.getIdentifier( entity, this );
 		final Object[] state = persister.getValues( entity );
 		final Object oldVersion;
@@ -170,7 +186,10 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
-		final EntityPersister persister = getEntityPersister( entityName, entity );
+		performUpsert( getEntityPersister( entityName, entity ), entity );
+	}
+
+	private void performUpsert(EntityPersister persister, Object entity) {
 		Object id = persister.getIdentifier( entity, this );
 		Boolean knownTransient = persister.isTransient( entity, this );
 		if ( knownTransient!=null && knownTransient ) {
@@ -205,6 +224,53 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		forEachByEntityPersister( entities, this::performInsert );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		forEachByEntityPersister( entities, this::performUpdate );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		forEachByEntityPersister( entities, this::performDelete );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		checkOpen();
+		forEachByEntityPersister( entities, this::performUpsert );
+	}
+
+	/**
+	 * Apply the operation to the entities grouped by persister, so that the
+	 * statements for each entity type end up in a single JDBC batch, instead
+	 * of the batch being executed whenever the entity type changes. Then
+	 * execute the last batch.
+	 */
+	private void forEachByEntityPersister(List<?> entities, BiConsumer<EntityPersister, Object> operation) {
+		final Map<EntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), persister -> new ArrayList<>() )
+					.add( entity );
+		}
+		entitiesByPersister.forEach( (persister, group) -> {
+			for ( Object entity : group ) {
+				operation.accept( persister, entity );
+			}
+		} );
+		getJdbcCoordinator().executeBatch();
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -258,6 +324,61 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<T> results = (List<T>) getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), this, StatelessMultiIdLoadOptions.INSTANCE );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return results;
+	}
+
+	/**
+	 * Options for loading by multiple ids without a persistence context:
+	 * there is nothing to check before hitting the database.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	private EntityPersister getEntityPersister(String entityName) {
 		return getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
 	}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A probabilistic estimate of how often keys have been accessed recently: a
+ * count-min sketch of 4-bit counters, periodically halved so that old
+ * popularity fades away.  Used by {@link WindowTinyLfuPolicy} to decide
+ * whether a new entry is worth keeping at the expense of an existing one.
+ * <p>
+ * Each {@code long} of the table holds sixteen counters.  An element uses
+ * four counters, located in four different slots of the table and selected
+ * by four independent hash functions.
+ * <p>
+ * Not thread-safe, callers must synchronize externally.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	private static final int MAX_FREQUENCY = 15;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		final int size = Math.max( maximumSize, 64 );
+		this.table = new long[ MathHelper.ceilingPowerOfTwo( size ) ];
+		this.tableMask = table.length - 1;
+		this.sampleSize = 10 * size;
+	}
+
+	/**
+	 * The estimated number of recent accesses of the element, at most 15.
+	 */
+	int frequency(Object element) {
+		final int hash = spread( element.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = MAX_FREQUENCY;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access of the element, aging all the counters once enough
+	 * accesses have been recorded.
+	 */
+	void increment(Object element) {
+		final int hash = spread( element.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++additions == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Halve every counter.  The odd counters lose their remainder, which is
+	 * accounted for when adjusting the number of additions.
+	 */
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions = ( additions - ( odd >>> 2 ) ) >>> 1;
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	private static int spread(int x) {
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
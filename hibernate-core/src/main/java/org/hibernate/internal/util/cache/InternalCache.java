@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Function;
+
+/**
+ * Contract for the bounded, concurrent caches Hibernate keeps for its own
+ * internal needs, for example the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache}.
+ * <p>
+ * Implementations are expected to be safe for concurrent use, and to evict
+ * entries on their own once the size they were created with is exceeded.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached values
+ *
+ * @see InternalCacheFactory
+ */
+public interface InternalCache<K, V> {
+
+	/**
+	 * The number of entries currently held.  Depending on the implementation
+	 * this might be an approximation, and should not be relied on for exact
+	 * accounting.
+	 */
+	int heuristicCount();
+
+	/**
+	 * The cached value for the given key, or {@code null} if there is none.
+	 */
+	V get(K key);
+
+	/**
+	 * Cache the value under the given key, replacing any existing value.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * The cached value for the given key, creating and caching it using the
+	 * given function if there is none.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * Discard all the cached entries.
+	 */
+	void clear();
+
+	/**
+	 * The number of lookups which found a cached value, or {@code -1} if
+	 * this cache does not count them.
+	 */
+	default long getHitCount() {
+		return -1;
+	}
+
+	/**
+	 * The number of lookups which did not find a cached value, or {@code -1}
+	 * if this cache does not count them.
+	 */
+	default long getMissCount() {
+		return -1;
+	}
+
+	/**
+	 * The number of entries discarded to keep the cache within its maximum
+	 * size, or {@code -1} if this cache does not count them.
+	 */
+	default long getEvictionCount() {
+		return -1;
+	}
+}
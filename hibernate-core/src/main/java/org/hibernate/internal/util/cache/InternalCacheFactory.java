@@ -0,0 +1,24 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+/**
+ * Creates the {@link InternalCache} instances.
+ * <p>
+ * An implementation is selected using
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION}.
+ *
+ * @see LegacyInternalCacheFactory
+ * @see TinyLfuInternalCacheFactory
+ */
+public interface InternalCacheFactory {
+
+	/**
+	 * Create a new cache which keeps roughly {@code maxSize} entries at most.
+	 */
+	<K, V> InternalCache<K, V> createInternalCache(int maxSize);
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.hibernate.internal.util.MathHelper;
+
+/**
+ * A lossy buffer recording reads so that the eviction policy can be updated
+ * later, in batches, rather than on every read.  Producers are spread over
+ * several ring buffers to avoid contending on a single one, and simply drop
+ * the element when their ring buffer is full or contended: losing a few
+ * accesses only makes the policy slightly less accurate.
+ * <p>
+ * Any number of threads may {@linkplain #offer offer} elements, but only one
+ * thread at a time may {@linkplain #drainTo drain} the buffer.
+ */
+final class StripedReadBuffer<E> {
+	static final int SUCCESS = 0;
+	static final int FAILED = 1;
+	static final int FULL = 2;
+
+	private static final int STRIPE_SIZE = 16;
+	private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+	private static final int MAX_STRIPES = 64;
+
+	private final Stripe<E>[] stripes;
+	private final int stripeMask;
+
+	@SuppressWarnings("unchecked")
+	StripedReadBuffer() {
+		final int count = Math.min(
+				MathHelper.ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() * 2 ),
+				MAX_STRIPES
+		);
+		stripes = new Stripe[count];
+		for ( int i = 0; i < count; i++ ) {
+			stripes[i] = new Stripe<>();
+		}
+		stripeMask = count - 1;
+	}
+
+	/**
+	 * Record the element, returning {@link #SUCCESS}, {@link #FAILED} if the
+	 * element was dropped because of contention, or {@link #FULL} if the
+	 * element was dropped because the buffer needs draining.
+	 */
+	int offer(E element) {
+		final Stripe<E> stripe = stripes[ stripeIndex() ];
+		final long head = stripe.readCounter;
+		final long tail = stripe.writeCounter.get();
+		if ( tail - head >= STRIPE_SIZE ) {
+			return FULL;
+		}
+		if ( stripe.writeCounter.compareAndSet( tail, tail + 1 ) ) {
+			stripe.buffer.lazySet( (int) ( tail & STRIPE_MASK ), element );
+			return SUCCESS;
+		}
+		return FAILED;
+	}
+
+	/**
+	 * Pass every recorded element to the consumer, emptying the buffer.
+	 */
+	void drainTo(Consumer<E> consumer) {
+		for ( Stripe<E> stripe : stripes ) {
+			long head = stripe.readCounter;
+			final long tail = stripe.writeCounter.get();
+			for ( ; head < tail; head++ ) {
+				final int index = (int) ( head & STRIPE_MASK );
+				final E element = stripe.buffer.get( index );
+				if ( element == null ) {
+					// the producer claimed the slot but did not publish the element yet
+					break;
+				}
+				stripe.buffer.lazySet( index, null );
+				consumer.accept( element );
+			}
+			stripe.readCounter = head;
+		}
+	}
+
+	private int stripeIndex() {
+		long id = Thread.currentThread().getId();
+		id ^= id >>> 17;
+		id *= 0x9e3779b97f4a7c15L;
+		return (int) ( id >>> 32 ) & stripeMask;
+	}
+
+	private static final class Stripe<E> {
+		private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>( STRIPE_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+	}
+}
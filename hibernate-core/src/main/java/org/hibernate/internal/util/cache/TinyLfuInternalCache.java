@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded {@link InternalCache} using the {@linkplain WindowTinyLfuPolicy W-TinyLFU}
+ * eviction policy, which keeps one-off queries from flushing out the frequently used ones.
+ * <p>
+ * The entries live in a {@link ConcurrentHashMap}, so that reads never lock, and the policy
+ * is only locked when an entry is added, or when enough reads were buffered.
+ * <p>
+ * Hits, misses and evictions are counted.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached values
+ */
+public final class TinyLfuInternalCache<K, V> implements InternalCache<K, V> {
+	private final ConcurrentHashMap<K, Node<V>> data;
+	private final WindowTinyLfuPolicy<Node<V>> policy;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	public TinyLfuInternalCache(int maximumSize) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maximumSize );
+		}
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.policy = new WindowTinyLfuPolicy<>(
+				maximumSize,
+				maximumSize,
+				node -> data.get( node.getKey() ) == node,
+				node -> data.remove( node.getKey(), node )
+		);
+	}
+
+	@Override
+	public int heuristicCount() {
+		return data.size();
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<V> node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		policy.recordRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<V> node = new Node<>( key, value );
+		while ( true ) {
+			final Node<V> existing = data.putIfAbsent( key, node );
+			if ( existing == null ) {
+				policy.recordWrite( node );
+				return;
+			}
+			existing.value = value;
+			if ( data.get( key ) == existing ) {
+				policy.recordRead( existing );
+				return;
+			}
+			// the existing entry was evicted or removed concurrently,
+			// and the value written to it would be lost
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<V> existing = data.get( key );
+		if ( existing != null ) {
+			hitCount.increment();
+			policy.recordRead( existing );
+			return existing.value;
+		}
+
+		missCount.increment();
+		final Object[] created = new Object[1];
+		final Node<V> node = data.computeIfAbsent(
+				key,
+				k -> {
+					final Node<V> newNode = new Node<>( k, mappingFunction.apply( k ) );
+					created[0] = newNode;
+					return newNode;
+				}
+		);
+		if ( created[0] == node ) {
+			policy.recordWrite( node );
+		}
+		else {
+			policy.recordRead( node );
+		}
+		return node.value;
+	}
+
+	@Override
+	public void clear() {
+		policy.clear( data::clear );
+	}
+
+	/**
+	 * The number of lookups which found a cached value.
+	 */
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of lookups which did not find a cached value.
+	 */
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * The number of entries discarded to keep the cache within its maximum size.
+	 */
+	@Override
+	public long getEvictionCount() {
+		return policy.getEvictionCount();
+	}
+
+	private static final class Node<V> extends WindowTinyLfuPolicy.Node {
+		private volatile V value;
+
+		private Node(Object key, V value) {
+			super( key, 1 );
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+/**
+ * Creates {@link TinyLfuInternalCache}s, which offer lock-free reads and are
+ * better suited than the {@linkplain LegacyInternalCacheFactory default} to
+ * highly concurrent access.
+ */
+public class TinyLfuInternalCacheFactory implements InternalCacheFactory {
+	public static final String SHORT_NAME = "tinylfu";
+	public static final TinyLfuInternalCacheFactory INSTANCE = new TinyLfuInternalCacheFactory();
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(int maxSize) {
+		return new TinyLfuInternalCache<>( maxSize );
+	}
+}
@@ -0,0 +1,362 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The W-TinyLFU eviction policy of a bounded cache, shared by {@link TinyLfuInternalCache}
+ * and the {@code LocalStorageAccess} of the local region factory.
+ * <p>
+ * The cache holds its entries in a concurrent map of its own, and tells the policy about
+ * each {@linkplain #recordRead read}, {@linkplain #recordWrite write} and
+ * {@linkplain #recordRemoval removal} of a {@link Node}.
+ * <p>
+ * New entries are kept in a small LRU "window", and the bulk of the entries in a segmented
+ * LRU "main" space made of a probation and a protected segment.  When the window overflows,
+ * its oldest entry becomes a candidate for the main space, and is only admitted at the
+ * expense of the main space's least valuable entry when its estimated access
+ * {@linkplain FrequencySketch frequency} is higher.  This keeps one-off accesses from
+ * flushing out the frequently used entries.  Entries of the probation segment which are
+ * accessed again are promoted to the protected segment.
+ * <p>
+ * Reads never block: they are recorded in a lossy {@link StripedReadBuffer}, which is
+ * replayed against the policy in batches, by whichever thread manages to acquire the policy
+ * lock when the buffer fills up, or when an entry is written.
+ *
+ * @param <N> The type of the nodes of the cache
+ */
+public final class WindowTinyLfuPolicy<N extends WindowTinyLfuPolicy.Node> {
+	private static final int MAXIMUM_SKETCH_SIZE = 1 << 18;
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+	private static final byte UNLINKED = -1;
+
+	private final Predicate<N> liveness;
+	private final Consumer<N> evictionListener;
+	private final StripedReadBuffer<N> readBuffer = new StripedReadBuffer<>();
+	private final LongAdder evictionCount = new LongAdder();
+
+	// the policy itself, guarded by the lock
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderQueue window = new AccessOrderQueue();
+	private final AccessOrderQueue probation = new AccessOrderQueue();
+	private final AccessOrderQueue protectedSegment = new AccessOrderQueue();
+	private final long maximumWeight;
+	private final long maximumWindowWeight;
+	private final long maximumProtectedWeight;
+	private long totalWeight;
+	private long windowWeight;
+	private long protectedWeight;
+
+	/**
+	 * @param maximumWeight The maximum total {@linkplain Node#getWeight() weight} of the
+	 * entries, or a negative value for no limit
+	 * @param expectedEntries The expected number of entries, used to size the frequency sketch
+	 * @param liveness Whether a written node is still held by the cache, since it may have
+	 * been replaced or removed concurrently
+	 * @param evictionListener Called, under the policy lock, with each node evicted by the
+	 * policy, which the cache must then discard
+	 */
+	public WindowTinyLfuPolicy(
+			long maximumWeight,
+			long expectedEntries,
+			Predicate<N> liveness,
+			Consumer<N> evictionListener) {
+		this.maximumWeight = maximumWeight < 0 ? Long.MAX_VALUE : maximumWeight;
+		this.maximumWindowWeight = Math.max( 1, this.maximumWeight / 100 );
+		this.maximumProtectedWeight = (long) ( ( this.maximumWeight - maximumWindowWeight ) * 0.8 );
+		this.liveness = liveness;
+		this.evictionListener = evictionListener;
+		this.sketch = new FrequencySketch( (int) Math.min( Math.max( expectedEntries, 1 ), MAXIMUM_SKETCH_SIZE ) );
+	}
+
+	/**
+	 * Record a read of the node
+	 */
+	public void recordRead(N node) {
+		if ( readBuffer.offer( node ) == StripedReadBuffer.FULL && lock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Record that the node was added to the cache, and evict entries if the cache is now
+	 * too large.  The node is ignored if it is no longer {@linkplain #liveness live}.
+	 *
+	 * @return whether the node is now subject to eviction, as opposed to ignored
+	 */
+	public boolean recordWrite(N node) {
+		lock.lock();
+		try {
+			drainReadBuffer();
+			if ( isRetired( node ) || !liveness.test( node ) ) {
+				return false;
+			}
+			link( node );
+			evictEntries();
+			return true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Record that the node was removed from the cache, by some other means than an eviction
+	 * by this policy
+	 *
+	 * @return whether the node was subject to eviction until now
+	 */
+	public boolean recordRemoval(N node) {
+		lock.lock();
+		try {
+			return unlink( node );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Forget every node, while the given action clears the entries of the cache
+	 */
+	public void clear(Runnable clearEntries) {
+		lock.lock();
+		try {
+			readBuffer.drainTo( node -> {} );
+			clearEntries.run();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			totalWeight = 0;
+			windowWeight = 0;
+			protectedWeight = 0;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries evicted to keep the cache within its maximum weight
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	private void drainReadBuffer() {
+		readBuffer.drainTo( this::onAccess );
+	}
+
+	private void onAccess(Node node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				// a second access promotes the entry to the protected segment
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedWeight += node.weight;
+				while ( protectedWeight > maximumProtectedWeight ) {
+					final Node demoted = protectedSegment.first;
+					protectedSegment.remove( demoted );
+					protectedWeight -= demoted.weight;
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSegment.moveToLast( node );
+				break;
+			default:
+				// not written yet, or already removed
+		}
+	}
+
+	private static boolean isRetired(Node node) {
+		return node.retired;
+	}
+
+	private void link(Node node) {
+		node.queue = WINDOW;
+		window.addLast( node );
+		windowWeight += node.weight;
+		totalWeight += node.weight;
+		sketch.increment( node.key );
+	}
+
+	private boolean unlink(Node node) {
+		node.retired = true;
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.weight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedWeight -= node.weight;
+				break;
+			default:
+				return false;
+		}
+		node.queue = UNLINKED;
+		totalWeight -= node.weight;
+		return true;
+	}
+
+	private void evictEntries() {
+		// entries overflowing the window become candidates at the tail of probation
+		int candidates = 0;
+		while ( windowWeight > maximumWindowWeight ) {
+			final Node node = window.first;
+			window.remove( node );
+			windowWeight -= node.weight;
+			node.queue = PROBATION;
+			probation.addLast( node );
+			candidates++;
+		}
+
+		while ( totalWeight > maximumWeight ) {
+			final Node victim = probation.first;
+			final Node candidate = candidates > 0 ? probation.last : null;
+			if ( victim == null ) {
+				// everything is either in the window or protected
+				evict( protectedSegment.first == null ? window.first : protectedSegment.first );
+			}
+			else if ( candidate == null || candidate == victim ) {
+				evict( victim );
+				candidates = Math.max( 0, candidates - 1 );
+			}
+			else {
+				// admit the candidate only if it is more popular than the victim
+				candidates--;
+				if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evict( victim );
+				}
+				else {
+					evict( candidate );
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void evict(Node node) {
+		unlink( node );
+		evictionCount.increment();
+		evictionListener.accept( (N) node );
+	}
+
+	/**
+	 * An entry of the cache, as seen by the policy
+	 */
+	public abstract static class Node {
+		private final Object key;
+		private final long weight;
+
+		// guarded by the policy lock
+		private byte queue = UNLINKED;
+		private boolean retired;
+		private Node previous;
+		private Node next;
+
+		/**
+		 * @param key The key of the entry, whose accesses are counted
+		 * @param weight The weight of the entry, for example {@code 1} to bound the number
+		 * of entries of the cache
+		 */
+		protected Node(Object key, long weight) {
+			this.key = key;
+			this.weight = weight;
+		}
+
+		public Object getKey() {
+			return key;
+		}
+
+		public long getWeight() {
+			return weight;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes, ordered from least to most recently used
+	 */
+	private static final class AccessOrderQueue {
+		private Node first;
+		private Node last;
+
+		private void addLast(Node node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		private void moveToLast(Node node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		private void remove(Node node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		private void clear() {
+			Node node = first;
+			while ( node != null ) {
+				final Node next = node.next;
+				node.queue = UNLINKED;
+				node.retired = true;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link java.util.Map} using open addressing with linear probing, meant for
+ * maps holding very many entries keyed by objects with an expensive
+ * {@code equals()} and a cheap, cached {@code hashCode()}, such as
+ * {@link org.hibernate.engine.spi.EntityKey} and
+ * {@link org.hibernate.engine.spi.CollectionKey}.
+ * <p>
+ * Keys and values are stored side by side in a single array, and the spread
+ * hash of each key is kept in a parallel {@code int[]}, where {@code 0} marks
+ * an empty slot, so that:
+ * <ul>
+ *     <li>no node object is allocated per entry, unlike {@link java.util.HashMap},
+ *     <li>probing only reads the compact hash array, and only touches the keys,
+ *         calling {@code equals()}, when the hashes match.
+ * </ul>
+ * Removal uses backward-shift deletion, so the table never contains tombstones.
+ * <p>
+ * Null keys are not supported.  The {@linkplain #keySet() key},
+ * {@linkplain #values() value} and {@linkplain #entrySet() entry} views are
+ * read-only, and their iterators fail fast on concurrent modification.
+ * This class is not thread-safe.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final float LOAD_FACTOR = 0.7f;
+
+	// keys at even indexes, values at the following odd index
+	private Object[] table;
+	// the spread hash of the key of each slot, or 0 for an empty slot
+	private int[] hashes;
+	private int mask;
+	private int threshold;
+	private int size;
+	private int modCount;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should hold without resizing
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		final int needed = (int) Math.ceil( Math.max( expectedSize, 1 ) / (double) LOAD_FACTOR );
+		return Math.max( MINIMUM_CAPACITY, Integer.highestOneBit( needed - 1 ) << 1 );
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity * 2];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		threshold = (int) ( capacity * LOAD_FACTOR );
+	}
+
+	/**
+	 * Scramble the hash so that sequential identifiers don't form long probe
+	 * sequences, never returning {@code 0}, which marks empty slots.
+	 */
+	private static int spread(int hashCode) {
+		final int mixed = hashCode * 0x9E3779B9;
+		final int spread = mixed ^ ( mixed >>> 16 );
+		return spread == 0 ? 1 : spread;
+	}
+
+	/**
+	 * The slot holding the key, or {@code -1}.
+	 */
+	private int find(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int[] hashes = this.hashes;
+		int slot = hash & mask;
+		while ( true ) {
+			final int candidateHash = hashes[slot];
+			if ( candidateHash == 0 ) {
+				return -1;
+			}
+			if ( candidateHash == hash ) {
+				final Object candidate = table[slot << 1];
+				if ( candidate == key || candidate.equals( key ) ) {
+					return slot;
+				}
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && find( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] table = this.table;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			if ( table[i] != null && Objects.equals( table[i + 1], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = find( key );
+		return slot < 0 ? null : (V) table[( slot << 1 ) + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Objects.requireNonNull( key, "Null keys are not supported" );
+		final int hash = spread( key.hashCode() );
+		int slot = hash & mask;
+		while ( true ) {
+			final int index = slot << 1;
+			final int candidateHash = hashes[slot];
+			if ( candidateHash == 0 ) {
+				table[index] = key;
+				table[index + 1] = value;
+				hashes[slot] = hash;
+				modCount++;
+				if ( ++size > threshold ) {
+					resize();
+				}
+				return null;
+			}
+			final Object candidate = table[index];
+			if ( candidateHash == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				final V previous = (V) table[index + 1];
+				table[index + 1] = value;
+				return previous;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	private void resize() {
+		final Object[] oldTable = table;
+		final int[] oldHashes = hashes;
+		allocate( oldHashes.length * 2 );
+		for ( int oldSlot = 0; oldSlot < oldHashes.length; oldSlot++ ) {
+			final int hash = oldHashes[oldSlot];
+			if ( hash != 0 ) {
+				int slot = hash & mask;
+				while ( hashes[slot] != 0 ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				table[slot << 1] = oldTable[oldSlot << 1];
+				table[( slot << 1 ) + 1] = oldTable[( oldSlot << 1 ) + 1];
+				hashes[slot] = hash;
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = find( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final V previous = (V) table[( slot << 1 ) + 1];
+		removeSlot( slot );
+		return previous;
+	}
+
+	/**
+	 * Empty the slot, then shift back any following entry of the same probe
+	 * sequence which would otherwise become unreachable.
+	 */
+	private void removeSlot(int slot) {
+		int gap = slot;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final int hash = hashes[next];
+			if ( hash == 0 ) {
+				break;
+			}
+			final int ideal = hash & mask;
+			// the entry may move to the gap if the gap lies between its ideal slot and its current slot
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - gap ) & mask ) ) {
+				table[gap << 1] = table[next << 1];
+				table[( gap << 1 ) + 1] = table[( next << 1 ) + 1];
+				hashes[gap] = hash;
+				gap = next;
+			}
+		}
+		table[gap << 1] = null;
+		table[( gap << 1 ) + 1] = null;
+		hashes[gap] = 0;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( table, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final Object[] table = this.table;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			if ( table[i] != null ) {
+				action.accept( (K) table[i], (V) table[i + 1] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(Object[] table, int index) {
+						return (K) table[index];
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(Object[] table, int index) {
+						return (V) table[index + 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					Entry<K, V> element(Object[] table, int index) {
+						return new SimpleImmutableEntry<>( (K) table[index], (V) table[index + 1] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private final Object[] table = OpenAddressingHashMap.this.table;
+		private final int expectedModCount = modCount;
+		private int index = advance( 0 );
+
+		abstract T element(Object[] table, int index);
+
+		private int advance(int from) {
+			int i = from;
+			while ( i < table.length && table[i] == null ) {
+				i += 2;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < table.length;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( index >= table.length ) {
+				throw new NoSuchElementException();
+			}
+			final T element = element( table, index );
+			index = advance( index + 2 );
+			return element;
+		}
+	}
+}
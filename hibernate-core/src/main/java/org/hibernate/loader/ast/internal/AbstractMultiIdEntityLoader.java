@@ -6,14 +6,20 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base support for {@link MultiIdEntityLoader} implementations.
@@ -50,6 +56,11 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 
 	@Override
 	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		return load( ids, loadOptions, (SharedSessionContractImplementor) session );
+	}
+
+	@Override
+	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		assert ids != null;
 		if ( loadOptions.isOrderReturnEnabled() ) {
 			return performOrderedMultiLoad( ids, loadOptions, session );
@@ -59,8 +70,46 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		}
 	}
 
-	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
+
+	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
 
-	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	/**
+	 * Read the second-level cache entries of the entities with the given ids, except those
+	 * already associated with the session, with a single bulk read of the second-level cache.
+	 *
+	 * @return the cache entries by entity key, or {@code null} if the second-level cache is
+	 * not to be checked
+	 *
+	 * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(org.hibernate.event.spi.LoadEvent, org.hibernate.persister.entity.EntityPersister, EntityKey, Map)
+	 */
+	protected Map<EntityKey, Object> getFromSecondLevelCache(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final EntityKey entityKey = new EntityKey(
+					coerce ? getIdentifierMapping().getJavaType().coerce( id, session ) : id,
+					getLoadable().getEntityPersister()
+			);
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session.asEventSource(),
+				lockOptions.getLockMode(),
+				getLoadable().getEntityPersister(),
+				entityKeys
+		);
+	}
 
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -32,6 +36,7 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -207,6 +212,50 @@ public class CacheEntityLoaderHelper {
 				entityKey
 		);
 
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Attempts to load the entity from the cache entries previously read by
+	 * {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, Collection)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntries The cache entries read from the second-level cache, or
+	 * {@code null} if they were not read, in which case the second-level cache is
+	 * checked for this entity alone
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cacheEntries) {
+		if ( cacheEntries == null ) {
+			return loadFromSecondLevelCache( event, persister, entityKey );
+		}
+
+		final Object ce = cacheEntries.get( entityKey );
+		if ( ce == null ) {
+			// nothing was found in cache
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				ce,
+				event.getSession(),
+				entityKey
+		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
@@ -218,7 +267,6 @@ public class CacheEntityLoaderHelper {
 					.getFastSessionServices()
 					.firePostLoadEvent( postLoadEvent );
 		}
-		return entity;
 	}
 
 	/**
@@ -259,6 +307,76 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Reads the cache entries of the given entities with a single bulk read of the
+	 * second-level cache. The entries are turned into entities by
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Map)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The cache entries found, by entity key, or null if the second-level
+	 * cache cannot be used.
+	 */
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys) {
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey =
+				new HashMap<>( CollectionHelper.determineProperSizing( entityKeys.size() ) );
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+			entityKeysByCacheKey.put( ck, entityKey );
+		}
+
+		final Map<Object, Object> cachedValues =
+				CacheHelper.fromSharedCache( source, entityKeysByCacheKey.keySet(), cache );
+		final Map<EntityKey, Object> cacheEntries =
+				new HashMap<>( CollectionHelper.determineProperSizing( cachedValues.size() ) );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( Map.Entry<Object, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+			final Object ce = cachedValues.get( entry.getKey() );
+			if ( ce != null ) {
+				cacheEntries.put( entry.getValue(), ce );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+		}
+		return cacheEntries;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -299,7 +417,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the cached entry was written for a different mapping of the entity
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
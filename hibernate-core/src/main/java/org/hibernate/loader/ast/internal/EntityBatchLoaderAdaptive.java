@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * An {@link EntityBatchLoader} which chooses, for each batch, between an
+ * {@link EntityBatchLoaderInPredicate} and an {@link EntityBatchLoaderArrayParam},
+ * based on the number of ids actually collected for the batch.
+ * <p>
+ * A batch which fits into the {@linkplain EntityBatchLoaderInPredicate#getSqlBatchSize()
+ * SQL batch size} of the {@code IN} predicate is initialized by a single execution of
+ * that statement.  A larger batch, which would need several executions of the
+ * {@code IN} predicate statement, is initialized by a single execution of the
+ * statement binding all its ids as one array parameter.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class EntityBatchLoaderAdaptive<T> extends AbstractEntityBatchLoader<T> {
+	private final int domainBatchSize;
+
+	private final EntityBatchLoaderInPredicate<T> inPredicateLoader;
+	private final EntityBatchLoaderArrayParam<T> arrayParamLoader;
+
+	/**
+	 * @param domainBatchSize The maximum number of entities we will initialize for each load
+	 */
+	public EntityBatchLoaderAdaptive(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
+		super( entityDescriptor, sessionFactory );
+		this.domainBatchSize = domainBatchSize;
+		this.inPredicateLoader = new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, sessionFactory );
+		this.arrayParamLoader = new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, sessionFactory );
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return domainBatchSize;
+	}
+
+	@Override
+	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return load( pkValue, null, lockOptions, readOnly, session );
+	}
+
+	@Override
+	protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session) {
+		// a trimmed array of the identifier type, suitable for both loaders
+		return arrayParamLoader.resolveIdsToInitialize( id, session );
+	}
+
+	@Override
+	protected void initializeEntities(
+			Object[] idsToInitialize,
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final AbstractEntityBatchLoader<T> loader =
+				idsToInitialize.length <= inPredicateLoader.getSqlBatchSize() ? inPredicateLoader : arrayParamLoader;
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf(
+					"Batch fetching %s `%s` entities using %s",
+					idsToInitialize.length,
+					getLoadable().getEntityName(),
+					loader
+			);
+		}
+		loader.initializeEntities( idsToInitialize, pkValue, entityInstance, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"EntityBatchLoaderAdaptive(%s [%s (%s)])",
+				getLoadable().getEntityName(),
+				domainBatchSize,
+				inPredicateLoader.getSqlBatchSize()
+		);
+	}
+}
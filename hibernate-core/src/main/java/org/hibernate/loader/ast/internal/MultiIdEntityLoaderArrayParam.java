@@ -9,6 +9,7 @@ package org.hibernate.loader.ast.internal;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -18,8 +19,8 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
-import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -70,7 +71,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	}
 
 	@Override
-	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+	protected <K> List<E> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performOrderedMultiLoad - %s",
@@ -87,6 +88,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
 
+		final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -103,7 +105,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 						id,
 						getLoadable().getJavaType().getJavaTypeClass().getName(),
 						lockOptions,
-						session,
+						session.asEventSource(),
 						LoaderHelper.getReadOnlyFromLoadQueryInfluencers(session)
 				);
 
@@ -132,7 +134,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries
 					);
 				}
 
@@ -226,7 +229,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 	protected <K> List<E> performUnorderedMultiLoad(
 			K[] ids,
 			MultiIdLoadOptions loadOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
 			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
 					"MultiIdEntityLoaderArrayParam#performUnorderedMultiLoad - %s",
@@ -305,7 +308,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			ResolutionConsumer<R> resolutionConsumer,
 			@NonNull MultiIdLoadOptions loadOptions,
 			@NonNull LockOptions lockOptions,
-			EventSource session) {
+			SharedSessionContractImplementor session) {
 		if ( !loadOptions.isSessionCheckingEnabled()
 				&& !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// we'll load all of them from the database
@@ -316,6 +319,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -332,7 +336,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					id,
 					getLoadable().getJavaType().getJavaTypeClass().getName(),
 					lockOptions,
-					session,
+					session.asEventSource(),
 					LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
 			);
 
@@ -360,7 +364,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 						loadEvent,
 						getLoadable().getEntityPersister(),
-						entityKey
+						entityKey,
+						cacheEntries
 				);
 			}
 
@@ -29,6 +29,14 @@ public class MultiKeyLoadHelper {
 		return dialect.useArrayForMultiValuedParameters();
 	}
 
+	/**
+	 * Whether the database is able to bind a single array parameter for multiple
+	 * keys, even if it does not {@linkplain #supportsSqlArrayType prefer} it
+	 */
+	public static boolean supportsSqlArrayParameter(Dialect dialect) {
+		return dialect.supportsStandardArrays() && dialect.getPreferredSqlTypeCodeForArray() == SqlTypes.ARRAY;
+	}
+
 	public static JdbcMapping resolveArrayJdbcMapping(
 			BasicType<?> arrayBasicType,
 			JdbcMapping keyMapping,
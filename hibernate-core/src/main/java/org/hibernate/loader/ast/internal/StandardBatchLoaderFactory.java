@@ -8,8 +8,11 @@ package org.hibernate.loader.ast.internal;
 
 import java.util.Map;
 
+import org.hibernate.cfg.FetchSettings;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
@@ -19,6 +22,7 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayParameter;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -27,8 +31,11 @@ import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlAr
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final boolean adaptive;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptive = ConfigurationHelper.getBoolean( FetchSettings.ADAPTIVE_BATCH_FETCH, configurationValues );
 	}
 
 	@Override
@@ -38,8 +45,16 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 
 		// NOTE : don't use the EntityIdentifierMapping here because it will not be known until later
 		final Type identifierType = entityDescriptor.getEntityPersister().getIdentifierType();
-		if ( identifierType.getColumnSpan( factory ) == 1
-				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		if ( adaptive
+				&& identifierType.getColumnSpan( factory ) == 1
+				&& supportsSqlArrayParameter( dialect )
+				&& identifierType instanceof BasicType ) {
+			// we can choose between an ARRAY parameter and an IN predicate for each batch
+			return new EntityBatchLoaderAdaptive<>( domainBatchSize, entityDescriptor, factory );
+		}
+		else if ( identifierType.getColumnSpan( factory ) == 1
+				&& supportsSqlArrayType( dialect )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
 			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, factory );
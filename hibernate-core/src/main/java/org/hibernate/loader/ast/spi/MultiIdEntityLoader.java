@@ -8,6 +8,7 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -18,4 +19,20 @@ public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id on behalf of a session which might not be an
+	 * {@link EventSource}, for example, a {@link org.hibernate.StatelessSession}.
+	 * The session must be an {@code EventSource} if the options enable
+	 * {@linkplain MultiIdLoadOptions#isSessionCheckingEnabled() session} or
+	 * {@linkplain MultiIdLoadOptions#isSecondLevelCacheCheckingEnabled() second-level
+	 * cache} checking.
+	 * <p>
+	 * The default implementation only accepts an {@code EventSource}.
+	 *
+	 * @since 6.4
+	 */
+	default <K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session) {
+		return load( ids, options, session.asEventSource() );
+	}
 }
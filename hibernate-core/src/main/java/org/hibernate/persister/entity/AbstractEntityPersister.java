@@ -63,6 +63,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -1184,9 +1185,15 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this );
+			}
+			else if ( options.isCompactCacheEntriesEnabled() ) {
+				return new CompactCacheEntryHelper( this );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1540,13 +1547,15 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
-				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
-					// The following should be redundant, since the setter should have set this already.
-					// interceptor.attributeInitialized(fieldName);
-
-					// NOTE EARLY EXIT!!!
-					return initializedValue;
+				if ( cacheEntry != null ) {
+					final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+					if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+						// The following should be redundant, since the setter should have set this already.
+						// interceptor.attributeInitialized(fieldName);
+
+						// NOTE EARLY EXIT!!!
+						return initializedValue;
+					}
 				}
 			}
 		}
@@ -3785,6 +3794,11 @@ public abstract class AbstractEntityPersister
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiIdLoader.load( ids, loadOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -4872,6 +4886,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -603,6 +604,40 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier simultaneously,
+	 * on behalf of a session which might not be an {@link EventSource}, for example,
+	 * a {@link org.hibernate.StatelessSession}. In that case, the options must disable
+	 * session and second-level cache checking.
+	 * <p>
+	 * The default implementation loads the entities one at a time, unless the session
+	 * is an {@link EventSource}.
+	 *
+	 * @param ids The identifiers to load
+	 * @param session The originating session
+	 * @param loadOptions The options for loading
+	 *
+	 * @return The loaded, matching entities
+	 *
+	 * @since 6.4
+	 */
+	default List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		if ( session.isEventSource() ) {
+			return multiLoad( ids, session.asEventSource(), loadOptions );
+		}
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? LockOptions.NONE
+				: loadOptions.getLockOptions();
+		final List<Object> results = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final Object entity = load( id, null, lockOptions, session );
+			if ( entity != null || loadOptions.isOrderReturnEnabled() ) {
+				results.add( entity );
+			}
+		}
+		return results;
+	}
+
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
 		throw new UnsupportedOperationException(
@@ -6,6 +6,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.sql.model.MutationOperation;
@@ -18,9 +20,19 @@ import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
  * @author Gavin King
  */
 public class MergeCoordinator extends UpdateCoordinatorStandard {
+	// merges must never be added to a batch of plain updates of the same entity
+	private final BatchKey batchKey;
 
 	public MergeCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super(entityPersister, factory);
+		this.batchKey = entityPersister.hasUpdateGeneratedProperties()
+				? null
+				: new BasicBatchKey( entityPersister.getEntityName() + "#MERGE", null );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
 	}
 
 	@Override
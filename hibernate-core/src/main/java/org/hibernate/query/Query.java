@@ -125,7 +125,9 @@ public interface Query<R> extends SelectionQuery<R>, MutationQuery, TypedQuery<R
 	 * {@linkplain ScrollableResults scrollable form}.
 	 * <p>
 	 * This overload simply calls {@link #scroll(ScrollMode)} using the
-	 * {@linkplain Dialect#defaultScrollMode() dialect default scroll mode}.
+	 * {@linkplain Dialect#defaultScrollMode() dialect default scroll mode},
+	 * or {@link ScrollMode#FORWARD_ONLY} if rows are
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE read ahead}.
 	 *
 	 * @apiNote The exact behavior of this method depends somewhat
 	 *          on the level of JDBC driver support for scrollable
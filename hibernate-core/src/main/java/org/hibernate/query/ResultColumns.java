@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a query in column form, as returned by
+ * {@link SelectionQuery#getResultColumns()}: one column per item
+ * of the {@code select} list, holding one value per result row.
+ * <p>
+ * This form is meant for the export of large scalar projections,
+ * for example, {@code select e.id, e.amount, e.timestamp from Event e}.
+ * When a column holds values of type {@code long}, {@code int} or
+ * {@code double} which are read directly from JDBC, they are stored
+ * without boxing, and {@link #getLongColumn}, {@link #getIntColumn}
+ * and {@link #getDoubleColumn} return the underlying array.
+ *
+ * @see SelectionQuery#getResultColumns()
+ *
+ * @since 6.4
+ */
+@Incubating
+public interface ResultColumns {
+	/**
+	 * The number of columns, that is, of items in the {@code select} list.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The number of result rows, that is, of values in each column.
+	 */
+	int getRowCount();
+
+	/**
+	 * The Java type of the values of the given column.
+	 *
+	 * @param column The zero-based column position
+	 */
+	Class<?> getColumnJavaType(int column);
+
+	/**
+	 * The values of a column of type {@link Long}, as an array of
+	 * length {@link #getRowCount()}, where a null value is
+	 * represented by {@code 0}.
+	 *
+	 * @param column The zero-based column position
+	 *
+	 * @throws IllegalArgumentException if the column does not hold {@code long} values
+	 *
+	 * @see #isNull(int, int)
+	 */
+	long[] getLongColumn(int column);
+
+	/**
+	 * The values of a column of type {@link Integer}, as an array of
+	 * length {@link #getRowCount()}, where a null value is
+	 * represented by {@code 0}.
+	 *
+	 * @param column The zero-based column position
+	 *
+	 * @throws IllegalArgumentException if the column does not hold {@code int} values
+	 *
+	 * @see #isNull(int, int)
+	 */
+	int[] getIntColumn(int column);
+
+	/**
+	 * The values of a column of type {@link Double}, as an array of
+	 * length {@link #getRowCount()}, where a null value is
+	 * represented by {@code 0}.
+	 *
+	 * @param column The zero-based column position
+	 *
+	 * @throws IllegalArgumentException if the column does not hold {@code double} values
+	 *
+	 * @see #isNull(int, int)
+	 */
+	double[] getDoubleColumn(int column);
+
+	/**
+	 * The values of a column of any type, as an array of length
+	 * {@link #getRowCount()}, boxing them if necessary.
+	 *
+	 * @param column The zero-based column position
+	 */
+	Object[] getColumn(int column);
+
+	/**
+	 * The value of the given column in the given row, boxed if necessary.
+	 *
+	 * @param column The zero-based column position
+	 * @param row The zero-based row position
+	 */
+	Object getValue(int column, int row);
+
+	/**
+	 * Whether the value of the given column in the given row is null.
+	 *
+	 * @param column The zero-based column position
+	 * @param row The zero-based row position
+	 */
+	boolean isNull(int column, int row);
+}
@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -20,6 +21,7 @@ import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.EntityGraph;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -114,7 +116,9 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	/**
 	 * Returns scrollable access to the query results.
 	 * <p>
-	 * This form calls {@link #scroll(ScrollMode)} using {@link Dialect#defaultScrollMode()}
+	 * This form calls {@link #scroll(ScrollMode)} using {@link Dialect#defaultScrollMode()},
+	 * or {@link ScrollMode#FORWARD_ONLY} if rows are
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE read ahead}
 	 *
 	 * @apiNote The exact behavior of this method depends somewhat
 	 * on the JDBC driver's {@link java.sql.ResultSet} scrolling support
@@ -162,6 +166,88 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return getResultStream();
 	}
 
+	/**
+	 * Execute the query and return the query results as a {@link Stream},
+	 * like {@link #stream()}, but detaching the entities loaded by the query
+	 * from the persistence context after every {@code window} results, so
+	 * that an arbitrarily large number of results may be processed using a
+	 * bounded amount of memory.
+	 * <p>
+	 * Entities which were already associated with the persistence context
+	 * when the query was executed are left associated with it. Any other
+	 * entity loaded while processing the stream, including associated
+	 * entities and collections, is detached, and so modifications made to
+	 * it after it is detached are not flushed to the database. Detachment
+	 * does not cascade to the entities which are left associated.
+	 * <p>
+	 * Changes made while processing the stream, including entities made
+	 * persistent or removed, are flushed before entities are detached. If
+	 * the {@linkplain Session#getHibernateFlushMode() flush mode} is
+	 * {@link FlushMode#MANUAL}, such changes cause a {@link HibernateException}
+	 * instead, since detaching the entities would lose them.
+	 * <p>
+	 * The client should call {@link Stream#close()} after processing the
+	 * stream so that resources are freed as soon as possible.
+	 *
+	 * @param window the number of results after which the loaded entities
+	 * are detached
+	 *
+	 * @return The results as a {@link Stream}
+	 *
+	 * @see Session#evict(Object)
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	Stream<R> streamDetached(int window);
+
+	/**
+	 * Return a {@link Flow.Publisher} of the query results which executes
+	 * the query when subscribed to, and reads results, detaching loaded
+	 * entities as described in {@link #streamDetached(int)}, only as they
+	 * are {@linkplain Flow.Subscription#request(long) requested}.
+	 * <p>
+	 * The publisher accepts a single subscriber, and delivers the results
+	 * on the thread which requests them. Since the results are read using
+	 * the session, they must be requested by a thread which may use it.
+	 * The query resources are freed when the last result is delivered,
+	 * or when the subscription is {@linkplain Flow.Subscription#cancel()
+	 * cancelled}.
+	 *
+	 * @param window the number of results after which the loaded entities
+	 * are detached
+	 *
+	 * @return a {@link Flow.Publisher} of the results
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	Flow.Publisher<R> publishDetached(int window);
+
+	/**
+	 * Execute the query and return the query results in column form,
+	 * with one column per item in the selection list.
+	 * <p>
+	 * When every item in the selection list is of basic type, the values
+	 * are read directly from the JDBC {@link java.sql.ResultSet}, without
+	 * assembling a row for each result. In particular, columns of type
+	 * {@code long}, {@code int} and {@code double} are read without boxing.
+	 * Otherwise, or when the query has a
+	 * {@linkplain TupleTransformer tuple transformer} or a
+	 * {@linkplain ResultListTransformer result list transformer},
+	 * the results are read row by row, as by {@link #list()}, and then
+	 * transposed.
+	 * <p>
+	 * Results read directly in column form are never taken from, or added to,
+	 * the {@linkplain #setCacheable(boolean) query cache}.
+	 *
+	 * @return the results in column form
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	ResultColumns getResultColumns();
+
 	/**
 	 * Execute the query and return the single result of the query,
 	 * or {@code null} if the query returns no results.
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link CloseableIterator} over {@link ScrollableResultsImplementor scrollable results}
+ * which detaches the entities loaded while reading the results from the session, each
+ * time the given number of results were consumed, so that the persistence context does
+ * not grow with the number of results.
+ * <p>
+ * Only the entities which were not managed before the results were scrolled are detached,
+ * along with their collections. The detachment does not cascade, so that the entities
+ * managed beforehand are never detached. Before detaching entities, the session is
+ * {@linkplain SessionImplementor#flush() flushed} if it holds changes which were not
+ * written yet, so that changes made while consuming the results are not lost. If the
+ * session is in {@link FlushMode#MANUAL} mode, a {@link HibernateException} is thrown
+ * instead.
+ *
+ * @see org.hibernate.query.SelectionQuery#streamDetached(int)
+ *
+ * @since 6.4
+ */
+@Incubating
+public class DetachingResultsIterator<T> implements CloseableIterator<T> {
+	private final ScrollableResultsImplementor<T> scrollableResults;
+	private final SharedSessionContractImplementor session;
+	private final int window;
+	private final Set<Object> retainedEntities;
+
+	private int position;
+
+	/**
+	 * @param retainedEntities The entities managed before the results were scrolled, which
+	 * are never detached
+	 */
+	public DetachingResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			SharedSessionContractImplementor session,
+			int window,
+			Set<Object> retainedEntities) {
+		if ( window < 1 ) {
+			throw new IllegalArgumentException( "Window size must be positive: " + window );
+		}
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		this.window = window;
+		this.retainedEntities = retainedEntities;
+	}
+
+	/**
+	 * The entities managed by the session, which must not be detached by an
+	 * iterator created now
+	 */
+	public static Set<Object> managedEntities(SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext.getNumberOfManagedEntities() == 0 ) {
+			return Collections.emptySet();
+		}
+		final Set<Object> entities = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			entities.add( entry.getKey() );
+		}
+		return entities;
+	}
+
+	@Override
+	public void close() {
+		scrollableResults.close();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( scrollableResults.isClosed() ) {
+			return false;
+		}
+		if ( position == window ) {
+			// the results handed out so far were processed, since the consumer advances
+			detachLoadedEntities();
+			position = 0;
+		}
+		return scrollableResults.next();
+	}
+
+	@Override
+	public T next() {
+		position++;
+		return scrollableResults.get();
+	}
+
+	private void detachLoadedEntities() {
+		if ( !( session instanceof SessionImplementor ) ) {
+			// a stateless session does not keep the entities it loads
+			return;
+		}
+		final SessionImplementor statefulSession = (SessionImplementor) session;
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext.getNumberOfManagedEntities() == retainedEntities.size() ) {
+			return;
+		}
+		if ( statefulSession.isDirty() ) {
+			if ( statefulSession.getHibernateFlushMode() == FlushMode.MANUAL ) {
+				throw new HibernateException(
+						"Session has unflushed changes and its flush mode is MANUAL,"
+								+ " loaded entities can not be detached from it while streaming results"
+				);
+			}
+			// write the changes made while consuming the results,
+			// which would otherwise be lost by the detachment
+			statefulSession.flush();
+		}
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			final Object entity = entry.getKey();
+			if ( !retainedEntities.contains( entity ) ) {
+				detach( entity, entry.getValue(), statefulSession );
+			}
+		}
+	}
+
+	/**
+	 * Detaches an entity and its collections, like {@link SessionImplementor#evict}, but
+	 * without cascading to associated entities, which might be retained
+	 */
+	private static void detach(Object entity, EntityEntry entry, SessionImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session.asEventSource(), entity ).process( entity, persister );
+		}
+		final Object proxy = persistenceContext.removeProxy( key );
+		if ( proxy != null ) {
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( proxy );
+			if ( lazyInitializer != null ) {
+				lazyInitializer.unsetSession();
+			}
+		}
+		persistenceContext.removeEntity( key );
+		persistenceContext.removeEntry( entity );
+	}
+}
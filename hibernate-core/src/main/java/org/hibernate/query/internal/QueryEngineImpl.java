@@ -9,6 +9,7 @@ package org.hibernate.query.internal;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cfg.AvailableSettings;
@@ -16,6 +17,8 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.cache.LegacyInternalCacheFactory;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
@@ -64,7 +67,11 @@ public class QueryEngineImpl implements QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						sessionFactory.getProperties(),
+						sessionFactory.getServiceRegistry().getService( StrategySelector.class )
+				),
 				sessionFactory.getServiceRegistry().getService(NativeQueryInterpreter.class)
 		);
 	}
@@ -184,7 +191,8 @@ public class QueryEngineImpl implements QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
-			Map<String, Object> properties) {
+			Map<String, Object> properties,
+			StrategySelector strategySelector) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -202,7 +210,12 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final InternalCacheFactory cacheFactory = strategySelector.resolveDefaultableStrategy(
+					InternalCacheFactory.class,
+					properties.get( AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION ),
+					LegacyInternalCacheFactory.INSTANCE
+			);
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier, cacheFactory );
 		}
 		else {
 			// disabled
@@ -10,7 +10,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.InternalCacheFactory;
+import org.hibernate.internal.util.cache.LegacyInternalCacheFactory;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -38,29 +40,47 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final InternalCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final InternalCache<Object, HqlInterpretation> hqlInterpretationCache;
+	private final InternalCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, statisticsSupplier, LegacyInternalCacheFactory.INSTANCE );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			InternalCacheFactory cacheFactory) {
+		log.debugf( "Starting QueryInterpretationCache(%s) using %s", maxQueryPlanCount, cacheFactory );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		this.hqlInterpretationCache = cacheFactory.createInternalCache( maxQueryPlanCount );
+		this.nativeQueryParamCache = cacheFactory.createInternalCache( maxQueryPlanCount );
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
-		return hqlInterpretationCache.size();
+		return hqlInterpretationCache.heuristicCount();
 	}
 
 	@Override
 	public int getNumberOfCachedQueryPlans() {
-		return queryPlanCache.size();
+		return queryPlanCache.heuristicCount();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		final long queryPlanEvictions = queryPlanCache.getEvictionCount();
+		final long hqlInterpretationEvictions = hqlInterpretationCache.getEvictionCount();
+		final long nativeQueryParamEvictions = nativeQueryParamCache.getEvictionCount();
+		if ( queryPlanEvictions < 0 || hqlInterpretationEvictions < 0 || nativeQueryParamEvictions < 0 ) {
+			return -1;
+		}
+		return queryPlanEvictions + hqlInterpretationEvictions + nativeQueryParamEvictions;
 	}
 
 	@Override
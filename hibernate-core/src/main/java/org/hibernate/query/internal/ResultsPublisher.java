@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+import org.hibernate.query.spi.CloseableIterator;
+
+/**
+ * A {@link Flow.Publisher} of query results, which executes the query when subscribed to,
+ * and reads the results from a {@link CloseableIterator} only as they are
+ * {@linkplain Flow.Subscription#request requested} by its single subscriber.
+ * <p>
+ * The results are read, and delivered, on the thread which requests them, so the
+ * subscriber must request them from a thread allowed to use the session, usually
+ * the one which subscribed.
+ *
+ * @see org.hibernate.query.SelectionQuery#publishDetached(int)
+ *
+ * @since 6.4
+ */
+@Incubating
+public class ResultsPublisher<T> implements Flow.Publisher<T> {
+	private final Supplier<CloseableIterator<T>> resultsSupplier;
+	private boolean subscribed;
+
+	public ResultsPublisher(Supplier<CloseableIterator<T>> resultsSupplier) {
+		this.resultsSupplier = resultsSupplier;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if ( subscribed ) {
+			subscriber.onSubscribe( new ResultsSubscription<>( subscriber, null ) );
+			subscriber.onError( new IllegalStateException( "Query results may only be subscribed to once" ) );
+			return;
+		}
+		subscribed = true;
+
+		final CloseableIterator<T> results;
+		try {
+			results = resultsSupplier.get();
+		}
+		catch (RuntimeException e) {
+			subscriber.onSubscribe( new ResultsSubscription<>( subscriber, null ) );
+			subscriber.onError( e );
+			return;
+		}
+		subscriber.onSubscribe( new ResultsSubscription<>( subscriber, results ) );
+	}
+
+	private static class ResultsSubscription<T> implements Flow.Subscription {
+		private final Flow.Subscriber<? super T> subscriber;
+		private CloseableIterator<T> results;
+
+		private long demand;
+		private boolean emitting;
+
+		private ResultsSubscription(Flow.Subscriber<? super T> subscriber, CloseableIterator<T> results) {
+			this.subscriber = subscriber;
+			this.results = results;
+		}
+
+		@Override
+		public void request(long n) {
+			if ( results == null ) {
+				return;
+			}
+			if ( n <= 0 ) {
+				cancel();
+				subscriber.onError( new IllegalArgumentException( "Requested number of results must be positive: " + n ) );
+				return;
+			}
+			demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			if ( emitting ) {
+				// called from onNext(), the loop below delivers the added demand
+				return;
+			}
+
+			emitting = true;
+			try {
+				while ( demand > 0 && results != null ) {
+					final T result;
+					try {
+						if ( !results.hasNext() ) {
+							cancel();
+							subscriber.onComplete();
+							return;
+						}
+						result = results.next();
+					}
+					catch (RuntimeException e) {
+						cancel();
+						subscriber.onError( e );
+						return;
+					}
+					demand--;
+					subscriber.onNext( result );
+				}
+			}
+			finally {
+				emitting = false;
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if ( results != null ) {
+				final CloseableIterator<T> toClose = results;
+				results = null;
+				toClose.close();
+			}
+		}
+	}
+}
@@ -15,8 +15,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -53,8 +55,11 @@ import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.DetachingResultsIterator;
+import org.hibernate.query.internal.ResultsPublisher;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -71,6 +76,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
@@ -442,6 +448,37 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public ResultColumns getResultColumns() {
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		boolean success = false;
+		try {
+			final ResultColumns result = doResultColumns();
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (TypeMismatchException e) {
+			throw new IllegalArgumentException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+		}
+	}
+
+	/**
+	 * Read the results in column form.  By default, the results are read as a
+	 * {@link #doList() list}, and then transposed.
+	 */
+	protected ResultColumns doResultColumns() {
+		return ResultColumnsImpl.fromRows( doList() );
+	}
+
 	protected HashSet<String> beforeQueryHandlingFetchProfiles() {
 		beforeQuery();
 
@@ -521,7 +558,11 @@ public abstract class AbstractSelectionQuery<R>
 
 	@Override
 	public ScrollableResultsImplementor<R> scroll() {
-		return scroll( getSession().getFactory().getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
+		final SessionFactoryImplementor factory = getSession().getFactory();
+		// rows may only be read ahead when moving forward
+		return scroll( factory.getSessionFactoryOptions().getScrollReadAheadSize() > 0
+				? ScrollMode.FORWARD_ONLY
+				: factory.getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
 	}
 
 	@Override
@@ -548,6 +589,35 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	@Override
+	public Stream<R> streamDetached(int window) {
+		final DetachingResultsIterator<R> iterator = scrollDetached( window );
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+		return StreamSupport.stream( spliterator, false ).onClose( iterator::close );
+	}
+
+	@Override
+	public Flow.Publisher<R> publishDetached(int window) {
+		if ( window < 1 ) {
+			throw new IllegalArgumentException( "Window size must be positive: " + window );
+		}
+		return new ResultsPublisher<>( () -> scrollDetached( window ) );
+	}
+
+	private DetachingResultsIterator<R> scrollDetached(int window) {
+		if ( window < 1 ) {
+			throw new IllegalArgumentException( "Window size must be positive: " + window );
+		}
+		// determine the entities to retain before any result is loaded
+		final Set<Object> retainedEntities = DetachingResultsIterator.managedEntities( getSession() );
+		return new DetachingResultsIterator<>(
+				scroll( ScrollMode.FORWARD_ONLY ),
+				getSession(),
+				window,
+				retainedEntities
+		);
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
@@ -37,6 +37,19 @@ public interface QueryInterpretationCache {
 	int getNumberOfCachedHqlInterpretations();
 	int getNumberOfCachedQueryPlans();
 
+	/**
+	 * The number of query plans, HQL interpretations and native query parameter
+	 * interpretations discarded to keep the cache within its maximum size, or
+	 * {@code -1} if the cache does not count them.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION
+	 *
+	 * @since 6.4
+	 */
+	default long getEvictionCount() {
+		return -1;
+	}
+
 	@Deprecated(forRemoval = true)
 	HqlInterpretation resolveHqlInterpretation(String queryString, Class<?> expectedResultType, Function<String, SqmStatement<?>> creator);
 
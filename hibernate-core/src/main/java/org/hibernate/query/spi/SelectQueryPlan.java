@@ -11,6 +11,8 @@ import java.util.List;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.query.ResultColumns;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
 
 /**
  * General contract for performing execution of a query returning results.  These
@@ -42,4 +44,16 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning the results in column form.  By
+	 * default, the results are read as a List and then transposed.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#getResultColumns()
+	 *
+	 * @since 6.4
+	 */
+	default ResultColumns performColumns(DomainQueryExecutionContext executionContext) {
+		return ResultColumnsImpl.fromRows( performList( executionContext ) );
+	}
+
 }
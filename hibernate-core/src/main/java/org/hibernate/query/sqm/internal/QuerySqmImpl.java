@@ -55,6 +55,7 @@ import org.hibernate.query.Order;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.SemanticException;
 import org.hibernate.query.TupleTransformer;
@@ -528,6 +529,20 @@ public class QuerySqmImpl<R>
 
 	}
 
+	@Override
+	protected ResultColumns doResultColumns() {
+		verifySelect();
+
+		final SqmSelectStatement<?> sqmStatement = (SqmSelectStatement<?>) getSqmStatement();
+		if ( sqmStatement.containsCollectionFetches()
+				|| AppliedGraphs.containsCollectionFetches( getQueryOptions() )
+				|| getQueryOptions().getTupleTransformer() != null
+				|| getQueryOptions().getResultListTransformer() != null ) {
+			return super.doResultColumns();
+		}
+		return resolveSelectQueryPlan().performColumns( this );
+	}
+
 	protected DomainQueryExecutionContext executionContextForDoList(boolean containsCollectionFetches, boolean hasLimit, boolean needsDistinct) {
 		final MutableQueryOptions originalQueryOptions;
 		final QueryOptions normalizedQueryOptions;
@@ -37,6 +37,7 @@ import org.hibernate.query.Order;
 import org.hibernate.query.Page;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
@@ -391,6 +392,18 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R>
 		return list;
 	}
 
+	@Override
+	protected ResultColumns doResultColumns() {
+		final SqmSelectStatement<?> sqmStatement = getSqmStatement();
+		if ( sqmStatement.containsCollectionFetches()
+				|| AppliedGraphs.containsCollectionFetches( getQueryOptions() )
+				|| getQueryOptions().getTupleTransformer() != null
+				|| getQueryOptions().getResultListTransformer() != null ) {
+			return super.doResultColumns();
+		}
+		return resolveQueryPlan().performColumns( this );
+	}
+
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveQueryPlan().performScroll( scrollMode, this );
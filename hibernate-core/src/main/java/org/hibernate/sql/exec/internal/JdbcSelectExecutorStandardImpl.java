@@ -27,7 +27,9 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.query.ResultColumns;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.ScrollableResultsIterator;
@@ -41,6 +43,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.caching.internal.CompactQueryResults;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -48,6 +51,7 @@ import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesReadAhead;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -69,6 +73,8 @@ import org.hibernate.type.spi.TypeConfiguration;
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
 
+import static org.hibernate.cfg.QuerySettings.SCROLL_READ_AHEAD_SIZE;
+
 /**
  * Standard JdbcSelectExecutor implementation used by Hibernate,
  * through {@link JdbcSelectExecutorStandardImpl#INSTANCE}
@@ -104,6 +110,28 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		);
 	}
 
+	@Override
+	public <T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				(sql) -> executionContext.getSession()
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareQueryStatement( sql, false, null ),
+				resultsConsumer
+		);
+	}
+
 	@Override
 	public <R> ScrollableResultsImplementor<R> scroll(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -112,6 +140,13 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
+		final int readAheadSize = session.getFactory().getSessionFactoryOptions().getScrollReadAheadSize();
+		if ( readAheadSize > 0 && scrollMode != null && scrollMode != ScrollMode.FORWARD_ONLY ) {
+			throw new IllegalQueryOperationException(
+					"Scroll mode " + scrollMode + " is not supported when rows are read ahead ('"
+							+ SCROLL_READ_AHEAD_SIZE + "' is set), use " + ScrollMode.FORWARD_ONLY
+			);
+		}
 		session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 		return executeQueryScroll(
 				jdbcSelect,
@@ -124,7 +159,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						false,
 						scrollMode
 				),
-				ScrollableResultsConsumer.instance()
+				ScrollableResultsConsumer.instance(),
+				scrollMode == ScrollMode.FORWARD_ONLY ? readAheadSize : 0
 		);
 	}
 
@@ -172,7 +208,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					rowTransformer,
 					domainResultType,
 					statementCreator,
-					resultsConsumer
+					resultsConsumer,
+					0
 			);
 		}
 		finally {
@@ -189,7 +226,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			int readAheadSize) {
 		return doExecuteQuery(
 				jdbcSelect,
 				jdbcParameterBindings,
@@ -197,7 +235,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowTransformer,
 				domainResultType,
 				statementCreator,
-				resultsConsumer
+				resultsConsumer,
+				readAheadSize
 		);
 	}
 
@@ -256,7 +295,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			int readAheadSize) {
 
 		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
 				jdbcSelect,
@@ -264,13 +304,22 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				executionContext,
 				statementCreator
 		);
-		final JdbcValues jdbcValues = resolveJdbcValuesSource(
+		final JdbcValues resolvedJdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
 				deferredResultSetAccess
 		);
+		final JdbcValues jdbcValues;
+		if ( readAheadSize > 0 && !resultsConsumer.canResultsBeCached()
+				&& resolvedJdbcValues instanceof JdbcValuesResultSetImpl
+				&& JdbcValuesReadAhead.isApplicable( resolvedJdbcValues.getValuesMapping() ) ) {
+			jdbcValues = new JdbcValuesReadAhead( (JdbcValuesResultSetImpl) resolvedJdbcValues, readAheadSize );
+		}
+		else {
+			jdbcValues = resolvedJdbcValues;
+		}
 
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
@@ -297,7 +346,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		long startTime = 0;
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
-				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
+				&& resolvedJdbcValues instanceof JdbcValuesResultSetImpl ) {
 			stats = statistics.isStatisticsEnabled();
 			if ( stats ) {
 				startTime = System.nanoTime();
@@ -384,6 +433,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
 		}
+		else if ( result instanceof ResultColumns ) {
+			return ( (ResultColumns) result ).getRowCount();
+		}
 		return -1;
 	}
 
@@ -496,7 +548,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		}
 		else {
 			final JdbcValuesMapping jdbcValuesMapping;
-			if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
+			if ( cachedResults instanceof CompactQueryResults ) {
+				final JdbcValuesMetadata metadata = ( (CompactQueryResults) cachedResults ).getMetadata();
+				jdbcValuesMapping = mappingProducer.resolve(
+						metadata == null ? resultSetAccess : metadata,
+						session.getLoadQueryInfluencers(),
+						factory
+				);
+				return new JdbcValuesCacheHit( (CompactQueryResults) cachedResults, jdbcValuesMapping );
+			}
+			else if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
 				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
 			}
 			else {
@@ -12,7 +12,9 @@ import java.util.stream.Stream;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
@@ -39,6 +41,33 @@ public interface JdbcSelectExecutor {
 			Class<R> requestedJavaType,
 			ListResultsConsumer.UniqueSemantic uniqueSemantic);
 
+	/**
+	 * Execute the select, handing the results over to the given
+	 * {@link ResultsConsumer}.
+	 *
+	 * @implNote The default implementation delegates to the
+	 * {@linkplain JdbcSelectExecutorStandardImpl standard executor}, so that
+	 * existing implementations of this contract keep working.
+	 *
+	 * @since 6.4
+	 */
+	default <T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return JdbcSelectExecutorStandardImpl.INSTANCE.executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer
+		);
+	}
+
 	<R> ScrollableResultsImplementor<R> scroll(
 			JdbcOperationQuerySelect jdbcSelect,
 			ScrollMode scrollMode,
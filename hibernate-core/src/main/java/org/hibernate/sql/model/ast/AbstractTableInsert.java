@@ -76,7 +76,35 @@ public abstract class AbstractTableInsert extends AbstractTableMutation<JdbcInse
 				sql,
 				isCallable(),
 				getExpectation(),
-				effectiveBinders
+				effectiveBinders,
+				renderRowValues()
 		);
 	}
+
+	/**
+	 * The parenthesized {@code values} list which the standard translation renders
+	 * for this insert, if every value is either a plain parameter or a fragment
+	 * without parameters, or {@code null} if the insert does not have that simple
+	 * shape and may not be turned into a multi-row insert.
+	 */
+	private String renderRowValues() {
+		if ( isCustomSql() || isCallable() || valueBindings.isEmpty() || getNumberOfReturningColumns() > 0 ) {
+			return null;
+		}
+
+		final StringBuilder buffer = new StringBuilder( valueBindings.size() * 2 + 1 );
+		for ( int i = 0; i < valueBindings.size(); i++ ) {
+			final ColumnWriteFragment valueExpression = valueBindings.get( i ).getValueExpression();
+			final String fragment = valueExpression.getFragment();
+			final int parameterCount = valueExpression.getParameters().size();
+			final boolean plainParameter = parameterCount == 1 && "?".equals( fragment );
+			final boolean noParameter = parameterCount == 0 && fragment.indexOf( '?' ) < 0;
+			if ( !plainParameter && !noParameter ) {
+				// a custom write expression, whose parameters can't be told from literals
+				return null;
+			}
+			buffer.append( i == 0 ? '(' : ',' ).append( fragment );
+		}
+		return buffer.append( ')' ).toString();
+	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.sql.model.jdbc;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -20,6 +22,11 @@ import org.hibernate.sql.model.TableMapping;
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private static final String VALUES = " values ";
+
+	private final String rowValues;
+	private final ConcurrentMap<Integer, String> multiRowSqlStrings;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -27,7 +34,83 @@ public class JdbcInsertMutation extends AbstractJdbcMutation {
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, null );
+	}
+
+	/**
+	 * @param rowValues The parenthesized {@code values} list of the insert, as
+	 * rendered from the {@link org.hibernate.sql.model.ast.TableInsert}, if the
+	 * insert may be turned into a {@linkplain #getMultiRowSqlString multi-row insert}
+	 */
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			String rowValues) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		// the translator may have rendered something else, for example other parameter markers
+		if ( rowValues != null
+				&& sql.endsWith( VALUES + rowValues )
+				&& countParameterMarkers( rowValues ) == parameterBinders.size() ) {
+			this.rowValues = rowValues;
+			this.multiRowSqlStrings = new ConcurrentHashMap<>();
+		}
+		else {
+			this.rowValues = null;
+			this.multiRowSqlStrings = null;
+		}
+	}
+
+	private static int countParameterMarkers(String rowValues) {
+		// the values are either plain parameters or fragments without parameters
+		int count = 0;
+		for ( int i = 0; i < rowValues.length(); i++ ) {
+			if ( rowValues.charAt( i ) == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Whether the insert is a plain {@code insert ... values (...)}, whose parameters
+	 * are all in its {@code values} list, so that several rows may be inserted by a
+	 * {@linkplain #getMultiRowSqlString multi-row insert}
+	 */
+	public boolean isMultiRowInsertCapable() {
+		return rowValues != null;
+	}
+
+	/**
+	 * The SQL of an insert of the given number of rows, which repeats the {@code values}
+	 * list of this insert once per row.  The parameters of the row {@code n}, starting
+	 * at 0, are at the positions of this insert's parameters offset by
+	 * {@code n * getParameterBinders().size()}.
+	 *
+	 * @throws UnsupportedOperationException if the insert is not
+	 * {@linkplain #isMultiRowInsertCapable() multi-row insert capable}
+	 */
+	public String getMultiRowSqlString(int rowCount) {
+		if ( rowValues == null ) {
+			throw new UnsupportedOperationException( "Insert can't be turned into a multi-row insert: " + getSqlString() );
+		}
+		if ( rowCount == 1 ) {
+			return getSqlString();
+		}
+		return multiRowSqlStrings.computeIfAbsent( rowCount, this::renderMultiRowSqlString );
+	}
+
+	private String renderMultiRowSqlString(int rowCount) {
+		final String sql = getSqlString();
+		final StringBuilder buffer = new StringBuilder( sql.length() + ( rowCount - 1 ) * ( rowValues.length() + 1 ) );
+		buffer.append( sql );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ',' ).append( rowValues );
+		}
+		return buffer.toString();
 	}
 
 	@Override
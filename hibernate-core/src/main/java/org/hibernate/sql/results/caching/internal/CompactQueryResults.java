@@ -0,0 +1,407 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+
+/**
+ * The JDBC values of the results of a query, as stored in the query cache
+ * when {@value org.hibernate.cfg.AvailableSettings#USE_COMPACT_QUERY_CACHE_ENTRIES}
+ * is enabled.
+ * <p>
+ * All rows are encoded in a single {@code byte[]}, where each value is
+ * preceded by a one-byte tag identifying its type.  Values of type
+ * {@link Boolean}, {@link Byte}, {@link Short}, {@link Integer}, {@link Long},
+ * {@link Character}, {@link Float}, {@link Double}, {@link String} and
+ * {@code byte[]} are encoded in binary form, with integral values written as
+ * variable-length integers.  Any other value is kept as a reference, in a
+ * separate array.  The rows are only decoded when they are read, one at a
+ * time, usually by a {@link org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit}.
+ * <p>
+ * For compatibility with the {@link org.hibernate.cache.spi.QueryResultsCache}
+ * contract, this is also a read-only {@link List} view, holding the
+ * {@link JdbcValuesMetadata}, if any, followed by the decoded rows.
+ *
+ * @see QueryCachePutManagerEnabledImpl
+ */
+public final class CompactQueryResults extends AbstractList<Object> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INT = 5;
+	private static final byte LONG = 6;
+	private static final byte CHAR = 7;
+	private static final byte FLOAT = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte ASCII_STRING = 10;
+	private static final byte STRING = 11;
+	private static final byte BYTES = 12;
+	private static final byte OBJECT = 13;
+
+	private final JdbcValuesMetadata metadata;
+	private final int rowCount;
+	private final int columnCount;
+	private final byte[] data;
+	private final Object[] objects;
+
+	// the start of each row in the data, computed the first time a row is read
+	private transient volatile int[] rowOffsets;
+
+	private CompactQueryResults(
+			JdbcValuesMetadata metadata,
+			int rowCount,
+			int columnCount,
+			byte[] data,
+			Object[] objects) {
+		this.metadata = metadata;
+		this.rowCount = rowCount;
+		this.columnCount = columnCount;
+		this.data = data;
+		this.objects = objects;
+	}
+
+	/**
+	 * The metadata of the cached values, or {@code null}
+	 */
+	public JdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * Decode the given row into the given array.
+	 *
+	 * @param row The zero-based row position
+	 * @param values An array of length {@link #getColumnCount()}
+	 */
+	public void readRow(int row, Object[] values) {
+		if ( row < 0 || row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " is out of bounds (" + rowCount + " rows)" );
+		}
+		final Decoder decoder = new Decoder( rowOffsets()[row] );
+		for ( int i = 0; i < columnCount; i++ ) {
+			values[i] = decoder.readValue();
+		}
+	}
+
+	private int[] rowOffsets() {
+		int[] offsets = rowOffsets;
+		if ( offsets == null ) {
+			offsets = new int[rowCount];
+			final Decoder decoder = new Decoder( 0 );
+			for ( int row = 0; row < rowCount; row++ ) {
+				offsets[row] = decoder.position;
+				for ( int i = 0; i < columnCount; i++ ) {
+					decoder.skipValue();
+				}
+			}
+			rowOffsets = offsets;
+		}
+		return offsets;
+	}
+
+	@Override
+	public Object get(int index) {
+		if ( metadata != null ) {
+			if ( index == 0 ) {
+				return metadata;
+			}
+			index--;
+		}
+		final Object[] values = new Object[columnCount];
+		readRow( index, values );
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return metadata == null ? rowCount : rowCount + 1;
+	}
+
+	private class Decoder {
+		private int position;
+
+		private Decoder(int position) {
+			this.position = position;
+		}
+
+		private Object readValue() {
+			final byte tag = data[position++];
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case BYTE:
+					return data[position++];
+				case SHORT:
+					return (short) readSignedVarLong();
+				case INT:
+					return (int) readSignedVarLong();
+				case LONG:
+					return readSignedVarLong();
+				case CHAR:
+					return (char) readVarLong();
+				case FLOAT:
+					return Float.intBitsToFloat( readFixedInt() );
+				case DOUBLE:
+					return Double.longBitsToDouble( ( (long) readFixedInt() << 32 ) | ( readFixedInt() & 0xFFFFFFFFL ) );
+				case ASCII_STRING: {
+					final int length = (int) readVarLong();
+					final String string = new String( data, position, length, StandardCharsets.ISO_8859_1 );
+					position += length;
+					return string;
+				}
+				case STRING: {
+					final int length = (int) readVarLong();
+					final String string = new String( data, position, length, StandardCharsets.UTF_8 );
+					position += length;
+					return string;
+				}
+				case BYTES: {
+					final int length = (int) readVarLong();
+					final byte[] bytes = Arrays.copyOfRange( data, position, position + length );
+					position += length;
+					return bytes;
+				}
+				case OBJECT:
+					return objects[(int) readVarLong()];
+				default:
+					throw new IllegalStateException( "Unknown value tag: " + tag );
+			}
+		}
+
+		private void skipValue() {
+			final byte tag = data[position++];
+			switch ( tag ) {
+				case BYTE:
+					position++;
+					break;
+				case SHORT:
+				case INT:
+				case LONG:
+				case CHAR:
+				case OBJECT:
+					readVarLong();
+					break;
+				case FLOAT:
+					position += 4;
+					break;
+				case DOUBLE:
+					position += 8;
+					break;
+				case ASCII_STRING:
+				case STRING:
+				case BYTES:
+					final int length = (int) readVarLong();
+					position += length;
+					break;
+			}
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( b < 0 );
+			return value;
+		}
+
+		private long readSignedVarLong() {
+			final long zigzag = readVarLong();
+			return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+		}
+
+		private int readFixedInt() {
+			final int value = ( data[position] & 0xFF ) << 24
+					| ( data[position + 1] & 0xFF ) << 16
+					| ( data[position + 2] & 0xFF ) << 8
+					| ( data[position + 3] & 0xFF );
+			position += 4;
+			return value;
+		}
+	}
+
+	/**
+	 * Encodes rows of JDBC values, as they are read, into a {@link CompactQueryResults}.
+	 */
+	public static class Builder {
+		private final JdbcValuesMetadata metadata;
+		private final List<Object> objects = new ArrayList<>();
+		private byte[] data = new byte[256];
+		private int position;
+		private int rowCount;
+		private int columnCount = -1;
+
+		public Builder(JdbcValuesMetadata metadata) {
+			this.metadata = metadata;
+		}
+
+		public void addRow(Object[] values) {
+			if ( columnCount == -1 ) {
+				columnCount = values.length;
+			}
+			else if ( columnCount != values.length ) {
+				throw new IllegalArgumentException(
+						"Row has " + values.length + " values, but the previous rows had " + columnCount
+				);
+			}
+			for ( Object value : values ) {
+				writeValue( value );
+			}
+			rowCount++;
+		}
+
+		public CompactQueryResults build() {
+			return new CompactQueryResults(
+					metadata,
+					rowCount,
+					Math.max( columnCount, 0 ),
+					Arrays.copyOf( data, position ),
+					objects.toArray()
+			);
+		}
+
+		private void writeValue(Object value) {
+			if ( value == null ) {
+				writeTag( NULL );
+			}
+			else if ( value instanceof Integer ) {
+				writeTag( INT );
+				writeSignedVarLong( (Integer) value );
+			}
+			else if ( value instanceof Long ) {
+				writeTag( LONG );
+				writeSignedVarLong( (Long) value );
+			}
+			else if ( value instanceof String ) {
+				writeString( (String) value );
+			}
+			else if ( value instanceof Boolean ) {
+				writeTag( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( value instanceof Double ) {
+				writeTag( DOUBLE );
+				final long bits = Double.doubleToRawLongBits( (Double) value );
+				writeFixedInt( (int) ( bits >>> 32 ) );
+				writeFixedInt( (int) bits );
+			}
+			else if ( value instanceof Float ) {
+				writeTag( FLOAT );
+				writeFixedInt( Float.floatToRawIntBits( (Float) value ) );
+			}
+			else if ( value instanceof Short ) {
+				writeTag( SHORT );
+				writeSignedVarLong( (Short) value );
+			}
+			else if ( value instanceof Byte ) {
+				writeTag( BYTE );
+				ensureCapacity( 1 );
+				data[position++] = (Byte) value;
+			}
+			else if ( value instanceof Character ) {
+				writeTag( CHAR );
+				writeVarLong( (Character) value );
+			}
+			else if ( value instanceof byte[] ) {
+				writeTag( BYTES );
+				writeBytes( (byte[]) value );
+			}
+			else {
+				writeTag( OBJECT );
+				writeVarLong( objects.size() );
+				objects.add( value );
+			}
+		}
+
+		private void writeString(String string) {
+			final int length = string.length();
+			boolean ascii = true;
+			for ( int i = 0; i < length; i++ ) {
+				if ( string.charAt( i ) >= 0x80 ) {
+					ascii = false;
+					break;
+				}
+			}
+			if ( ascii ) {
+				writeTag( ASCII_STRING );
+				writeVarLong( length );
+				ensureCapacity( length );
+				for ( int i = 0; i < length; i++ ) {
+					data[position++] = (byte) string.charAt( i );
+				}
+			}
+			else {
+				writeTag( STRING );
+				writeBytes( string.getBytes( StandardCharsets.UTF_8 ) );
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarLong( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, data, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private void writeTag(byte tag) {
+			ensureCapacity( 1 );
+			data[position++] = tag;
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				data[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			data[position++] = (byte) value;
+		}
+
+		private void writeSignedVarLong(long value) {
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixedInt(int value) {
+			ensureCapacity( 4 );
+			data[position++] = (byte) ( value >>> 24 );
+			data[position++] = (byte) ( value >>> 16 );
+			data[position++] = (byte) ( value >>> 8 );
+			data[position++] = (byte) value;
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > data.length ) {
+				data = Arrays.copyOf( data, Math.max( position + length, data.length << 1 ) );
+			}
+		}
+	}
+}
@@ -28,7 +28,8 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
-	private final List<Object> dataToCache = new ArrayList<>();
+	private final List<Object> dataToCache;
+	private final CompactQueryResults.Builder compactDataToCache;
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -36,17 +37,40 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			JdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, false );
+	}
+
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache,
+			boolean compact) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
-		if ( metadataForCache != null ) {
-			dataToCache.add( metadataForCache );
+		if ( compact ) {
+			dataToCache = null;
+			compactDataToCache = new CompactQueryResults.Builder( metadataForCache );
+		}
+		else {
+			dataToCache = new ArrayList<>();
+			compactDataToCache = null;
+			if ( metadataForCache != null ) {
+				dataToCache.add( metadataForCache );
+			}
 		}
 	}
 
 	@Override
 	public void registerJdbcRow(Object[] values) {
+		if ( compactDataToCache != null ) {
+			// the values are encoded right away, so there is no need to copy them
+			compactDataToCache.addRow( values );
+			return;
+		}
 
 		// todo (6.0) : verify whether we really need to copy these..
 		//		`RowProcessingStateStandardImpl` (see `#finishRowProcessing`) already creates new array
@@ -60,7 +84,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		if ( queryKey != null ) {
 			final boolean put = queryCache.put(
 					queryKey,
-					dataToCache,
+					compactDataToCache == null ? dataToCache : compactDataToCache.build(),
 					session
 			);
 			if ( put && statistics.isStatisticsEnabled() ) {
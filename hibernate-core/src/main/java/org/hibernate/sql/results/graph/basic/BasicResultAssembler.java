@@ -97,6 +97,13 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the JDBC value in the values array
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
@@ -931,7 +931,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			SharedSessionContractImplementor session,
 			PersistenceContext persistenceContext,
 			EntityEntry entityEntry) {
-		if ( isReallyReadOnly( rowProcessingState, session ) ) {
+		if ( isReallyReadOnly( rowProcessingState, session ) || skipStatelessSnapshot( session ) ) {
 			//no need to take a snapshot - this is a
 			//performance optimization, but not really
 			//important, except for entities with huge
@@ -945,6 +945,12 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		}
 	}
 
+	private static boolean skipStatelessSnapshot(SharedSessionContractImplementor session) {
+		// a stateless session never dirty checks what it loads
+		return session.isStatelessSession()
+				&& session.getFactory().getSessionFactoryOptions().isStatelessSessionSkipSnapshotsEnabled();
+	}
+
 	private boolean isReallyReadOnly(RowProcessingState rowProcessingState, SharedSessionContractImplementor session) {
 		if ( !concreteDescriptor.isMutable() ) {
 			return true;
@@ -0,0 +1,326 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.hibernate.query.ResultColumns;
+
+/**
+ * Standard implementation of {@link ResultColumns}, filled in row by row.
+ * <p>
+ * Columns of type {@link Long}, {@link Integer} or {@link Double} may be
+ * stored unboxed, in a {@code long[]}, {@code int[]} or {@code double[]},
+ * with their nulls tracked in a {@link BitSet}.  Any other column is stored
+ * in an {@code Object[]}.
+ * <p>
+ * To fill in a row, call {@link #nextRow()}, then set the value of each
+ * column.  Once all rows are read, call {@link #trim()}.
+ */
+public class ResultColumnsImpl implements ResultColumns {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final Class<?>[] javaTypes;
+	private final Object[] columns;
+	// the null values of the unboxed columns
+	private final BitSet[] nulls;
+	private int capacity;
+	private int rowCount;
+
+	/**
+	 * @param javaTypes The Java type of each column
+	 * @param unboxed For each column, whether it may be stored unboxed
+	 */
+	public ResultColumnsImpl(Class<?>[] javaTypes, boolean[] unboxed) {
+		this.javaTypes = javaTypes;
+		this.columns = new Object[javaTypes.length];
+		this.nulls = new BitSet[javaTypes.length];
+		this.capacity = INITIAL_CAPACITY;
+		for ( int i = 0; i < javaTypes.length; i++ ) {
+			columns[i] = allocate( javaTypes[i], unboxed[i], capacity );
+			if ( !( columns[i] instanceof Object[] ) ) {
+				nulls[i] = new BitSet();
+			}
+		}
+	}
+
+	private static Object allocate(Class<?> javaType, boolean unboxed, int capacity) {
+		if ( unboxed ) {
+			if ( javaType == Long.class ) {
+				return new long[capacity];
+			}
+			else if ( javaType == Integer.class ) {
+				return new int[capacity];
+			}
+			else if ( javaType == Double.class ) {
+				return new double[capacity];
+			}
+		}
+		return new Object[capacity];
+	}
+
+	/**
+	 * Transpose a list of rows, where each row is either an {@code Object[]},
+	 * holding a value for each column, or the single value of a single column.
+	 */
+	public static ResultColumns fromRows(List<?> rows) {
+		final int columnCount = columnCount( rows );
+		final Class<?>[] javaTypes = new Class<?>[columnCount];
+		for ( Object row : rows ) {
+			for ( int i = 0; i < columnCount; i++ ) {
+				final Object value = columnCount == 1 && !( row instanceof Object[] ) ? row : ( (Object[]) row )[i];
+				if ( value != null ) {
+					if ( javaTypes[i] == null ) {
+						javaTypes[i] = value.getClass();
+					}
+					else if ( javaTypes[i] != value.getClass() ) {
+						javaTypes[i] = Object.class;
+					}
+				}
+			}
+		}
+		for ( int i = 0; i < columnCount; i++ ) {
+			if ( javaTypes[i] == null ) {
+				javaTypes[i] = Object.class;
+			}
+		}
+
+		final ResultColumnsImpl columns = new ResultColumnsImpl( javaTypes, new boolean[columnCount] );
+		for ( Object row : rows ) {
+			columns.nextRow();
+			if ( row instanceof Object[] ) {
+				final Object[] values = (Object[]) row;
+				for ( int i = 0; i < columnCount; i++ ) {
+					columns.setObject( i, values[i] );
+				}
+			}
+			else {
+				columns.setObject( 0, row );
+			}
+		}
+		columns.trim();
+		return columns;
+	}
+
+	private static int columnCount(List<?> rows) {
+		for ( Object row : rows ) {
+			if ( row instanceof Object[] ) {
+				return ( (Object[]) row ).length;
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Start a new row, making room for it if necessary.
+	 */
+	public void nextRow() {
+		if ( rowCount == capacity ) {
+			resize( Math.max( INITIAL_CAPACITY, capacity + ( capacity >> 1 ) ) );
+		}
+		rowCount++;
+	}
+
+	/**
+	 * Shrink the columns to the number of rows.
+	 */
+	public void trim() {
+		if ( rowCount != capacity ) {
+			resize( rowCount );
+		}
+	}
+
+	private void resize(int newCapacity) {
+		for ( int i = 0; i < columns.length; i++ ) {
+			final Object column = columns[i];
+			if ( column instanceof long[] ) {
+				columns[i] = Arrays.copyOf( (long[]) column, newCapacity );
+			}
+			else if ( column instanceof int[] ) {
+				columns[i] = Arrays.copyOf( (int[]) column, newCapacity );
+			}
+			else if ( column instanceof double[] ) {
+				columns[i] = Arrays.copyOf( (double[]) column, newCapacity );
+			}
+			else {
+				columns[i] = Arrays.copyOf( (Object[]) column, newCapacity );
+			}
+		}
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Whether the given column is stored unboxed.
+	 */
+	public boolean isUnboxed(int column) {
+		return nulls[column] != null;
+	}
+
+	public void setLong(int column, long value) {
+		( (long[]) columns[column] )[rowCount - 1] = value;
+	}
+
+	public void setInt(int column, int value) {
+		( (int[]) columns[column] )[rowCount - 1] = value;
+	}
+
+	public void setDouble(int column, double value) {
+		( (double[]) columns[column] )[rowCount - 1] = value;
+	}
+
+	public void setNull(int column) {
+		if ( nulls[column] == null ) {
+			( (Object[]) columns[column] )[rowCount - 1] = null;
+		}
+		else {
+			nulls[column].set( rowCount - 1 );
+		}
+	}
+
+	public void setObject(int column, Object value) {
+		final Object values = columns[column];
+		if ( values instanceof Object[] ) {
+			( (Object[]) values )[rowCount - 1] = value;
+		}
+		else if ( value == null ) {
+			setNull( column );
+		}
+		else if ( values instanceof long[] ) {
+			setLong( column, (Long) value );
+		}
+		else if ( values instanceof int[] ) {
+			setInt( column, (Integer) value );
+		}
+		else {
+			setDouble( column, (Double) value );
+		}
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public Class<?> getColumnJavaType(int column) {
+		return javaTypes[column];
+	}
+
+	@Override
+	public long[] getLongColumn(int column) {
+		final Object values = columns[column];
+		if ( values instanceof long[] ) {
+			return (long[]) values;
+		}
+		checkType( column, Long.class );
+		final Object[] boxed = (Object[]) values;
+		final long[] result = new long[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( boxed[i] != null ) {
+				result[i] = (Long) boxed[i];
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int[] getIntColumn(int column) {
+		final Object values = columns[column];
+		if ( values instanceof int[] ) {
+			return (int[]) values;
+		}
+		checkType( column, Integer.class );
+		final Object[] boxed = (Object[]) values;
+		final int[] result = new int[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( boxed[i] != null ) {
+				result[i] = (Integer) boxed[i];
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public double[] getDoubleColumn(int column) {
+		final Object values = columns[column];
+		if ( values instanceof double[] ) {
+			return (double[]) values;
+		}
+		checkType( column, Double.class );
+		final Object[] boxed = (Object[]) values;
+		final double[] result = new double[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( boxed[i] != null ) {
+				result[i] = (Double) boxed[i];
+			}
+		}
+		return result;
+	}
+
+	private void checkType(int column, Class<?> expectedType) {
+		if ( javaTypes[column] != expectedType || !( columns[column] instanceof Object[] ) ) {
+			throw new IllegalArgumentException(
+					"Column " + column + " holds values of type '" + javaTypes[column].getName()
+							+ "' and not '" + expectedType.getName() + "'"
+			);
+		}
+	}
+
+	@Override
+	public Object[] getColumn(int column) {
+		final Object values = columns[column];
+		if ( values instanceof Object[] ) {
+			return (Object[]) values;
+		}
+		final Object[] result = new Object[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			result[i] = getValue( column, i );
+		}
+		return result;
+	}
+
+	@Override
+	public Object getValue(int column, int row) {
+		if ( row < 0 || row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " is out of bounds (" + rowCount + " rows)" );
+		}
+		final Object values = columns[column];
+		if ( values instanceof Object[] ) {
+			return ( (Object[]) values )[row];
+		}
+		else if ( nulls[column].get( row ) ) {
+			return null;
+		}
+		else if ( values instanceof long[] ) {
+			return ( (long[]) values )[row];
+		}
+		else if ( values instanceof int[] ) {
+			return ( (int[]) values )[row];
+		}
+		else {
+			return ( (double[]) values )[row];
+		}
+	}
+
+	@Override
+	public boolean isNull(int column, int row) {
+		if ( row < 0 || row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " is out of bounds (" + rowCount + " rows)" );
+		}
+		final Object values = columns[column];
+		return values instanceof Object[]
+				? ( (Object[]) values )[row] == null
+				: nulls[column].get( row );
+	}
+}
@@ -46,6 +46,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.domainResultJavaType = domainResultJavaType;
 	}
 
+	/**
+	 * The assemblers of the top-level domain results, in the order of the row
+	 */
+	public List<DomainResultAssembler<?>> getResultAssemblers() {
+		return resultAssemblers;
+	}
+
 	@Override
 	public Class<T> getDomainResultResultJavaType() {
 		return domainResultJavaType;
@@ -11,12 +11,16 @@ import java.util.List;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.CompactQueryResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 /**
  * An {@link AbstractJdbcValues} implementation for cases where we had a cache hit.
+ * <p>
+ * When the results were cached as {@link CompactQueryResults}, each row is
+ * only decoded once it is read.
  *
  * @author Steve Ebersole
  */
@@ -24,16 +28,28 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private static final Object[][] NO_DATA = new Object[0][];
 
 	private Object[][] cachedData;
+	private CompactQueryResults compactData;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private int position = -1;
 
+	// the row of the compact data decoded into currentRow
+	private Object[] currentRow;
+	private int currentRowPosition = -1;
+
 	public JdbcValuesCacheHit(Object[][] cachedData, JdbcValuesMapping resolvedMapping) {
 		this.cachedData = cachedData;
 		this.numberOfRows = cachedData.length;
 		this.resolvedMapping = resolvedMapping;
 	}
 
+	public JdbcValuesCacheHit(CompactQueryResults compactData, JdbcValuesMapping resolvedMapping) {
+		this.compactData = compactData;
+		this.numberOfRows = compactData.getRowCount();
+		this.resolvedMapping = resolvedMapping;
+		this.currentRow = new Object[compactData.getColumnCount()];
+	}
+
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		this( extractData( cachedResults ), resolvedMapping );
 	}
@@ -227,7 +243,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		return cachedData[position];
+		return currentRow();
 	}
 
 	@Override
@@ -235,7 +251,18 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
-		return cachedData[position][valueIndex];
+		return currentRow()[valueIndex];
+	}
+
+	private Object[] currentRow() {
+		if ( compactData == null ) {
+			return cachedData[position];
+		}
+		if ( currentRowPosition != position ) {
+			compactData.readRow( position, currentRow );
+			currentRowPosition = position;
+		}
+		return currentRow;
 	}
 
 	@Override
@@ -245,6 +272,8 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedData = null;
+		compactData = null;
+		currentRow = null;
 	}
 
 	@Override
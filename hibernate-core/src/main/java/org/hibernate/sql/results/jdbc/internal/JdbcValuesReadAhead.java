@@ -0,0 +1,362 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * {@link AbstractJdbcValues} implementation which reads the rows of a forward-only
+ * {@link JdbcValuesResultSetImpl} ahead of their processing.  After the first row,
+ * which is read by the calling thread, and so executes the query, a background thread
+ * advances the JDBC {@link java.sql.ResultSet} and extracts the values of each row
+ * into a bounded buffer, from which the rows are then processed by the calling thread.
+ * Thus, the latency of fetching rows from the database overlaps with the processing
+ * of the previous rows.
+ * <p>
+ * Only moving forward, one row at a time, is supported.  The results must not be
+ * cached, and must not have {@linkplain #isApplicable LOB values}.
+ * <p>
+ * The background thread stops when the results are closed, or when the session is
+ * closed, before its JDBC resources are released, even if the results were abandoned
+ * without being closed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCROLL_READ_AHEAD_SIZE
+ */
+public class JdbcValuesReadAhead extends AbstractJdbcValues {
+	private static final Object[] END = new Object[0];
+
+	private final JdbcValuesResultSetImpl delegate;
+	private final int rowSize;
+	private final BlockingQueue<Object[]> buffer;
+
+	private Thread reader;
+	private SessionEndListener sessionEndListener;
+	private volatile boolean closed;
+	private volatile Throwable readFailure;
+
+	private Object[] currentRow;
+	private Object[] nextRow;
+	private int position = -1;
+	private boolean exhausted;
+
+	/**
+	 * Whether the rows of results with the given mapping may be read ahead.  This is
+	 * not the case when the results have LOB values, since a {@link java.sql.Blob} or
+	 * {@link java.sql.Clob} read from a row may no longer be usable once the
+	 * {@code ResultSet} has moved past that row, and reading it uses the connection
+	 * while the reader is advancing the {@code ResultSet}.  Such results are read on
+	 * demand instead.
+	 */
+	public static boolean isApplicable(JdbcValuesMapping valuesMapping) {
+		for ( SqlSelection sqlSelection : valuesMapping.getSqlSelections() ) {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			if ( expressionType != null ) {
+				for ( int i = 0; i < expressionType.getJdbcTypeCount(); i++ ) {
+					if ( expressionType.getJdbcMapping( i ).getJdbcType().isLob() ) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	public JdbcValuesReadAhead(JdbcValuesResultSetImpl delegate, int bufferSize) {
+		this.delegate = delegate;
+		this.rowSize = delegate.getValuesMapping().getRowSize();
+		this.buffer = new ArrayBlockingQueue<>( bufferSize );
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		if ( exhausted ) {
+			return false;
+		}
+		currentRow = takeRow( rowProcessingState );
+		if ( currentRow == END ) {
+			currentRow = null;
+			exhausted = true;
+			return false;
+		}
+		position++;
+		return true;
+	}
+
+	private Object[] takeRow(RowProcessingState rowProcessingState) {
+		if ( nextRow != null ) {
+			final Object[] row = nextRow;
+			nextRow = null;
+			return row;
+		}
+		if ( reader == null ) {
+			// read the first row on this thread, since it executes the query
+			final Object[] row = readRow();
+			if ( row != END ) {
+				startReader( rowProcessingState.getSession() );
+			}
+			return row;
+		}
+		final Object[] row = pollRow();
+		if ( row == END && readFailure != null ) {
+			if ( readFailure instanceof Error ) {
+				throw (Error) readFailure;
+			}
+			throw (RuntimeException) readFailure;
+		}
+		return row;
+	}
+
+	private Object[] pollRow() {
+		try {
+			while ( true ) {
+				final Object[] row = buffer.poll( 100, TimeUnit.MILLISECONDS );
+				if ( row != null ) {
+					return row;
+				}
+				if ( !reader.isAlive() ) {
+					// the reader might have queued its last row just before it stopped
+					final Object[] lastRow = buffer.poll();
+					if ( lastRow != null ) {
+						return lastRow;
+					}
+					throw new HibernateException(
+							closed
+									? "The results were closed while their rows were read ahead"
+									: "The rows of the results could not be read ahead"
+					);
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while waiting for the next row", e );
+		}
+	}
+
+	private Object[] readRow() {
+		if ( !delegate.next( null ) ) {
+			return END;
+		}
+		final Object[] row = new Object[rowSize];
+		delegate.readCurrentRowValues( row );
+		return row;
+	}
+
+	private void startReader(SharedSessionContractImplementor session) {
+		sessionEndListener = new SessionEndListener( this );
+		session.getEventListenerManager().addListener( sessionEndListener );
+		reader = new Thread( this::readRows, "hibernate-scroll-read-ahead" );
+		reader.setDaemon( true );
+		reader.start();
+	}
+
+	private void readRows() {
+		boolean ended = false;
+		try {
+			Object[] row;
+			do {
+				row = readRow();
+				if ( !offer( row ) ) {
+					return;
+				}
+			} while ( row != END );
+			ended = true;
+		}
+		catch (RuntimeException | Error e) {
+			readFailure = e;
+		}
+		finally {
+			if ( !ended && !closed ) {
+				// the consumer must not wait for rows which will never come
+				offer( END );
+			}
+		}
+	}
+
+	/**
+	 * Queues a row, waiting for room in the buffer
+	 *
+	 * @return false if the results were closed
+	 */
+	private boolean offer(Object[] row) {
+		try {
+			while ( !buffer.offer( row, 100, TimeUnit.MILLISECONDS ) ) {
+				if ( closed ) {
+					return false;
+				}
+			}
+			return !closed;
+		}
+		catch (InterruptedException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Stops the reader, and waits until it no longer uses the {@code ResultSet}
+	 */
+	private void stopReader() {
+		closed = true;
+		if ( reader != null ) {
+			// unblock the reader
+			buffer.clear();
+			boolean interrupted = false;
+			while ( reader.isAlive() ) {
+				try {
+					reader.join();
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		throw unsupported( "previous()" );
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		throw unsupported( "scroll()" );
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		throw unsupported( "position()" );
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0 && !exhausted;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		throw unsupported( "beforeFirst()" );
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0 && currentRow != null;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		throw unsupported( "first()" );
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return exhausted && position >= 0;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		throw unsupported( "afterLast()" );
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		if ( currentRow == null ) {
+			return false;
+		}
+		if ( nextRow == null ) {
+			nextRow = takeRow( rowProcessingState );
+		}
+		return nextRow == END;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		throw unsupported( "last()" );
+	}
+
+	private static UnsupportedOperationException unsupported(String operation) {
+		return new UnsupportedOperationException(
+				operation + " is not supported by forward-only results which are read ahead, only next() is"
+		);
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return delegate.getValuesMapping();
+	}
+
+	@Override
+	public Object[] getCurrentRowValuesArray() {
+		return currentRow;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return currentRow[valueIndex];
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState) {
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		stopReader();
+		if ( sessionEndListener != null ) {
+			// the session keeps its listeners until it is closed
+			sessionEndListener.readAhead = null;
+		}
+		delegate.finishUp( session );
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+		// once the reader is started, it is the only thread using the ResultSet
+		if ( reader == null ) {
+			delegate.setFetchSize( fetchSize );
+		}
+	}
+
+	/**
+	 * Stops the reader when the session is closed, before its JDBC resources are released
+	 */
+	private static class SessionEndListener implements SessionEventListener {
+		private static final long serialVersionUID = 1L;
+
+		private transient volatile JdbcValuesReadAhead readAhead;
+
+		private SessionEndListener(JdbcValuesReadAhead readAhead) {
+			this.readAhead = readAhead;
+		}
+
+		@Override
+		public void end() {
+			final JdbcValuesReadAhead readAhead = this.readAhead;
+			if ( readAhead != null ) {
+				this.readAhead = null;
+				readAhead.stopReader();
+			}
+		}
+	}
+}
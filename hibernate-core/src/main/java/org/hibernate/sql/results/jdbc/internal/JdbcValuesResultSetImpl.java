@@ -85,7 +85,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().isCompactQueryCacheEntriesEnabled()
 			);
 		}
 		else {
@@ -316,6 +317,88 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	/**
+	 * Read every value of the current row into the given array, positioned by
+	 * {@linkplain SqlSelection#getValuesArrayPosition() values array position}.
+	 */
+	void readCurrentRowValues(Object[] row) {
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			if ( sqlSelections[i] != null ) {
+				row[i] = getCurrentRowValue( i );
+			}
+		}
+	}
+
+	/**
+	 * Read the value at the given position of the current row as a {@code long},
+	 * without boxing it, and without recording it in the
+	 * {@linkplain #getCurrentRowValuesArray() current row values}.  Nulls are
+	 * read as {@code 0}, and are detected by calling {@link #wasNull()}.
+	 */
+	public long getCurrentRowLongValue(int valueIndex) {
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		try {
+			return resultSetAccess.getResultSet().getLong( sqlSelection.getJdbcResultSetIndex() );
+		}
+		catch ( SQLException e ) {
+			throw extractionException( sqlSelection, e );
+		}
+	}
+
+	/**
+	 * Read the value at the given position of the current row as an {@code int}.
+	 *
+	 * @see #getCurrentRowLongValue(int)
+	 */
+	public int getCurrentRowIntValue(int valueIndex) {
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		try {
+			return resultSetAccess.getResultSet().getInt( sqlSelection.getJdbcResultSetIndex() );
+		}
+		catch ( SQLException e ) {
+			throw extractionException( sqlSelection, e );
+		}
+	}
+
+	/**
+	 * Read the value at the given position of the current row as a {@code double}.
+	 *
+	 * @see #getCurrentRowLongValue(int)
+	 */
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		final SqlSelection sqlSelection = sqlSelections[valueIndex];
+		try {
+			return resultSetAccess.getResultSet().getDouble( sqlSelection.getJdbcResultSetIndex() );
+		}
+		catch ( SQLException e ) {
+			throw extractionException( sqlSelection, e );
+		}
+	}
+
+	/**
+	 * Whether the last value read by {@link #getCurrentRowLongValue},
+	 * {@link #getCurrentRowIntValue} or {@link #getCurrentRowDoubleValue}
+	 * was null.
+	 */
+	public boolean wasNull() {
+		try {
+			return resultSetAccess.getResultSet().wasNull();
+		}
+		catch ( SQLException e ) {
+			throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not determine whether the last column read from the JDBC ResultSet was null"
+			);
+		}
+	}
+
+	private RuntimeException extractionException(SqlSelection sqlSelection, SQLException e) {
+		return executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+				e,
+				"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+		);
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
@@ -0,0 +1,271 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.query.ResultColumns;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.internal.ResultColumnsImpl;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * ResultsConsumer for reading results in column form, as {@link ResultColumns}.
+ * <p>
+ * When every domain result is a plain basic value, the values are read
+ * column by column straight from the JDBC {@link java.sql.ResultSet},
+ * bypassing the {@link RowReader}, and values of type {@code long},
+ * {@code int} and {@code double} without a converter are read and stored
+ * without boxing.  Otherwise, each row is read by the {@link RowReader},
+ * which must produce an {@code Object[]}, and split into the columns.
+ * <p>
+ * The results of this consumer are never cached, so that the values are
+ * always read from the {@code ResultSet}.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultColumns()
+ */
+public class ColumnarResultsConsumer implements ResultsConsumer<ResultColumns, Object[]> {
+	private static final ColumnarResultsConsumer INSTANCE = new ColumnarResultsConsumer();
+
+	private static final int ASSEMBLE = 0;
+	private static final int READ_LONG = 1;
+	private static final int READ_INT = 2;
+	private static final int READ_DOUBLE = 3;
+
+	public static ColumnarResultsConsumer instance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public ResultColumns consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<Object[]> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		RuntimeException ex = null;
+		try {
+			persistenceContext.beforeLoad();
+			persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+
+			final BasicResultAssembler<?>[] assemblers = basicResultAssemblers( rowReader, jdbcValues );
+			final ResultColumnsImpl results = assemblers == null
+					? readRows( rowProcessingState, processingOptions, rowReader )
+					: readColumns( (JdbcValuesResultSetImpl) jdbcValues, rowProcessingState, processingOptions, assemblers );
+
+			try {
+				rowReader.finishUp( jdbcValuesSourceProcessingState );
+				jdbcValuesSourceProcessingState.finishUp();
+			}
+			finally {
+				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
+			}
+
+			results.trim();
+			return results;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				jdbcValues.finishUp( session );
+				persistenceContext.afterLoad();
+				persistenceContext.initializeNonLazyCollections();
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	/**
+	 * The assemblers of the domain results, if they are all plain basic
+	 * values read from a {@code ResultSet}, or {@code null}.
+	 */
+	private static BasicResultAssembler<?>[] basicResultAssemblers(RowReader<?> rowReader, JdbcValues jdbcValues) {
+		if ( !( rowReader instanceof StandardRowReader )
+				|| !( jdbcValues instanceof JdbcValuesResultSetImpl )
+				|| !rowReader.getInitializersList().asList().isEmpty() ) {
+			return null;
+		}
+		final List<DomainResultAssembler<?>> resultAssemblers =
+				( (StandardRowReader<?>) rowReader ).getResultAssemblers();
+		final BasicResultAssembler<?>[] assemblers = new BasicResultAssembler<?>[resultAssemblers.size()];
+		for ( int i = 0; i < assemblers.length; i++ ) {
+			final DomainResultAssembler<?> assembler = resultAssemblers.get( i );
+			if ( !( assembler instanceof BasicResultAssembler ) ) {
+				return null;
+			}
+			assemblers[i] = (BasicResultAssembler<?>) assembler;
+		}
+		return assemblers;
+	}
+
+	private static ResultColumnsImpl readColumns(
+			JdbcValuesResultSetImpl jdbcValues,
+			RowProcessingStateStandardImpl rowProcessingState,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			BasicResultAssembler<?>[] assemblers) {
+		final int columnCount = assemblers.length;
+		final SqlSelection[] sqlSelections = new SqlSelection[jdbcValues.getValuesMapping().getRowSize()];
+		for ( SqlSelection sqlSelection : jdbcValues.getValuesMapping().getSqlSelections() ) {
+			sqlSelections[sqlSelection.getValuesArrayPosition()] = sqlSelection;
+		}
+
+		final Class<?>[] javaTypes = new Class<?>[columnCount];
+		final boolean[] unboxed = new boolean[columnCount];
+		final int[] readKinds = new int[columnCount];
+		final int[] positions = new int[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			final BasicResultAssembler<?> assembler = assemblers[i];
+			javaTypes[i] = assembler.getAssembledJavaType().getJavaTypeClass();
+			positions[i] = assembler.getValuesArrayPosition();
+			readKinds[i] = readKind( assembler, javaTypes[i], sqlSelections[positions[i]] );
+			unboxed[i] = readKinds[i] != ASSEMBLE;
+		}
+
+		final ResultColumnsImpl results = new ResultColumnsImpl( javaTypes, unboxed );
+		while ( rowProcessingState.next() ) {
+			results.nextRow();
+			for ( int i = 0; i < columnCount; i++ ) {
+				switch ( readKinds[i] ) {
+					case READ_LONG: {
+						final long value = jdbcValues.getCurrentRowLongValue( positions[i] );
+						if ( jdbcValues.wasNull() ) {
+							results.setNull( i );
+						}
+						else {
+							results.setLong( i, value );
+						}
+						break;
+					}
+					case READ_INT: {
+						final int value = jdbcValues.getCurrentRowIntValue( positions[i] );
+						if ( jdbcValues.wasNull() ) {
+							results.setNull( i );
+						}
+						else {
+							results.setInt( i, value );
+						}
+						break;
+					}
+					case READ_DOUBLE: {
+						final double value = jdbcValues.getCurrentRowDoubleValue( positions[i] );
+						if ( jdbcValues.wasNull() ) {
+							results.setNull( i );
+						}
+						else {
+							results.setDouble( i, value );
+						}
+						break;
+					}
+					default: {
+						results.setObject( i, assemblers[i].assemble( rowProcessingState, processingOptions ) );
+					}
+				}
+			}
+			rowProcessingState.finishRowProcessing();
+		}
+		return results;
+	}
+
+	/**
+	 * Determine whether the value may be read straight from the {@code ResultSet}
+	 * as a primitive, which is the case when there is no conversion involved.
+	 */
+	private static int readKind(BasicResultAssembler<?> assembler, Class<?> javaType, SqlSelection sqlSelection) {
+		if ( assembler.getClass() != BasicResultAssembler.class
+				|| assembler.getValueConverter() != null
+				|| sqlSelection == null ) {
+			return ASSEMBLE;
+		}
+		final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return ASSEMBLE;
+		}
+		final int jdbcTypeCode = expressionType.getSingleJdbcMapping().getJdbcType().getJdbcTypeCode();
+		if ( javaType == Long.class ) {
+			switch ( jdbcTypeCode ) {
+				case SqlTypes.BIGINT:
+				case SqlTypes.INTEGER:
+				case SqlTypes.SMALLINT:
+				case SqlTypes.TINYINT:
+					return READ_LONG;
+			}
+		}
+		else if ( javaType == Integer.class ) {
+			switch ( jdbcTypeCode ) {
+				case SqlTypes.INTEGER:
+				case SqlTypes.SMALLINT:
+				case SqlTypes.TINYINT:
+					return READ_INT;
+			}
+		}
+		else if ( javaType == Double.class ) {
+			switch ( jdbcTypeCode ) {
+				case SqlTypes.DOUBLE:
+				case SqlTypes.FLOAT:
+					return READ_DOUBLE;
+			}
+		}
+		return ASSEMBLE;
+	}
+
+	private static ResultColumnsImpl readRows(
+			RowProcessingStateStandardImpl rowProcessingState,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			RowReader<Object[]> rowReader) {
+		final List<JavaType<?>> resultJavaTypes = rowReader.getResultJavaTypes();
+		final int columnCount = resultJavaTypes.size();
+		final Class<?>[] javaTypes = new Class<?>[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			javaTypes[i] = resultJavaTypes.get( i ).getJavaTypeClass();
+		}
+
+		final ResultColumnsImpl results = new ResultColumnsImpl( javaTypes, new boolean[columnCount] );
+		while ( rowProcessingState.next() ) {
+			final Object[] row = rowReader.readRow( rowProcessingState, processingOptions );
+			results.nextRow();
+			for ( int i = 0; i < columnCount; i++ ) {
+				results.setObject( i, row[i] );
+			}
+			rowProcessingState.finishRowProcessing();
+		}
+		return results;
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -228,6 +228,9 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 				jdbcValues.finishUp( session );
 				persistenceContext.afterLoad();
 				persistenceContext.initializeNonLazyCollections();
+				if ( ex == null ) {
+					persistenceContext.getBatchFetchQueue().prefetchBatchLoadableEntities();
+				}
 			}
 			catch (RuntimeException e) {
 				if ( ex != null ) {
@@ -53,6 +53,23 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * What is the amount of time within which the given percentage
+	 * of the executions of this query completed?
+	 * <p>
+	 * The times are recorded in a histogram, and so the returned
+	 * value is approximate, within 12.5% of the exact value.
+	 *
+	 * @param percentile A percentage, between {@code 0} and {@code 100},
+	 *                   for example, {@code 99} for the 99th percentile
+	 *
+	 * @since 6.4
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of execution times, with buckets of exponentially
+ * increasing width, in the style of an HDR histogram.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly.  Above that, each
+ * power of two is split into {@value #HALF_SUB_BUCKET_COUNT} buckets of equal
+ * width, so that a value is reported with a relative error of at most 12.5%,
+ * using a fixed amount of memory, whatever the number of recorded values.
+ * Values above {@value #MAX_VALUE} are counted in the highest bucket.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+	static final long MAX_VALUE = Integer.MAX_VALUE;
+
+	private final AtomicLongArray counts = new AtomicLongArray( bucketIndex( MAX_VALUE ) + 1 );
+
+	/**
+	 * Record a value, which must not be negative.
+	 */
+	void record(long value) {
+		counts.incrementAndGet( bucketIndex( Math.min( Math.max( value, 0 ), MAX_VALUE ) ) );
+	}
+
+	/**
+	 * The value below which the given percentage of the recorded values fall,
+	 * reported as the highest value of its bucket, or {@code 0} if no value
+	 * was recorded.
+	 *
+	 * @param percentile A percentage, between {@code 0} and {@code 100}
+	 */
+	long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final int length = counts.length();
+		final long[] snapshot = new long[length];
+		long total = 0;
+		for ( int i = 0; i < length; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < length; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= rank ) {
+				return highestValueInBucket( i );
+			}
+		}
+		return highestValueInBucket( length - 1 );
+	}
+
+	private static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		// the shift leaves the value in [HALF_SUB_BUCKET_COUNT, SUB_BUCKET_COUNT)
+		final int shift = 63 - Long.numberOfLeadingZeros( value ) - ( SUB_BUCKET_BITS - 1 );
+		return shift * HALF_SUB_BUCKET_COUNT + (int) ( value >>> shift );
+	}
+
+	private static long highestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+		final long subBucket = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		return ( ( subBucket + 1 ) << shift ) - 1;
+	}
+}
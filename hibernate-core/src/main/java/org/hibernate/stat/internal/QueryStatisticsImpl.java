@@ -6,11 +6,8 @@
  */
 package org.hibernate.stat.internal;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
 import org.hibernate.stat.QueryStatistics;
@@ -30,23 +27,17 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder cachePutCount = new LongAdder();
 	private final LongAdder executionCount = new LongAdder();
 	private final LongAdder executionRowCount = new LongAdder();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAccumulator executionMaxTime = new LongAccumulator( Math::max, 0 );
+	private final LongAccumulator executionMinTime = new LongAccumulator( Math::min, Long.MAX_VALUE );
+	private final LongAdder totalExecutionTime = new LongAdder();
+	private final LatencyHistogram executionTimeHistogram = new LatencyHistogram();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
-	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
-
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final LongAdder planCompilationTotalMicroseconds = new LongAdder();
 
 	public QueryStatisticsImpl(String query) {
 		this.query = query;
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
 	}
 
 	/**
@@ -95,21 +86,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * average time in ms as double taken by the execution of this query onto the DB
 	 */
 	public double getExecutionAvgTimeAsDouble() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			double avgExecutionTime = 0;
-			final long ec = executionCount.sum();
-			if ( ec > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) ec;
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			writeLock.unlock();
-		}
+		// The total time is read first, so that an execution recorded concurrently
+		// may only be counted in the count, which never inflates the average
+		final long total = totalExecutionTime.sum();
+		final long ec = executionCount.sum();
+		return ec > 0 ? total / (double) ec : 0;
 	}
 
 	/**
@@ -119,6 +100,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return executionMaxTime.get();
 	}
 
+	/**
+	 * time in ms below which the given percentage of the executions of this query onto the DB took
+	 */
+	@Override
+	public long getExecutionTimePercentile(double percentile) {
+		return Math.min( executionTimeHistogram.getValueAtPercentile( percentile ), executionMaxTime.get() );
+	}
+
 	/**
 	 * min time in ms taken by the execution of this query onto the DB
 	 */
@@ -130,7 +119,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return totalExecutionTime.sum();
 	}
 
 	/**
@@ -151,7 +140,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * Query plan overall compiled total
 	 */
 	public long getPlanCompilationTotalMicroseconds() {
-		return planCompilationTotalMicroseconds.get();
+		return planCompilationTotalMicroseconds.sum();
 	}
 
 	/**
@@ -161,20 +150,12 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
-			executionCount.increment();
-			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			readLock.unlock();
-		}
+		executionMinTime.accumulate( time );
+		executionMaxTime.accumulate( time );
+		executionTimeHistogram.record( time );
+		executionCount.increment();
+		executionRowCount.add( rows );
+		totalExecutionTime.add( time );
 	}
 
 	/**
@@ -184,7 +165,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	 */
 	void compiled(long microseconds) {
 		planCacheMissCount.increment();
-		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		planCompilationTotalMicroseconds.add( microseconds );
 	}
 
 	void incrementCacheHitCount() {
@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests that the value bindings reused for the rows of a batch bind the values
+ * of each row, for single-table and multi-table mutations
+ */
+@DomainModel(annotatedClasses = {
+		BatchedBindingsTest.Reading.class,
+		BatchedBindingsTest.Device.class,
+		BatchedBindingsTest.Sensor.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"))
+@SessionFactory
+public class BatchedBindingsTest {
+
+	// not a multiple of the batch size, so that the last batch is partial
+	private static final int ROWS = 23;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Reading" ).executeUpdate();
+			session.createMutationQuery( "delete from Device" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSingleTable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Reading( i, label( i, 0 ), amount( i, 0 ) ) );
+			}
+		} );
+		assertReadings( scope, 0 );
+
+		scope.inTransaction( session -> {
+			for ( Reading reading : session.createSelectionQuery( "from Reading", Reading.class ).getResultList() ) {
+				reading.label = label( reading.id, 1 );
+				reading.amount = amount( reading.id, 1 );
+			}
+		} );
+		assertReadings( scope, 1 );
+	}
+
+	@Test
+	public void testMultiTable(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ROWS; i++ ) {
+				session.persist( new Sensor( i, label( i, 0 ), amount( i, 0 ) ) );
+			}
+		} );
+		assertSensors( scope, 0 );
+
+		scope.inTransaction( session -> {
+			for ( Sensor sensor : session.createSelectionQuery( "from Sensor", Sensor.class ).getResultList() ) {
+				sensor.name = label( sensor.id, 1 );
+				sensor.threshold = amount( sensor.id, 1 );
+			}
+		} );
+		assertSensors( scope, 1 );
+	}
+
+	private static void assertReadings(SessionFactoryScope scope, int round) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createNativeQuery(
+					"select id, label, amount from Reading order by id",
+					Object[].class
+			).getResultList();
+			assertRows( rows, round );
+		} );
+	}
+
+	private static void assertSensors(SessionFactoryScope scope, int round) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createNativeQuery(
+					"select d.id, d.name, s.threshold from Device d join Sensor s on s.id = d.id order by d.id",
+					Object[].class
+			).getResultList();
+			assertRows( rows, round );
+		} );
+	}
+
+	private static void assertRows(List<Object[]> rows, int round) {
+		assertEquals( ROWS, rows.size() );
+		for ( int i = 0; i < ROWS; i++ ) {
+			final Object[] row = rows.get( i );
+			assertEquals( i, ( (Number) row[0] ).intValue() );
+			assertEquals( label( i, round ), row[1] );
+			final Integer amount = amount( i, round );
+			if ( amount == null ) {
+				assertNull( row[2] );
+			}
+			else {
+				assertEquals( amount.intValue(), ( (Number) row[2] ).intValue() );
+			}
+		}
+	}
+
+	private static String label(int id, int round) {
+		return ( id + round ) % 3 == 0 ? null : "label " + id + "/" + round;
+	}
+
+	private static Integer amount(int id, int round) {
+		return ( id + round ) % 4 == 1 ? null : id * 10 + round;
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Integer id;
+		String label;
+		Integer amount;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, String label, Integer amount) {
+			this.id = id;
+			this.label = label;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Device")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Device {
+		@Id
+		Integer id;
+		String name;
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor extends Device {
+		Integer threshold;
+
+		public Sensor() {
+		}
+
+		public Sensor(Integer id, String name, Integer threshold) {
+			this.id = id;
+			this.name = name;
+			this.threshold = threshold;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#MULTI_ROW_INSERT}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Person.class,
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Car.class,
+		MultiRowInsertTest.Note.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERT, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Person" ).executeUpdate();
+					session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+					session.createMutationQuery( "delete from Note" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testInsertsAreExecutedAsMultiRowInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 25; i++ ) {
+						session.persist( new Person( i, "person " + i, i % 2 == 0 ? null : "nick " + i ) );
+					}
+				}
+		);
+		// the statement for 10 rows is prepared once, and executed twice
+		assertEquals( List.of( 10, 5 ), rowCounts( statementInspector.getSqlQueries() ) );
+
+		scope.inTransaction(
+				session -> {
+					final List<Person> people = session.createSelectionQuery( "from Person order by id", Person.class )
+							.list();
+					assertEquals( 25, people.size() );
+					for ( Person person : people ) {
+						assertEquals( "person " + person.id, person.name );
+						if ( person.id % 2 == 0 ) {
+							assertNull( person.nickname );
+						}
+						else {
+							assertEquals( "nick " + person.id, person.nickname );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testInsertsIntoSeveralTables(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 3; i++ ) {
+						session.persist( new Car( i, "plate " + i, (int) i + 1 ) );
+					}
+				}
+		);
+		assertEquals( List.of( 3, 3 ), rowCounts( statementInspector.getSqlQueries() ) );
+
+		scope.inTransaction(
+				session -> {
+					final List<Car> cars = session.createSelectionQuery( "from Car order by id", Car.class ).list();
+					assertEquals( 3, cars.size() );
+					for ( Car car : cars ) {
+						assertEquals( "plate " + car.id, car.plate );
+						assertEquals( car.id + 1, (long) car.doors );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testCustomWriteExpressionsFallBackToStandardBatching(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 12; i++ ) {
+						session.persist( new Note( i, "note " + i ) );
+					}
+				}
+		);
+		// the insert is not the plain generated shape, so its rows are inserted by a JDBC batch
+		final List<Integer> rowCounts = rowCounts( statementInspector.getSqlQueries() );
+		assertFalse( rowCounts.isEmpty() );
+		rowCounts.forEach( rowCount -> assertEquals( 1, rowCount ) );
+
+		scope.inTransaction(
+				session -> {
+					final List<Note> notes = session.createSelectionQuery( "from Note order by id", Note.class ).list();
+					assertEquals( 12, notes.size() );
+					for ( Note note : notes ) {
+						assertEquals( "NOTE " + note.id, note.text );
+					}
+				}
+		);
+	}
+
+	private static List<Integer> rowCounts(List<String> sqlQueries) {
+		return sqlQueries.stream()
+				.map( sql -> sql.split( "\\),\\(" ).length )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Long id;
+		private String name;
+		private String nickname;
+
+		public Person() {
+		}
+
+		public Person(Long id, String name, String nickname) {
+			this.id = id;
+			this.name = name;
+			this.nickname = nickname;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		protected Long id;
+		protected String plate;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String plate) {
+			this.id = id;
+			this.plate = plate;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		private Integer doors;
+
+		public Car() {
+		}
+
+		public Car(Long id, String plate, Integer doors) {
+			super( id, plate );
+			this.doors = doors;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Long id;
+		@ColumnTransformer(write = "upper(?)")
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
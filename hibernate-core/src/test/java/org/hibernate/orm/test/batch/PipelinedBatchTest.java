@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchBuilder;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.PersistenceException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_PIPELINING}
+ */
+@DomainModel(annotatedClasses = {
+		PipelinedBatchTest.Shipment.class,
+		PipelinedBatchTest.Parcel.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.BATCH_PIPELINING, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5")
+})
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Shipment" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testBatchBuilder(SessionFactoryScope scope) {
+		assertInstanceOf(
+				PipelinedBatchBuilder.class,
+				scope.getSessionFactory().getServiceRegistry().getService( BatchBuilder.class )
+		);
+	}
+
+	@Test
+	public void testInsertsAndUpdates(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 53; i++ ) {
+						session.persist( i % 3 == 0 ? new Parcel( i, "shipment " + i, i * 10 ) : new Shipment( i, "shipment " + i ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> session.createSelectionQuery( "from Shipment", Shipment.class )
+						.list()
+						.forEach( shipment -> shipment.destination = "updated " + shipment.id )
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Shipment> shipments =
+							session.createSelectionQuery( "from Shipment order by id", Shipment.class ).list();
+					assertEquals( 53, shipments.size() );
+					for ( Shipment shipment : shipments ) {
+						assertEquals( "updated " + shipment.id, shipment.destination );
+						if ( shipment.id % 3 == 0 ) {
+							assertEquals( shipment.id * 10, ( (Parcel) shipment ).weight );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testFailureOfPendingExecutionIsReported(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.persist( new Shipment( 3L, "existing" ) )
+		);
+		// the batch containing the duplicate is executed while the next one is filled
+		assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> {
+							for ( long i = 1; i <= 12; i++ ) {
+								session.persist( new Shipment( i, "shipment " + i ) );
+							}
+						}
+				)
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						1L,
+						session.createSelectionQuery( "select count(*) from Shipment", Long.class ).getSingleResult()
+				)
+		);
+	}
+
+	@Entity(name = "Shipment")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Shipment {
+		@Id
+		protected Long id;
+		protected String destination;
+
+		public Shipment() {
+		}
+
+		public Shipment(Long id, String destination) {
+			this.id = id;
+			this.destination = destination;
+		}
+	}
+
+	@Entity(name = "Parcel")
+	public static class Parcel extends Shipment {
+		private long weight;
+
+		public Parcel() {
+		}
+
+		public Parcel(Long id, String destination, long weight) {
+			super( id, destination );
+			this.weight = weight;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#ADAPTIVE_BATCH_FETCH}
+ */
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Order.class,
+		AdaptiveBatchFetchTest.Customer.class
+})
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10")
+		},
+		settingProviders = @SettingProvider(
+				provider = AdaptiveBatchFetchTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveBatchFetchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from CustomerOrder" ).executeUpdate();
+					session.createMutationQuery( "delete from Customer" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testSmallBatchUsesInPredicate(SessionFactoryScope scope) {
+		createOrders( scope, 4 );
+		assertBatchFetch( scope, 4, " in (" );
+	}
+
+	@Test
+	public void testLargeBatchUsesArrayParameter(SessionFactoryScope scope) {
+		// more ids than the 5 parameters allowed in one IN predicate by the dialect
+		createOrders( scope, 8 );
+		assertBatchFetch( scope, 8, "array_contains(" );
+	}
+
+	private static void createOrders(SessionFactoryScope scope, int count) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= count; i++ ) {
+						final Customer customer = new Customer( i, "customer " + i );
+						session.persist( customer );
+						session.persist( new Order( i, customer ) );
+					}
+				}
+		);
+	}
+
+	private static void assertBatchFetch(SessionFactoryScope scope, int count, String restriction) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Order> orders =
+							session.createSelectionQuery( "from CustomerOrder order by id", Order.class ).list();
+					statementInspector.clear();
+					Hibernate.initialize( orders.get( 0 ).customer );
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( restriction );
+					for ( Order order : orders ) {
+						assertThat( Hibernate.isInitialized( order.customer ) ).isTrue();
+					}
+					assertThat( orders ).hasSize( count );
+				}
+		);
+	}
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+		public TestDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		public TestDialect() {
+		}
+
+		public TestDialect(DatabaseVersion version) {
+			super( version );
+		}
+
+		@Override
+		public int getParameterCountLimit() {
+			return 5;
+		}
+	}
+
+	@Entity(name = "CustomerOrder")
+	public static class Order {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
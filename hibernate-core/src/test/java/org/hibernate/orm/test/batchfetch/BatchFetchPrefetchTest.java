@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_FETCH_PREFETCH}
+ */
+@DomainModel(annotatedClasses = {
+		BatchFetchPrefetchTest.Employee.class,
+		BatchFetchPrefetchTest.Department.class,
+		BatchFetchPrefetchTest.Company.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.BATCH_FETCH_PREFETCH, value = "true"),
+		@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "10")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class BatchFetchPrefetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Company company = new Company( 1L, "company" );
+					session.persist( company );
+					for ( long i = 1; i <= 25; i++ ) {
+						final Department department = new Department( i, company );
+						session.persist( department );
+						session.persist( new Employee( i, department ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Employee" ).executeUpdate();
+					session.createMutationQuery( "delete from Department" ).executeUpdate();
+					session.createMutationQuery( "delete from Company" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testProxiesOfQueryResultsArePrefetched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					final List<Employee> employees =
+							session.createSelectionQuery( "from Employee", Employee.class ).list();
+					assertThat( employees ).hasSize( 25 );
+					// the query, then 3 batches of departments
+					statementInspector.assertExecutedCount( 4 );
+					for ( Employee employee : employees ) {
+						assertThat( Hibernate.isInitialized( employee.department ) ).isTrue();
+						// the departments were loaded by the prefetch, so their company is not prefetched
+						final Department department = (Department) Hibernate.unproxy( employee.department );
+						assertThat( department.company ).isNotNull();
+						assertThat( Hibernate.isInitialized( department.company ) ).isFalse();
+					}
+					statementInspector.assertExecutedCount( 4 );
+				}
+		);
+	}
+
+	@Test
+	public void testReferencesAreNotPrefetched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					final Department department = session.getReference( Department.class, 1L );
+					session.createSelectionQuery( "from Company", Company.class ).list();
+					statementInspector.assertExecutedCount( 1 );
+					assertThat( Hibernate.isInitialized( department ) ).isFalse();
+				}
+		);
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Company company;
+
+		public Department() {
+		}
+
+		public Department(Long id, Company company) {
+			this.id = id;
+			this.company = company;
+		}
+	}
+
+	@Entity(name = "Company")
+	public static class Company {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Company() {
+		}
+
+		public Company(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
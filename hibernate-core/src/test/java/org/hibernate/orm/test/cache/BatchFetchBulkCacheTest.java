@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.internal.LocalStorageAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that batch fetching only reads the second-level cache entries of the keys
+ * which may be part of the batch, and tests the bulk put of cache entries
+ */
+@DomainModel(annotatedClasses = BatchFetchBulkCacheTest.Tag.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.BatchFetchBulkCacheTest$CountingRegionFactory")
+})
+@SessionFactory
+public class BatchFetchBulkCacheTest {
+
+	private static final int TAGS = 40;
+	private static final int BATCH_SIZE = 4;
+
+	private static final List<Integer> bulkReads = new ArrayList<>();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= TAGS; i++ ) {
+						session.persist( new Tag( i, "tag " + i ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		bulkReads.clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Tag" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testBatchFetchReadsOnlyTheKeysOfTheBatch(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().openSession() ) {
+			final List<Tag> tags = new ArrayList<>();
+			for ( int i = 1; i <= TAGS; i++ ) {
+				tags.add( session.getReference( Tag.class, i ) );
+			}
+			Hibernate.initialize( tags.get( 0 ) );
+			for ( int i = 0; i < TAGS; i++ ) {
+				assertEquals( i < BATCH_SIZE, Hibernate.isInitialized( tags.get( i ) ) );
+			}
+		}
+		int keysRead = 0;
+		for ( int keys : bulkReads ) {
+			assertTrue( keys <= BATCH_SIZE, "keys read at once: " + keys );
+			keysRead += keys;
+		}
+		// not every queued key is read
+		assertTrue( keysRead <= 2 * BATCH_SIZE, "keys read: " + keysRead );
+	}
+
+	@Test
+	public void testPutAllFromLoad(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Tag.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		scope.inSession(
+				session -> {
+					final Object[] keys = new Object[4];
+					final Object[] values = new Object[4];
+					for ( int i = 0; i < keys.length; i++ ) {
+						keys[i] = cacheAccess.generateCacheKey( 100 + i, persister, sessionFactory, null );
+						values[i] = "value " + i;
+					}
+					final Object[] versions = new Object[4];
+
+					assertEquals( 2, cacheAccess.putAllFromLoad(
+							session,
+							new Object[] { keys[0], keys[1] },
+							new Object[] { values[0], values[1] },
+							new Object[2],
+							true
+					) );
+					// with minimal puts, the items already cached are not put again
+					assertEquals( 2, cacheAccess.putAllFromLoad( session, keys, values, versions, true ) );
+					assertEquals( 4, cacheAccess.putAllFromLoad( session, keys, values, versions ) );
+					assertEquals( "value 3", cacheAccess.get( session, keys[3] ) );
+				}
+		);
+	}
+
+	public static class CountingRegionFactory extends LocalRegionFactory {
+		@Override
+		protected LocalStorageAccess createStorageAccess(String regionName) {
+			return new LocalStorageAccess( DEFAULT_MAX_ENTRIES, false, 0 ) {
+				@Override
+				public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+					bulkReads.add( keys.size() );
+					return super.getAllFromCache( keys, session );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "Tag")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	@BatchSize(size = BATCH_SIZE)
+	public static class Tag {
+		@Id
+		Integer id;
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that multi-id loading and batch fetching read the second-level cache
+ * with one bulk read, rather than one read per id
+ */
+@DomainModel(annotatedClasses = { BulkCacheReadTest.Shelf.class, BulkCacheReadTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class BulkCacheReadTest {
+
+	private static final int SHELVES = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= SHELVES; i++ ) {
+						final Shelf shelf = new Shelf( i, "shelf " + i );
+						session.persist( shelf );
+						for ( int j = 1; j <= 2; j++ ) {
+							final Book book = new Book( i * 10 + j, "book " + j, shelf );
+							shelf.books.add( book );
+							session.persist( book );
+						}
+					}
+				}
+		);
+		// put everything in the second-level cache
+		scope.inTransaction(
+				session -> session.createSelectionQuery( "from Shelf s join fetch s.books", Shelf.class )
+						.getResultList()
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final CountingListener listener = new CountingListener();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			// one of the shelves is already managed, so it is not looked up in the cache
+			session.get( Shelf.class, 1 );
+			scope.getSessionFactory().getStatistics().clear();
+			listener.cacheGets = 0;
+
+			final List<Shelf> shelves = session.byMultipleIds( Shelf.class )
+					.with( CacheMode.NORMAL )
+					.enableSessionCheck( true )
+					.multiLoad( ids() );
+			assertEquals( SHELVES, shelves.size() );
+			for ( int i = 0; i < SHELVES; i++ ) {
+				assertEquals( "shelf " + ( i + 1 ), shelves.get( i ).name );
+			}
+			assertEquals( 1, listener.cacheGets );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertEquals( SHELVES - 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getEntityLoadCount() );
+	}
+
+	@Test
+	public void testEntityBatchFetch(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		for ( int i = 1; i <= SHELVES; i += 2 ) {
+			sessionFactory.getCache().evictEntityData( Shelf.class, i );
+		}
+		final CountingListener listener = new CountingListener();
+		try ( Session session = sessionFactory.withOptions().eventListeners( listener ).openSession() ) {
+			final List<Shelf> shelves = new ArrayList<>();
+			for ( Integer id : ids() ) {
+				shelves.add( session.getReference( Shelf.class, id ) );
+			}
+			Hibernate.initialize( shelves.get( 0 ) );
+			// a read of the shelf being loaded, then a bulk read of the queued shelves
+			assertEquals( 2, listener.cacheGets );
+			// the batch only loads the shelves which are not in the cache
+			assertEquals( SHELVES / 2, sessionFactory.getStatistics().getEntityLoadCount() );
+			for ( int i = 0; i < SHELVES; i++ ) {
+				assertEquals( i % 2 == 0, Hibernate.isInitialized( shelves.get( i ) ) );
+			}
+		}
+	}
+
+	@Test
+	public void testCollectionBatchFetch(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		for ( int i = 1; i <= SHELVES; i += 2 ) {
+			sessionFactory.getCache().evictCollectionData( Shelf.class.getName() + ".books", i );
+		}
+		final CountingListener listener = new CountingListener();
+		try ( Session session = sessionFactory.withOptions().eventListeners( listener ).openSession() ) {
+			final List<Shelf> shelves = session.createSelectionQuery( "from Shelf s order by s.id", Shelf.class )
+					.setCacheMode( CacheMode.IGNORE )
+					.getResultList();
+			sessionFactory.getStatistics().clear();
+			listener.cacheGets = 0;
+
+			Hibernate.initialize( shelves.get( 0 ).books );
+			// a read of the collection being loaded, then a bulk read of the queued collections
+			assertEquals( 2, listener.cacheGets );
+			// the batch only loads the collections which are not in the cache
+			assertEquals( SHELVES / 2, sessionFactory.getStatistics().getCollectionLoadCount() );
+			for ( int i = 0; i < SHELVES; i++ ) {
+				assertEquals( i % 2 == 0, Hibernate.isInitialized( shelves.get( i ).books ) );
+			}
+			assertEquals( 2, shelves.get( 1 ).books.size() );
+		}
+	}
+
+	private static List<Integer> ids() {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 1; i <= SHELVES; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	private static class CountingListener extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 20)
+	public static class Shelf {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "shelf")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		@BatchSize(size = 20)
+		List<Book> books = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Shelf shelf;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+}
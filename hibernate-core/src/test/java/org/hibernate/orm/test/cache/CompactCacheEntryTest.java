@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CompactCacheEntry}
+ */
+@DomainModel(annotatedClasses = { CompactCacheEntryTest.Publisher.class, CompactCacheEntryTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_COMPACT_CACHE_ENTRIES, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class CompactCacheEntryTest {
+
+	private static final UUID ISBN = UUID.randomUUID();
+	private static final LocalDateTime PUBLISHED = LocalDateTime.of( 2023, 5, 17, 10, 30, 15, 123_000_000 );
+	private static final Instant PRINTED = Instant.ofEpochSecond( 1_684_000_000L, 456_000_000 );
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Publisher publisher = new Publisher( 1, "publisher" );
+					session.persist( publisher );
+					final Book book = new Book();
+					book.id = 1L;
+					book.title = "Hibernate in Action";
+					book.pages = 400;
+					book.available = true;
+					book.rating = 4.5d;
+					book.price = new BigDecimal( "39.99" );
+					book.released = LocalDate.of( 2023, 6, 1 );
+					book.published = PUBLISHED;
+					book.printed = PRINTED;
+					book.isbn = ISBN;
+					book.cover = new byte[] { 1, 2, 3 };
+					book.format = Format.HARDCOVER;
+					book.dimensions = new Dimensions( 20, 30 );
+					book.publisher = publisher;
+					session.persist( book );
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRoundTrip(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		assertTrue( persister.getCacheEntryStructure() instanceof CompactCacheEntry );
+
+		// put the book in the cache
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		assertEquals( 1, statistics.getSecondLevelCachePutCount() );
+		assertTrue( getCachedEntry( scope, persister ) instanceof byte[] );
+
+		scope.inTransaction(
+				session -> {
+					final Book book = session.find( Book.class, 1L );
+					assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+					assertEquals( "Hibernate in Action", book.title );
+					assertEquals( 400, book.pages );
+					assertTrue( book.available );
+					assertEquals( 4.5d, book.rating );
+					assertEquals( new BigDecimal( "39.99" ), book.price );
+					assertEquals( LocalDate.of( 2023, 6, 1 ), book.released );
+					assertEquals( PUBLISHED, book.published );
+					assertEquals( PRINTED, book.printed );
+					assertEquals( ISBN, book.isbn );
+					assertArrayEquals( new byte[] { 1, 2, 3 }, book.cover );
+					assertEquals( Format.HARDCOVER, book.format );
+					assertEquals( 20, book.dimensions.width );
+					assertEquals( 30, book.dimensions.height );
+					assertNull( book.subtitle );
+					assertEquals( 0, book.version );
+					assertEquals( "publisher", ( (Publisher) Hibernate.unproxy( book.publisher ) ).name );
+				}
+		);
+	}
+
+	@Test
+	public void testMismatchedEntryIsMiss(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		final byte[] record = (byte[]) getCachedEntry( scope, persister );
+
+		// change the fingerprint of the mapping, which follows the format
+		// version and the entity name
+		final ByteBuffer buffer = ByteBuffer.wrap( record );
+		final int fingerprintPosition = 1 + 4 + buffer.getInt( 1 );
+		buffer.putInt( fingerprintPosition, buffer.getInt( fingerprintPosition ) + 1 );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		scope.inTransaction(
+				session -> {
+					final Object key = cacheAccess.generateCacheKey( 1L, persister, sessionFactory, null );
+					cacheAccess.evict( key );
+					cacheAccess.putFromLoad( session, key, record, 0, false );
+				}
+		);
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> {
+					final Book book = session.find( Book.class, 1L );
+					// the book was read from the database, and cached again
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+					assertEquals( 1, statistics.getSecondLevelCachePutCount() );
+					assertEquals( "Hibernate in Action", book.title );
+				}
+		);
+	}
+
+	private static Object getCachedEntry(SessionFactoryScope scope, EntityPersister persister) {
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		return scope.fromSession(
+				session -> cacheAccess.get(
+						session,
+						cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null )
+				)
+		);
+	}
+
+	public enum Format {
+		PAPERBACK,
+		HARDCOVER
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Publisher {
+		@Id
+		Integer id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Book {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String title;
+		String subtitle;
+		int pages;
+		boolean available;
+		double rating;
+		BigDecimal price;
+		LocalDate released;
+		LocalDateTime published;
+		Instant printed;
+		UUID isbn;
+		byte[] cover;
+		Format format;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+	}
+}
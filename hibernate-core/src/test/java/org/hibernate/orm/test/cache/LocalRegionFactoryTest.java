@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.internal.LocalStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LocalRegionFactory}
+ */
+@DomainModel(annotatedClasses = LocalRegionFactoryTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory"),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_MAX_ENTRIES + ".books", value = "10")
+})
+@SessionFactory
+public class LocalRegionFactoryTest {
+
+	private static final int BOOKS = 50;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= BOOKS; i++ ) {
+						session.persist( new Book( i, "book " + i ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCaching(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ) );
+		scope.inTransaction( session -> assertEquals( "book 1", session.find( Book.class, 1 ).title ) );
+		assertEquals( 1, statistics.getSecondLevelCachePutCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertEquals( 1, regionStatistics.getElementCountInMemory() );
+		assertTrue( regionStatistics.getSizeInMemory() > 0 );
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> session.createSelectionQuery( "from Book where id < 5", Book.class )
+							.setCacheable( true )
+							.getResultList()
+			);
+		}
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testMaximumEntries(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 1; i <= BOOKS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> session.find( Book.class, id ) );
+		}
+		assertEquals( BOOKS, statistics.getSecondLevelCachePutCount() );
+		assertEquals( 10, statistics.getDomainDataRegionStatistics( "books" ).getElementCountInMemory() );
+	}
+
+	@Test
+	public void testFrequentEntriesAreRetained() {
+		final LocalStorageAccess storage = new LocalStorageAccess( 10, false, 0 );
+		for ( int i = 0; i < 10; i++ ) {
+			storage.putIntoCache( i, "frequent " + i, null );
+		}
+		for ( int j = 0; j < 5; j++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				assertNotNull( storage.getFromCache( i, null ) );
+			}
+		}
+
+		// a scan of entries read once does not flush the frequently read entries,
+		// as it would with a LRU eviction policy
+		for ( int i = 100; i < 200; i++ ) {
+			storage.putIntoCache( i, "scanned " + i, null );
+		}
+		assertEquals( 10, storage.getElementCountInMemory() );
+		int retained = 0;
+		for ( int i = 0; i < 10; i++ ) {
+			if ( storage.contains( i ) ) {
+				retained++;
+			}
+		}
+		assertTrue( retained >= 9, "Only " + retained + " frequent entries were retained" );
+		assertEquals( 100, storage.getEvictionCount() );
+	}
+
+	@Test
+	public void testMaximumSize() {
+		final LocalStorageAccess storage = new LocalStorageAccess( 10_000, true, 0 );
+		for ( int i = 0; i < 50; i++ ) {
+			storage.putIntoCache( i, new byte[1000], null );
+		}
+		assertTrue( storage.getSizeInMemory() <= 10_000 );
+		assertTrue( storage.getElementCountInMemory() >= 8 );
+		assertEquals( 50, storage.getElementCountInMemory() + storage.getEvictionCount() );
+	}
+
+	@Test
+	public void testTimeToLive() {
+		final long[] time = { 0 };
+		final LocalStorageAccess storage = new LocalStorageAccess( 10, false, 1000 ) {
+			@Override
+			protected long currentTime() {
+				return time[0];
+			}
+		};
+		storage.putIntoCache( 1, "first", null );
+		time[0] = 500_000_000L;
+		storage.putIntoCache( 2, "second", null );
+		assertEquals( "first", storage.getFromCache( 1, null ) );
+
+		time[0] = 1_000_000_000L;
+		assertNull( storage.getFromCache( 1, null ) );
+		assertEquals( "second", storage.getFromCache( 2, null ) );
+		assertEquals( 1, storage.getElementCountInMemory() );
+
+		time[0] = 1_500_000_000L;
+		assertFalse( storage.contains( 2 ) );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
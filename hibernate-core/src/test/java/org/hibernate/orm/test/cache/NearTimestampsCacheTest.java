@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.internal.NearTimestampsCacheFactory;
+import org.hibernate.cache.internal.NearTimestampsCacheImpl;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link NearTimestampsCacheFactory}
+ */
+@DomainModel(annotatedClasses = NearTimestampsCacheTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.cache.NearTimestampsCacheTest$NotifyingRegionFactory"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_FACTORY,
+				value = "org.hibernate.cache.internal.NearTimestampsCacheFactory")
+})
+@SessionFactory
+public class NearTimestampsCacheTest {
+
+	private static final AtomicInteger regionReads = new AtomicInteger();
+	// run while the region is read, to simulate a concurrent notification
+	private static volatile Runnable duringRead;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "first" ) ) );
+		scope.getSessionFactory().getStatistics().clear();
+		regionReads.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		duringRead = null;
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testQueryCacheHitsDoNotReadRegion(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		assertTrue( sessionFactory.getCache().getTimestampsCache() instanceof NearTimestampsCacheImpl );
+		final Statistics statistics = sessionFactory.getStatistics();
+
+		for ( int i = 0; i < 5; i++ ) {
+			assertEquals( 1, countBooks( scope ) );
+		}
+		assertEquals( 4, statistics.getQueryCacheHitCount() );
+		// the timestamp of the space was written by the insert, and notified
+		assertEquals( 0, regionReads.get() );
+
+		// local updates are seen through the notifications
+		scope.inTransaction( session -> session.persist( new Book( 2, "second" ) ) );
+		assertEquals( 2, countBooks( scope ) );
+		assertEquals( 4, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, countBooks( scope ) );
+		assertEquals( 5, statistics.getQueryCacheHitCount() );
+		assertEquals( 0, regionReads.get() );
+	}
+
+	@Test
+	public void testNotifiedUpdate(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		final TimestampsCache timestampsCache = sessionFactory.getCache().getTimestampsCache();
+
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// a change made by another process invalidates the cached results
+		final long timestamp = sessionFactory.getCache().getRegionFactory().nextTimestamp() + 60_000;
+		timestampsCache.getRegion().putIntoCache( "Book", timestamp, null );
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 0, regionReads.get() );
+	}
+
+	@Test
+	public void testMissingTimestampIsReadOnce(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getCache().getTimestampsCache().clear();
+		regionReads.set( 0 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( 1, countBooks( scope ) );
+		}
+		assertEquals( 2, sessionFactory.getStatistics().getQueryCacheHitCount() );
+		assertEquals( 1, regionReads.get() );
+	}
+
+	@Test
+	public void testNotificationWhileReadingWins(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final NearTimestampsCacheImpl timestampsCache =
+				(NearTimestampsCacheImpl) sessionFactory.getCache().getTimestampsCache();
+		final TimestampsRegion region = timestampsCache.getRegion();
+
+		// the local copy is dropped, and the timestamp is removed while it is read
+		timestampsCache.timestampsCleared();
+		duringRead = () -> {
+			duringRead = null;
+			region.clear();
+		};
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, regionReads.get() );
+
+		// the value read was not kept, since it might be stale
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 2, regionReads.get() );
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 2, regionReads.get() );
+	}
+
+	@Test
+	public void testRegionClearIsNotified(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 0, regionReads.get() );
+
+		sessionFactory.getCache().getTimestampsCache().getRegion().clear();
+		assertEquals( 1, countBooks( scope ) );
+		assertEquals( 1, regionReads.get() );
+	}
+
+	private static long countBooks(SessionFactoryScope scope) {
+		return scope.fromSession(
+				session -> session.createSelectionQuery( "select count(*) from Book", Long.class )
+						.setCacheable( true )
+						.getSingleResult()
+		);
+	}
+
+	public static class NotifyingRegionFactory extends CachingRegionFactory {
+		@Override
+		public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+			return new NotifyingTimestampsRegion(
+					regionName,
+					this,
+					createTimestampsRegionStorageAccess( regionName, sessionFactory )
+			);
+		}
+	}
+
+	private static class NotifyingTimestampsRegion extends TimestampsRegionTemplate {
+		private final List<UpdateListener> listeners = new CopyOnWriteArrayList<>();
+
+		private NotifyingTimestampsRegion(String name, CachingRegionFactory regionFactory, StorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+		}
+
+		@Override
+		public boolean addUpdateListener(UpdateListener listener) {
+			listeners.add( listener );
+			return true;
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			regionReads.incrementAndGet();
+			final Object value = super.getFromCache( key, session );
+			final Runnable action = duringRead;
+			if ( action != null ) {
+				action.run();
+			}
+			return value;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			super.putIntoCache( key, value, session );
+			for ( UpdateListener listener : listeners ) {
+				listener.timestampUpdated( key, value );
+			}
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			for ( UpdateListener listener : listeners ) {
+				listener.timestampsCleared();
+			}
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
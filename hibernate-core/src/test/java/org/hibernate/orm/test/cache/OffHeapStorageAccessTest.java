@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.nio.file.Path;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OffHeapStorageAccess}
+ */
+@DomainModel(annotatedClasses = OffHeapStorageAccessTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.LocalRegionFactory"),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_OFF_HEAP_SIZE + ".books", value = "1048576")
+})
+@SessionFactory
+public class OffHeapStorageAccessTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "book 1" ) ) );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> assertEquals( "book 1", session.find( Book.class, 1 ).title ) );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertEquals( 1, regionStatistics.getElementCountInMemory() );
+		assertTrue( regionStatistics.getSizeInMemory() > 0 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ).title = "updated" );
+		scope.inTransaction( session -> assertEquals( "updated", session.find( Book.class, 1 ).title ) );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testValuesAreCopied() {
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 64 * 1024, 0 );
+		final Object[] value = { "title", 42, null };
+		storage.putIntoCache( 1, value, null );
+		value[0] = "changed";
+
+		final Object[] cached = (Object[]) storage.getFromCache( 1, null );
+		assertArrayEquals( new Object[] { "title", 42, null }, cached );
+		assertTrue( cached != storage.getFromCache( 1, null ) );
+
+		storage.putIntoCache( 1, "replaced", null );
+		assertEquals( "replaced", storage.getFromCache( 1, null ) );
+		storage.removeFromCache( 1, null );
+		assertNull( storage.getFromCache( 1, null ) );
+		assertEquals( 0, storage.getElementCountInMemory() );
+	}
+
+	@Test
+	public void testOldestEntriesAreEvicted() {
+		final long capacity = 16 * 1024;
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( capacity, 0 );
+		for ( int i = 0; i < 1000; i++ ) {
+			storage.putIntoCache( i, "entry " + i, null );
+		}
+		assertTrue( storage.getSizeInMemory() <= capacity );
+		assertTrue( storage.getElementCountInMemory() < 1000 );
+		assertFalse( storage.contains( 0 ) );
+		assertEquals( "entry 999", storage.getFromCache( 999, null ) );
+	}
+
+	@Test
+	public void testTimeToLive() {
+		final long[] time = { 0 };
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 64 * 1024, 1000 ) {
+			@Override
+			protected long currentTime() {
+				return time[0];
+			}
+		};
+		storage.putIntoCache( 1, "first", null );
+		time[0] = 500;
+		storage.putIntoCache( 2, "second", null );
+		assertEquals( "first", storage.getFromCache( 1, null ) );
+
+		time[0] = 1000;
+		assertNull( storage.getFromCache( 1, null ) );
+		assertEquals( "second", storage.getFromCache( 2, null ) );
+	}
+
+	@Test
+	public void testWarmStart(@TempDir Path directory) {
+		final Path file = directory.resolve( "books.cache" );
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 64 * 1024, 0, file );
+		for ( int i = 0; i < 10; i++ ) {
+			storage.putIntoCache( i, "entry " + i, null );
+		}
+		storage.putIntoCache( 1, "replaced", null );
+		storage.removeFromCache( 2, null );
+		assertEquals( 9, storage.getElementCountOnDisk() );
+		storage.release();
+
+		final OffHeapStorageAccess restarted = new OffHeapStorageAccess( 64 * 1024, 0, file );
+		assertEquals( 9, restarted.getElementCountInMemory() );
+		assertEquals( "entry 0", restarted.getFromCache( 0, null ) );
+		assertEquals( "replaced", restarted.getFromCache( 1, null ) );
+		assertFalse( restarted.contains( 2 ) );
+
+		// a file of another capacity is not loaded
+		restarted.release();
+		assertEquals( 0, new OffHeapStorageAccess( 128 * 1024, 0, file ).getElementCountInMemory() );
+	}
+
+	@Test
+	public void testWarmStartWithDifferentMapping(@TempDir Path directory, SessionFactoryScope scope) {
+		final Path file = directory.resolve( "books.cache" );
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 64 * 1024, 0, file, factory -> 1 );
+		scope.inSession( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				storage.putIntoCache( i, "entry " + i, session );
+			}
+		} );
+		storage.release();
+
+		final OffHeapStorageAccess restarted = new OffHeapStorageAccess( 64 * 1024, 0, file, factory -> 1 );
+		assertEquals( 10, restarted.getElementCountInMemory() );
+		// not verified against the mapping yet
+		assertFalse( restarted.contains( 0 ) );
+		scope.inSession( session -> assertEquals( "entry 0", restarted.getFromCache( 0, session ) ) );
+		assertTrue( restarted.contains( 0 ) );
+		restarted.release();
+
+		final OffHeapStorageAccess remapped = new OffHeapStorageAccess( 64 * 1024, 0, file, factory -> 2 );
+		scope.inSession( session -> assertNull( remapped.getFromCache( 0, session ) ) );
+		assertEquals( 0, remapped.getElementCountInMemory() );
+		scope.inSession( session -> remapped.putIntoCache( 0, "remapped", session ) );
+		remapped.release();
+
+		// the file now holds the entries of the new mapping
+		final OffHeapStorageAccess restartedRemapped = new OffHeapStorageAccess( 64 * 1024, 0, file, factory -> 2 );
+		scope.inSession( session -> assertEquals( "remapped", restartedRemapped.getFromCache( 0, session ) ) );
+		assertEquals( 1, restartedRemapped.getElementCountInMemory() );
+	}
+
+	@Test
+	public void testNonSerializableValueIsNotCached() {
+		final OffHeapStorageAccess storage = new OffHeapStorageAccess( 64 * 1024, 0 );
+		storage.putIntoCache( 1, "first", null );
+		storage.putIntoCache( 1, new Object(), null );
+		assertNull( storage.getFromCache( 1, null ) );
+		assertEquals( 0, storage.getElementCountInMemory() );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Transient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#INCREMENTAL_FLUSH}
+ */
+@DomainModel(annotatedClasses = { IncrementalFlushTest.Item.class, IncrementalFlushTest.Basket.class })
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.INCREMENTAL_FLUSH, value = "true"),
+				@Setting(name = AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY,
+						value = "org.hibernate.orm.test.flush.IncrementalFlushTest$Strategy")
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class IncrementalFlushTest {
+
+	private static final int ITEM_COUNT = 20;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ITEM_COUNT; i++ ) {
+						session.persist( new Item( (long) i, "item " + i ) );
+					}
+					session.persist( new Basket( 1L ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Item" ).executeUpdate();
+					session.createQuery( "from Basket", Basket.class ).list().forEach( session::remove );
+				}
+		);
+	}
+
+	@Test
+	public void testOnlyModifiedEntityIsUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Item> items = new ArrayList<>();
+		scope.inTransaction(
+				session -> {
+					items.addAll( session.createSelectionQuery( "from Item order by id", Item.class ).list() );
+					assertEquals( ITEM_COUNT, items.size() );
+					items.get( 7 ).setName( "changed" );
+					items.forEach( item -> item.listenerDirtinessChecks = 0 );
+					statementInspector.clear();
+				}
+		);
+		assertEquals( 1, statementInspector.getSqlQueries().size() );
+		statementInspector.assertIsUpdate( 0 );
+
+		// the unmodified items must never have reached the flush listener
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			assertEquals( i == 7 ? 1 : 0, items.get( i ).listenerDirtinessChecks, "listener dirtiness checks of item " + i );
+		}
+
+		scope.inTransaction(
+				session -> assertEquals( "changed", session.find( Item.class, 7L ).getName() )
+		);
+	}
+
+	@Test
+	public void testAutoFlushBeforeQuery(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+					items.get( 3 ).setName( "changed" );
+					assertEquals(
+							1L,
+							session.createSelectionQuery( "select count(*) from Item where name = 'changed'", Long.class )
+									.getSingleResult()
+					);
+					items.get( 3 ).setName( "changed" );
+					items.get( 4 ).setName( "changed" );
+					assertEquals(
+							2L,
+							session.createSelectionQuery( "select count(*) from Item where name = 'changed'", Long.class )
+									.getSingleResult()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testEntityWithCollectionIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.find( Basket.class, 1L ).getLabels().add( "fruit" )
+		);
+		scope.inTransaction(
+				session -> assertEquals( Set.of( "fruit" ), session.find( Basket.class, 1L ).getLabels() )
+		);
+	}
+
+	/**
+	 * Tracks the modifications made through the setters of {@link Item},
+	 * and counts how often the flush listener asks about each {@code Item}.
+	 */
+	public static class Strategy implements CustomEntityDirtinessStrategy {
+		@Override
+		public boolean canDirtyCheck(Object entity, EntityPersister persister, Session session) {
+			if ( entity instanceof Item ) {
+				if ( calledFromFlushListener() ) {
+					( (Item) entity ).listenerDirtinessChecks++;
+				}
+				return true;
+			}
+			return false;
+		}
+
+		private static boolean calledFromFlushListener() {
+			return StackWalker.getInstance().walk(
+					frames -> frames.anyMatch(
+							frame -> frame.getClassName().equals( DefaultFlushEntityEventListener.class.getName() )
+					)
+			);
+		}
+
+		@Override
+		public boolean isDirty(Object entity, EntityPersister persister, Session session) {
+			return !( (Item) entity ).changedAttributes.isEmpty();
+		}
+
+		@Override
+		public void resetDirty(Object entity, EntityPersister persister, Session session) {
+			if ( entity instanceof Item ) {
+				( (Item) entity ).changedAttributes.clear();
+			}
+		}
+
+		@Override
+		public void findDirty(
+				Object entity,
+				EntityPersister persister,
+				Session session,
+				DirtyCheckContext dirtyCheckContext) {
+			if ( entity instanceof Item ) {
+				dirtyCheckContext.doDirtyChecking(
+						attributeInformation -> ( (Item) entity ).changedAttributes.contains( attributeInformation.getName() )
+				);
+			}
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+
+		@Transient
+		private final Set<String> changedAttributes = new HashSet<>();
+
+		@Transient
+		private int listenerDirtinessChecks;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			changedAttributes.add( "name" );
+		}
+	}
+
+	@Entity(name = "Basket")
+	public static class Basket {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		private Set<String> labels = new HashSet<>();
+
+		public Basket() {
+		}
+
+		public Basket(Long id) {
+			this.id = id;
+		}
+
+		public Set<String> getLabels() {
+			return labels;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = { ParallelDirtyCheckTest.Account.class, ParallelDirtyCheckTest.Transfer.class })
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, value = "100"))
+@SessionFactory(generateStatistics = true)
+public class ParallelDirtyCheckTest {
+
+	private static final int ACCOUNT_COUNT = 1000;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < ACCOUNT_COUNT; i++ ) {
+						final Account account = new Account( (long) i, "account " + i, new Balance( 0L, "EUR" ) );
+						session.persist( account );
+						if ( i % 10 == 0 ) {
+							session.persist( new Transfer( (long) i, account ) );
+						}
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Transfer" ).executeUpdate();
+					session.createMutationQuery( "delete from Account" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Account> accounts = session.createSelectionQuery( "from Account", Account.class ).list();
+					for ( Account account : accounts ) {
+						if ( account.id % 7 == 0 ) {
+							account.balance = new Balance( account.id + 1, "EUR" );
+						}
+						else if ( account.id % 7 == 1 ) {
+							account.name = "renamed";
+						}
+					}
+				}
+		);
+		assertEquals( 286, statistics.getEntityUpdateCount() );
+
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							143L,
+							session.createSelectionQuery( "select count(*) from Account where balance.amount > 0", Long.class )
+									.getSingleResult()
+					);
+					assertEquals(
+							143L,
+							session.createSelectionQuery( "select count(*) from Account where name = 'renamed'", Long.class )
+									.getSingleResult()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesWithAssociationsAreUpdated(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Transfer> transfers = session.createSelectionQuery( "from Transfer", Transfer.class ).list();
+					final Account target = session.find( Account.class, 1L );
+					transfers.forEach( transfer -> transfer.account = target );
+					session.createSelectionQuery( "from Account", Account.class ).list();
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals(
+						(long) ACCOUNT_COUNT / 10,
+						session.createSelectionQuery( "select count(*) from Transfer where account.id = 1", Long.class )
+								.getSingleResult()
+				)
+		);
+	}
+
+	@Test
+	public void testModificationDuringFlushIsNotLost(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( "from Account", Account.class ).list();
+					// the last account is modified after the first flush
+					session.flush();
+					session.find( Account.class, (long) ACCOUNT_COUNT - 1 ).name = "late";
+				}
+		);
+		assertEquals( 1, statistics.getEntityUpdateCount() );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Long id;
+		private String name;
+		private Balance balance;
+
+		public Account() {
+		}
+
+		public Account(Long id, String name, Balance balance) {
+			this.id = id;
+			this.name = name;
+			this.balance = balance;
+		}
+	}
+
+	@Embeddable
+	public static class Balance {
+		private Long amount;
+		private String currency;
+
+		public Balance() {
+		}
+
+		public Balance(Long amount, String currency) {
+			this.amount = amount;
+			this.currency = currency;
+		}
+	}
+
+	@Entity(name = "Transfer")
+	public static class Transfer {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Account account;
+
+		public Transfer() {
+		}
+
+		public Transfer(Long id, Account account) {
+			this.id = id;
+			this.account = account;
+		}
+	}
+}
@@ -6,17 +6,27 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
 import org.hibernate.id.enhanced.Optimizer;
 import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.PooledConcurrentOptimizer;
 import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
 
 import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -304,6 +314,163 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledConcurrentOptimizerUsage() {
+		Long next;
+		// same behavior as the pooled optimizer
+		SourceMock sequence = new SourceMock( 1, 10 );
+		Optimizer optimizer = buildPooledConcurrentOptimizer( -1, 10 );
+		for ( int i = 1; i <= 11; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		assertEquals( 11, optimizer.getLastSourceValue().makeValue().intValue() );
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testSubsequentPooledConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( 1, 3 );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 1, next.intValue() );
+		assertEquals( 5 + 1, sequence.getTimesCalled() );
+		assertEquals( 1001 + 3, sequence.getCurrentValue() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 2, next.intValue() );
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 3, next.intValue() );
+		assertEquals( 5 + 1, sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 + 4, next.intValue() );
+		assertEquals( 5 + 2, sequence.getTimesCalled() );
+		assertEquals( 1001 + 6, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testRecoveredPooledConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( 1, 3 );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+
+		// app ends, and starts back up (we should "lose" only 3 and 4 as id values)
+		final Optimizer optimizer2 = buildPooledConcurrentOptimizer( 1, 3 );
+		next = ( Long ) optimizer2.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 7, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledConcurrentOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int idsPerThread = 10_000;
+		final int increment = 50;
+		final SourceMock sequence = new SourceMock( 1, increment );
+		final Optimizer optimizer = buildPooledConcurrentOptimizer( -1, increment );
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<long[]>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					final long[] ids = new long[idsPerThread];
+					for ( int j = 0; j < idsPerThread; j++ ) {
+						ids[j] = (Long) optimizer.generate( sequence );
+					}
+					return ids;
+				} ) );
+			}
+			final Set<Long> generated = new HashSet<>();
+			for ( Future<long[]> future : futures ) {
+				for ( long id : future.get() ) {
+					assertTrue( generated.add( id ), "Duplicate id " + id );
+				}
+			}
+			// no value was lost
+			final int total = threads * idsPerThread;
+			assertEquals( total, generated.size() );
+			assertTrue( generated.contains( 1L ) );
+			assertTrue( generated.contains( (long) total ) );
+			// the first call only yields the value 1, then each call yields a full pool
+			assertEquals( 1 + ( total - 1 + increment - 1 ) / increment, sequence.getTimesCalled() );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testPrefetchingPooledConcurrentOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final CountingCallback session = new CountingCallback( sequence );
+		final PooledConcurrentOptimizer optimizer = (PooledConcurrentOptimizer) buildPooledConcurrentOptimizer( -1, 10 );
+		optimizer.enablePrefetch( sequence );
+
+		// the first two pools are obtained from the session, and the next two are prefetched,
+		// once the values 6 and 16 are generated, half way through the pools 2-11 and 12-21
+		for ( int i = 1; i <= 25; i++ ) {
+			final Long next = (Long) optimizer.generate( session );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, session.getTimesCalled() );
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 31, sequence.getCurrentValue() );
+		assertEquals( 31, optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testPrefetchingPooledConcurrentOptimizerWithSmallIncrement() {
+		final SourceMock sequence = new SourceMock( 1, 2 );
+		final CountingCallback session = new CountingCallback( sequence );
+		final PooledConcurrentOptimizer optimizer = (PooledConcurrentOptimizer) buildPooledConcurrentOptimizer( -1, 2 );
+		optimizer.enablePrefetch( sequence );
+
+		// the pools 2-3, 4-5, ... hand out a single value after their lo value, which triggers the prefetch
+		for ( int i = 1; i <= 10; i++ ) {
+			final Long next = (Long) optimizer.generate( session );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, session.getTimesCalled() );
+		assertEquals( 6, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+		optimizer.stop();
+	}
+
+	@Test
+	public void testStoppedPooledConcurrentOptimizerStopsPrefetching() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final CountingCallback session = new CountingCallback( sequence );
+		final PooledConcurrentOptimizer optimizer = (PooledConcurrentOptimizer) buildPooledConcurrentOptimizer( -1, 10 );
+		optimizer.enablePrefetch( sequence );
+		optimizer.stop();
+
+		// every pool is obtained from the session
+		for ( int i = 1; i <= 25; i++ ) {
+			final Long next = (Long) optimizer.generate( session );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 4, session.getTimesCalled() );
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 31, sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +491,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledConcurrentOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -331,6 +502,30 @@ public class OptimizerUnitTest {
 		return OptimizerFactory.buildOptimizer( descriptor, Long.class, increment, initial );
 	}
 
+	private static class CountingCallback implements AccessCallback {
+		private final AccessCallback delegate;
+		private int timesCalled;
+
+		public CountingCallback(AccessCallback delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			timesCalled++;
+			return delegate.getNextValue();
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return delegate.getTenantIdentifier();
+		}
+
+		public int getTimesCalled() {
+			return timesCalled;
+		}
+	}
+
 	private static class SourceMock implements AccessCallback {
 		private IdentifierGeneratorHelper.BasicHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
 		private long initialValue;
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.PooledConcurrentOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AvailableSettings#SEQUENCE_PREFETCH}
+ */
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsSequences.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.SEQUENCE_PREFETCH, value = "true" ) )
+@DomainModel( annotatedClasses = PrefetchedSequenceTest.TestEntity.class )
+@SessionFactory
+public class PrefetchedSequenceTest {
+
+	private static final int ALLOCATION_SIZE = 10;
+
+	@Test
+	public void testPrefetching(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( TestEntity.class );
+		assertThat( persister.getIdentifierGenerator(), instanceOf( SequenceStyleGenerator.class ) );
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+		assertThat( generator.getOptimizer(), instanceOf( PooledConcurrentOptimizer.class ) );
+
+		final int count = ALLOCATION_SIZE * 5;
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < count; i++ ) {
+						session.persist( new TestEntity() );
+					}
+				}
+		);
+
+		scope.inTransaction(
+				session -> {
+					final List<Long> ids = session.createSelectionQuery( "select id from TestEntity", Long.class )
+							.list();
+					assertEquals( count, ids.size() );
+					final Set<Long> distinct = new HashSet<>( ids );
+					assertEquals( count, distinct.size() );
+					// the prefetched pools follow on from each other, so no value is skipped
+					for ( long id = 1; id <= count; id++ ) {
+						assertTrue( distinct.contains( id ), "Missing id " + id );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete TestEntity" ).executeUpdate()
+		);
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		@GeneratedValue(generator = "prefetched_seq")
+		@SequenceGenerator(name = "prefetched_seq", allocationSize = ALLOCATION_SIZE)
+		private Long id;
+	}
+}
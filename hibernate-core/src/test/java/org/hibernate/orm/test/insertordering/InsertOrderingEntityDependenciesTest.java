@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.EntityInsertDependencies;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EntityInsertDependencies}
+ */
+@DomainModel(annotatedClasses = {
+		InsertOrderingEntityDependenciesTest.Customer.class,
+		InsertOrderingEntityDependenciesTest.Purchase.class,
+		InsertOrderingEntityDependenciesTest.PurchaseLine.class,
+		InsertOrderingEntityDependenciesTest.Category.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InsertOrderingEntityDependenciesTest {
+
+	@Test
+	public void testDependencies(SessionFactoryScope scope) {
+		final EntityInsertDependencies dependencies =
+				scope.getSessionFactory().getFastSessionServices().entityInsertDependencies;
+		assertEquals( Set.of(), dependencies.getDependencies( Customer.class.getName() ) );
+		assertEquals( Set.of( Customer.class.getName() ), dependencies.getDependencies( Purchase.class.getName() ) );
+		assertEquals(
+				Set.of( Customer.class.getName(), Purchase.class.getName() ),
+				dependencies.getDependencies( PurchaseLine.class.getName() )
+		);
+		assertFalse( dependencies.isCyclic( PurchaseLine.class.getName() ) );
+		assertTrue( dependencies.isCyclic( Category.class.getName() ) );
+	}
+
+	@Test
+	public void testInsertsAreGroupedByEntity(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction(
+				session -> {
+					for ( long i = 1; i <= 3; i++ ) {
+						final Customer customer = new Customer( i );
+						final Purchase purchase = new Purchase( i, customer );
+						session.persist( customer );
+						session.persist( purchase );
+						session.persist( new PurchaseLine( i, purchase ) );
+					}
+				}
+		);
+		final List<String> tables = new ArrayList<>();
+		for ( String sql : statementInspector.getSqlQueries() ) {
+			tables.add( sql.substring( "insert into ".length(), sql.indexOf( ' ', "insert into ".length() ) ) );
+		}
+		// each statement is prepared once, and its inserts are batched
+		assertEquals( List.of( "Customer", "Purchase", "PurchaseLine" ), tables );
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		public Customer() {
+		}
+
+		public Customer(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	@Table(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Customer customer;
+
+		public Purchase() {
+		}
+
+		public Purchase(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Entity(name = "PurchaseLine")
+	@Table(name = "PurchaseLine")
+	public static class PurchaseLine {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Purchase purchase;
+
+		public PurchaseLine() {
+		}
+
+		public PurchaseLine(Long id, Purchase purchase) {
+			this.id = id;
+			this.purchase = purchase;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "Category")
+	public static class Category {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Category parent;
+		@OneToMany(mappedBy = "parent")
+		private List<Category> children = new ArrayList<>();
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.internal.util.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.LegacyInternalCacheFactory;
+import org.hibernate.internal.util.cache.TinyLfuInternalCache;
+import org.hibernate.internal.util.cache.TinyLfuInternalCacheFactory;
+import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuInternalCacheTest {
+
+	@Test
+	public void basicOperations() {
+		final InternalCache<String, String> cache = new TinyLfuInternalCache<>( 10 );
+		assertThat( cache.get( "a" ) ).isNull();
+
+		cache.put( "a", "1" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "1" );
+		cache.put( "a", "2" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "2" );
+
+		assertThat( cache.computeIfAbsent( "b", k -> "3" ) ).isEqualTo( "3" );
+		assertThat( cache.computeIfAbsent( "b", k -> "4" ) ).isEqualTo( "3" );
+		assertThat( cache.heuristicCount() ).isEqualTo( 2 );
+
+		assertThat( cache.getHitCount() ).isEqualTo( 3 );
+		assertThat( cache.getMissCount() ).isEqualTo( 2 );
+
+		cache.clear();
+		assertThat( cache.heuristicCount() ).isEqualTo( 0 );
+		assertThat( cache.get( "a" ) ).isNull();
+	}
+
+	@Test
+	public void sizeIsBounded() {
+		final TinyLfuInternalCache<Integer, Integer> cache = new TinyLfuInternalCache<>( 100 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			cache.put( i, i );
+		}
+		assertThat( cache.heuristicCount() ).isEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void frequentlyUsedEntriesSurviveScans() {
+		final TinyLfuInternalCache<Integer, Integer> cache = new TinyLfuInternalCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertThat( cache.get( i ) ).isEqualTo( i );
+			}
+		}
+
+		// a scan of entries used only once
+		for ( int i = 1_000; i < 11_000; i++ ) {
+			cache.put( i, i );
+		}
+
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertThat( retained ).isGreaterThanOrEqualTo( 45 );
+		assertThat( cache.heuristicCount() ).isLessThanOrEqualTo( 100 );
+	}
+
+	@Test
+	public void concurrentAccess() throws Exception {
+		final TinyLfuInternalCache<Integer, Integer> cache = new TinyLfuInternalCache<>( 500 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				final int seed = t;
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 50_000; i++ ) {
+						final int key = ( i * 31 + seed ) % 2_000;
+						assertThat( cache.computeIfAbsent( key, k -> k ) ).isEqualTo( key );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat( cache.heuristicCount() ).isLessThanOrEqualTo( 500 );
+		assertThat( cache.getHitCount() + cache.getMissCount() ).isEqualTo( 8 * 50_000 );
+	}
+
+	@Test
+	public void evictionsAreExposedByTheQueryInterpretationCache() {
+		final QueryInterpretationCache cache =
+				new QueryInterpretationCacheStandardImpl( 10, () -> null, TinyLfuInternalCacheFactory.INSTANCE );
+		for ( int i = 0; i < 30; i++ ) {
+			cache.resolveNativeQueryParameters( "select " + i, sql -> null );
+		}
+		assertThat( cache.getEvictionCount() ).isEqualTo( 20 );
+
+		final QueryInterpretationCache legacyCache =
+				new QueryInterpretationCacheStandardImpl( 10, () -> null, LegacyInternalCacheFactory.INSTANCE );
+		assertThat( legacyCache.getEvictionCount() ).isEqualTo( -1 );
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.query.ResultColumns;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#getResultColumns()}
+ */
+@DomainModel(annotatedClasses = ResultColumnsTest.Measurement.class)
+@SessionFactory
+public class ResultColumnsTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 50; i++ ) {
+						session.persist( new Measurement( i, i % 7, i % 10 == 0 ? null : i / 4.0, "m" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarColumns(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final ResultColumns columns = session.createQuery(
+							"select m.id, m.sensor, m.reading, m.label from Measurement m order by m.id",
+							Object[].class
+					).getResultColumns();
+
+					assertEquals( 4, columns.getColumnCount() );
+					assertEquals( 50, columns.getRowCount() );
+					assertSame( Long.class, columns.getColumnJavaType( 0 ) );
+					assertSame( Integer.class, columns.getColumnJavaType( 1 ) );
+					assertSame( Double.class, columns.getColumnJavaType( 2 ) );
+					assertSame( String.class, columns.getColumnJavaType( 3 ) );
+
+					final long[] ids = columns.getLongColumn( 0 );
+					final int[] sensors = columns.getIntColumn( 1 );
+					final double[] readings = columns.getDoubleColumn( 2 );
+					final Object[] labels = columns.getColumn( 3 );
+					assertEquals( 50, ids.length );
+					// the numeric columns were read without boxing
+					assertSame( ids, columns.getLongColumn( 0 ) );
+					assertSame( sensors, columns.getIntColumn( 1 ) );
+					assertSame( readings, columns.getDoubleColumn( 2 ) );
+					for ( int row = 0; row < 50; row++ ) {
+						final int id = row + 1;
+						assertEquals( id, ids[row] );
+						assertEquals( id % 7, sensors[row] );
+						assertEquals( "m" + id, labels[row] );
+						if ( id % 10 == 0 ) {
+							assertTrue( columns.isNull( 2, row ) );
+							assertNull( columns.getValue( 2, row ) );
+							assertEquals( 0.0, readings[row] );
+						}
+						else {
+							assertFalse( columns.isNull( 2, row ) );
+							assertEquals( id / 4.0, readings[row] );
+							assertEquals( id / 4.0, columns.getValue( 2, row ) );
+						}
+					}
+
+					assertThrows( IllegalArgumentException.class, () -> columns.getLongColumn( 1 ) );
+					assertThrows( IllegalArgumentException.class, () -> columns.getIntColumn( 3 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testSingleColumnAndLimit(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final ResultColumns columns = session.createSelectionQuery(
+							"select m.id from Measurement m where m.sensor = :sensor order by m.id",
+							Long.class
+					)
+							.setParameter( "sensor", 3 )
+							.setMaxResults( 3 )
+							.getResultColumns();
+					assertEquals( 1, columns.getColumnCount() );
+					assertArrayEquals( new long[] { 3L, 10L, 17L }, columns.getLongColumn( 0 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testEntityColumns(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final ResultColumns columns = session.createQuery(
+							"select m, m.label from Measurement m where m.id < 4 order by m.id",
+							Object[].class
+					).getResultColumns();
+					assertEquals( 2, columns.getColumnCount() );
+					assertEquals( 3, columns.getRowCount() );
+					for ( int row = 0; row < 3; row++ ) {
+						final Measurement measurement = (Measurement) columns.getValue( 0, row );
+						assertEquals( row + 1, measurement.id );
+						assertEquals( measurement.label, columns.getValue( 1, row ) );
+						assertTrue( session.contains( measurement ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testNativeQueryColumns(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> {
+					final List<?> list = session.createNativeQuery( "select id from Measurement order by id", Long.class )
+							.list();
+					final ResultColumns columns = session.createNativeQuery( "select id from Measurement order by id", Long.class )
+							.getResultColumns();
+					assertEquals( 1, columns.getColumnCount() );
+					assertEquals( list.size(), columns.getRowCount() );
+					assertArrayEquals( list.toArray(), columns.getColumn( 0 ) );
+				}
+		);
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		private long id;
+		private int sensor;
+		private Double reading;
+		private String label;
+
+		public Measurement() {
+		}
+
+		public Measurement(long id, int sensor, Double reading, String label) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.label = label;
+		}
+	}
+}
@@ -0,0 +1,374 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value AvailableSettings#SCROLL_READ_AHEAD_SIZE}
+ */
+@DomainModel(annotatedClasses = {
+		ScrollReadAheadTest.Shelf.class,
+		ScrollReadAheadTest.Book.class,
+		ScrollReadAheadTest.Cover.class,
+		ScrollReadAheadTest.Note.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SCROLL_READ_AHEAD_SIZE, value = "4"))
+@SessionFactory
+public class ScrollReadAheadTest {
+
+	private static final int BOOKS = 100;
+	private static final String READER_THREAD = "hibernate-scroll-read-ahead";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Shelf[] shelves = new Shelf[7];
+					for ( int i = 0; i < shelves.length; i++ ) {
+						shelves[i] = new Shelf( i + 1, "shelf " + i );
+						session.persist( shelves[i] );
+					}
+					for ( int i = 1; i <= BOOKS; i++ ) {
+						session.persist( new Book( i, "book " + i, shelves[i % shelves.length] ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Note" ).executeUpdate();
+					session.createMutationQuery( "delete from Cover" ).executeUpdate();
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testForwardOnlyScroll(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<String> titles = new ArrayList<>();
+					try ( ScrollableResults<Book> results = session.createSelectionQuery(
+							"from Book b order by b.id",
+							Book.class
+					).scroll( ScrollMode.FORWARD_ONLY ) ) {
+						while ( results.next() ) {
+							final Book book = results.get();
+							assertEquals( titles.size(), results.getRowNumber() );
+							assertEquals( titles.size() == 0, results.isFirst() );
+							assertEquals( titles.size() == BOOKS - 1, results.isLast() );
+							// initializing the proxy runs another statement while the rows are read ahead
+							assertEquals( "shelf " + ( book.id % 7 ), Hibernate.unproxy( book.shelf, Shelf.class ).name );
+							titles.add( book.title );
+							if ( titles.size() == 1 ) {
+								assertTrue( isReaderRunning() );
+							}
+						}
+						assertThrows( UnsupportedOperationException.class, results::previous );
+					}
+					assertEquals( BOOKS, titles.size() );
+					for ( int i = 0; i < BOOKS; i++ ) {
+						assertEquals( "book " + ( i + 1 ), titles.get( i ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testCloseBeforeExhausted(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( Stream<String> titles = session.createSelectionQuery(
+							"select b.title from Book b order by b.id",
+							String.class
+					).stream() ) {
+						assertEquals(
+								List.of( "book 1", "book 2", "book 3" ),
+								titles.limit( 3 ).collect( Collectors.toList() )
+						);
+					}
+					assertFalse( isReaderRunning() );
+
+					// the session is still usable
+					assertEquals( BOOKS, session.createSelectionQuery( "from Book", Book.class ).list().size() );
+				}
+		);
+	}
+
+	@Test
+	public void testFetchingScroll(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					int shelves = 0;
+					int books = 0;
+					try ( ScrollableResults<Shelf> results = session.createSelectionQuery(
+							"from Shelf s join fetch s.books order by s.id",
+							Shelf.class
+					).scroll( ScrollMode.FORWARD_ONLY ) ) {
+						while ( results.next() ) {
+							shelves++;
+							books += results.get().books.size();
+						}
+					}
+					assertEquals( 7, shelves );
+					assertEquals( BOOKS, books );
+				}
+		);
+	}
+
+	@Test
+	public void testEmptyResults(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( ScrollableResults<Book> results = session.createSelectionQuery(
+							"from Book b where b.id < 0",
+							Book.class
+					).scroll( ScrollMode.FORWARD_ONLY ) ) {
+						assertFalse( results.next() );
+						assertFalse( results.next() );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testOnlyForwardOnlyScrollsAreAllowed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					assertThrows(
+							IllegalQueryOperationException.class,
+							() -> session.createSelectionQuery( "from Book", Book.class )
+									.scroll( ScrollMode.SCROLL_INSENSITIVE )
+					);
+
+					// the default scroll mode is forward-only
+					int books = 0;
+					try ( ScrollableResults<Book> results = session.createSelectionQuery(
+							"from Book b order by b.id",
+							Book.class
+					).scroll() ) {
+						while ( results.next() ) {
+							if ( ++books == 1 ) {
+								assertTrue( isReaderRunning() );
+							}
+						}
+					}
+					assertEquals( BOOKS, books );
+				}
+		);
+	}
+
+	@Test
+	public void testLobsAreNotReadAhead(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 10; i++ ) {
+						session.persist( new Cover( i, new byte[] { (byte) i, (byte) ( i * 2 ) } ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					int covers = 0;
+					try ( ScrollableResults<Cover> results = session.createSelectionQuery(
+							"from Cover c order by c.id",
+							Cover.class
+					).scroll( ScrollMode.FORWARD_ONLY ) ) {
+						while ( results.next() ) {
+							final Cover cover = results.get();
+							covers++;
+							assertFalse( isReaderRunning() );
+							assertEquals( covers, cover.id );
+							assertEquals( (byte) ( covers * 2 ), cover.image[1] );
+						}
+					}
+					assertEquals( 10, covers );
+				}
+		);
+	}
+
+	@Test
+	public void testUnclosedStreamIsStoppedBySessionClose(SessionFactoryScope scope) {
+		final Session session = scope.getSessionFactory().openSession();
+		final Iterator<String> titles = session.createSelectionQuery(
+				"select b.title from Book b order by b.id",
+				String.class
+		).stream().iterator();
+		assertEquals( "book 1", titles.next() );
+		assertTrue( isReaderRunning() );
+
+		// the stream is never closed
+		session.close();
+		assertFalse( isReaderRunning() );
+	}
+
+	@Test
+	@Timeout(value = 30, unit = TimeUnit.SECONDS)
+	public void testReaderFailingWithError(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 20; i++ ) {
+						session.persist( new Note( i, i == 10 ? PoisonedStringJavaType.POISON : "note " + i ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					try ( ScrollableResults<Note> results = session.createSelectionQuery(
+							"from Note n order by n.id",
+							Note.class
+					).scroll( ScrollMode.FORWARD_ONLY ) ) {
+						assertTrue( results.next() );
+						assertThrows(
+								PoisonError.class,
+								() -> {
+									while ( results.next() ) {
+										assertTrue( results.get().id < 10 );
+									}
+								}
+						);
+					}
+					assertFalse( isReaderRunning() );
+				}
+		);
+	}
+
+	private static boolean isReaderRunning() {
+		for ( Thread thread : Thread.getAllStackTraces().keySet() ) {
+			if ( READER_THREAD.equals( thread.getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "shelf")
+		List<Book> books = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Shelf shelf;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+		}
+	}
+
+	@Entity(name = "Cover")
+	public static class Cover {
+		@Id
+		Integer id;
+		@Lob
+		byte[] image;
+
+		public Cover() {
+		}
+
+		public Cover(Integer id, byte[] image) {
+			this.id = id;
+			this.image = image;
+		}
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		Integer id;
+		@org.hibernate.annotations.JavaType(PoisonedStringJavaType.class)
+		String text;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Fails with an {@link Error} when reading a poisoned value
+	 */
+	public static class PoisonedStringJavaType extends StringJavaType {
+		static final String POISON = "poison";
+
+		@Override
+		public <X> String wrap(X value, WrapperOptions options) {
+			if ( POISON.equals( value ) ) {
+				throw new PoisonError();
+			}
+			return super.wrap( value, options );
+		}
+	}
+
+	public static class PoisonError extends Error {
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#streamDetached(int)} and
+ * {@link org.hibernate.query.SelectionQuery#publishDetached(int)}
+ */
+@DomainModel(annotatedClasses = { StreamDetachedTest.Sensor.class, StreamDetachedTest.Reading.class })
+@SessionFactory
+public class StreamDetachedTest {
+
+	private static final int READINGS = 100;
+	private static final int WINDOW = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Sensor[] sensors = new Sensor[5];
+					for ( int i = 0; i < sensors.length; i++ ) {
+						sensors[i] = new Sensor( i + 1L, "s" + i );
+						session.persist( sensors[i] );
+					}
+					for ( int i = 1; i <= READINGS; i++ ) {
+						session.persist( new Reading( i, sensors[i % sensors.length], i / 2.0 ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Reading" ).executeUpdate();
+					session.createMutationQuery( "delete from Sensor" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testPersistenceContextIsBounded(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final PersistenceContext persistenceContext = ( (SessionImplementor) session ).getPersistenceContext();
+					final List<Reading> detached = new ArrayList<>();
+					int maxManaged = 0;
+					long count = 0;
+					try ( Stream<Reading> readings = session.createSelectionQuery(
+							"from Reading r join fetch r.sensor order by r.id",
+							Reading.class
+					).streamDetached( WINDOW ) ) {
+						for ( Reading reading : (Iterable<Reading>) readings::iterator ) {
+							assertNotNull( reading.sensor.name );
+							if ( count < WINDOW ) {
+								detached.add( reading );
+							}
+							maxManaged = Math.max( maxManaged, persistenceContext.getNumberOfManagedEntities() );
+							count++;
+						}
+					}
+					assertEquals( READINGS, count );
+					// the readings of a window, and at most all the sensors
+					assertTrue( maxManaged <= WINDOW + 5, "managed entities: " + maxManaged );
+					for ( Reading reading : detached ) {
+						assertFalse( session.contains( reading ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testPreviouslyManagedEntitiesAreRetained(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Sensor sensor = session.find( Sensor.class, 1L );
+					final Reading reading = session.find( Reading.class, 5 );
+					try ( Stream<Reading> readings = session.createSelectionQuery(
+							"from Reading r order by r.id",
+							Reading.class
+					).streamDetached( WINDOW ) ) {
+						assertEquals( READINGS, readings.count() );
+					}
+					assertTrue( session.contains( sensor ) );
+					assertTrue( session.contains( reading ) );
+
+					// changes to a retained entity are still flushed
+					sensor.name = "renamed";
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals( "renamed", session.find( Sensor.class, 1L ).name )
+		);
+	}
+
+	@Test
+	public void testChangesMadeWhileStreamingAreFlushed(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( Stream<Reading> readings = session.createSelectionQuery(
+							"from Reading r order by r.id",
+							Reading.class
+					).streamDetached( WINDOW ) ) {
+						readings.forEach(
+								reading -> {
+									if ( reading.id % 10 == 0 ) {
+										session.remove( reading );
+									}
+									else {
+										reading.amount = -reading.amount;
+									}
+									if ( reading.id % 25 == 0 ) {
+										session.persist( new Sensor( 100L + reading.id, "added" ) );
+									}
+								}
+						);
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					assertEquals(
+							READINGS - READINGS / 10,
+							session.createSelectionQuery( "select count(*) from Reading", Long.class ).getSingleResult()
+					);
+					assertEquals(
+							0L,
+							session.createSelectionQuery( "select count(*) from Reading where amount > 0", Long.class )
+									.getSingleResult()
+					);
+					assertEquals(
+							READINGS / 25,
+							session.createSelectionQuery( "select count(*) from Sensor where name = 'added'", Long.class )
+									.getSingleResult()
+					);
+				}
+		);
+	}
+
+	@Test
+	public void testChangesAreNotLostInManualFlushMode(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.setHibernateFlushMode( FlushMode.MANUAL );
+					try ( Stream<Reading> readings = session.createSelectionQuery(
+							"from Reading r order by r.id",
+							Reading.class
+					).streamDetached( WINDOW ) ) {
+						assertThrows(
+								HibernateException.class,
+								() -> readings.forEach( reading -> reading.amount = -reading.amount )
+						);
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testPublisher(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final PersistenceContext persistenceContext = ( (SessionImplementor) session ).getPersistenceContext();
+					final Flow.Publisher<Reading> publisher = session.createSelectionQuery(
+							"from Reading r order by r.id",
+							Reading.class
+					).publishDetached( WINDOW );
+
+					final CollectingSubscriber subscriber = new CollectingSubscriber( persistenceContext );
+					publisher.subscribe( subscriber );
+					// nothing is delivered before it is requested
+					assertEquals( 0, subscriber.ids.size() );
+
+					subscriber.subscription.request( 15 );
+					assertEquals( 15, subscriber.ids.size() );
+					assertFalse( subscriber.completed );
+
+					// requesting from onNext() must not deliver results re-entrantly
+					subscriber.requestOnNext = true;
+					subscriber.subscription.request( 1 );
+					assertEquals( READINGS, subscriber.ids.size() );
+					assertTrue( subscriber.completed );
+					assertNull( subscriber.error );
+					assertTrue( subscriber.maxManaged <= WINDOW, "managed entities: " + subscriber.maxManaged );
+					for ( int i = 0; i < READINGS; i++ ) {
+						assertEquals( i + 1, subscriber.ids.get( i ) );
+					}
+
+					final CollectingSubscriber second = new CollectingSubscriber( persistenceContext );
+					publisher.subscribe( second );
+					assertTrue( second.error instanceof IllegalStateException );
+				}
+		);
+	}
+
+	@Test
+	public void testCancel(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final CollectingSubscriber subscriber =
+							new CollectingSubscriber( ( (SessionImplementor) session ).getPersistenceContext() );
+					session.createSelectionQuery( "from Reading r order by r.id", Reading.class )
+							.publishDetached( WINDOW )
+							.subscribe( subscriber );
+					subscriber.subscription.request( 3 );
+					subscriber.subscription.cancel();
+					subscriber.subscription.request( 3 );
+					assertEquals( 3, subscriber.ids.size() );
+					assertFalse( subscriber.completed );
+				}
+		);
+	}
+
+	@Test
+	public void testInvalidWindow(SessionFactoryScope scope) {
+		scope.inSession(
+				session -> assertThrows(
+						IllegalArgumentException.class,
+						() -> session.createSelectionQuery( "from Reading", Reading.class ).streamDetached( 0 )
+				)
+		);
+	}
+
+	private static class CollectingSubscriber implements Flow.Subscriber<Reading> {
+		private final PersistenceContext persistenceContext;
+		private final List<Integer> ids = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private boolean requestOnNext;
+		private boolean completed;
+		private Throwable error;
+		private int maxManaged;
+
+		private CollectingSubscriber(PersistenceContext persistenceContext) {
+			this.persistenceContext = persistenceContext;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Reading item) {
+			ids.add( item.id );
+			maxManaged = Math.max( maxManaged, persistenceContext.getNumberOfManagedEntities() );
+			if ( requestOnNext ) {
+				subscription.request( 1 );
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Entity(name = "Sensor")
+	public static class Sensor {
+		@Id
+		Long id;
+		String name;
+
+		public Sensor() {
+		}
+
+		public Sensor(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Sensor sensor;
+		Double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, Sensor sensor, Double amount) {
+			this.id = id;
+			this.sensor = sensor;
+			this.amount = amount;
+		}
+	}
+}
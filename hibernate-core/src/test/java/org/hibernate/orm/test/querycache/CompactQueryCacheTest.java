@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.caching.internal.CompactQueryResults;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#USE_COMPACT_QUERY_CACHE_ENTRIES}
+ */
+@DomainModel(annotatedClasses = CompactQueryCacheTest.Reading.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_COMPACT_QUERY_CACHE_ENTRIES, value = "true")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class CompactQueryCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Reading( 1L, -7, "plain", "grüße", 2.5, true, new byte[] { 1, 2, 3 }, LocalDate.of( 2023, 9, 1 ) ) );
+					session.persist( new Reading( 2L, Integer.MAX_VALUE, null, null, null, false, null, null ) );
+					session.persist( new Reading( Long.MAX_VALUE, Integer.MIN_VALUE, "", "", -0.0, null, new byte[0], LocalDate.of( 1970, 1, 1 ) ) );
+				}
+		);
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@Test
+	public void testScalarResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "select r.id, r.severity, r.name, r.label, r.amount, r.flag, r.payload, r.readOn from Reading r order by r.id";
+
+		final List<Object[]> fromDatabase = scope.fromSession(
+				session -> session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).list()
+		);
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+
+		final List<Object[]> fromCache = scope.fromSession(
+				session -> session.createSelectionQuery( hql, Object[].class ).setCacheable( true ).list()
+		);
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		assertEquals( 3, fromCache.size() );
+		for ( int i = 0; i < fromDatabase.size(); i++ ) {
+			assertArrayEquals( fromDatabase.get( i ), fromCache.get( i ) );
+		}
+		assertEquals( "grüße", fromCache.get( 0 )[3] );
+		assertNull( fromCache.get( 1 )[2] );
+		assertEquals( Long.MAX_VALUE, fromCache.get( 2 )[0] );
+	}
+
+	@Test
+	public void testEntityResults(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "from Reading r where r.severity < 0 order by r.id";
+
+		scope.inSession( session -> session.createSelectionQuery( hql, Reading.class ).setCacheable( true ).list() );
+		final List<Reading> readings = scope.fromSession(
+				session -> session.createSelectionQuery( hql, Reading.class ).setCacheable( true ).list()
+		);
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		assertEquals( 2, readings.size() );
+		assertEquals( 1L, readings.get( 0 ).id );
+		assertEquals( "plain", readings.get( 0 ).name );
+		assertArrayEquals( new byte[] { 1, 2, 3 }, readings.get( 0 ).payload );
+		assertEquals( LocalDate.of( 2023, 9, 1 ), readings.get( 0 ).readOn );
+		assertEquals( Long.MAX_VALUE, readings.get( 1 ).id );
+		assertEquals( Integer.MIN_VALUE, readings.get( 1 ).severity );
+	}
+
+	@Test
+	public void testListViewAndSerialization() {
+		final CompactQueryResults.Builder builder = new CompactQueryResults.Builder( null );
+		final Object[][] rows = {
+				{ 1, -1L, "a", 'x', (short) 3, (byte) -4, 1.5f, Math.PI, Boolean.TRUE, new byte[] { 9 }, LocalDate.of( 2000, 1, 1 ) },
+				{ null, Long.MIN_VALUE, "€", '€', Short.MIN_VALUE, Byte.MAX_VALUE, Float.NaN, Double.NEGATIVE_INFINITY, Boolean.FALSE, null, null },
+		};
+		for ( Object[] row : rows ) {
+			builder.addRow( row );
+		}
+		final CompactQueryResults results = builder.build();
+		final CompactQueryResults copy = (CompactQueryResults) SerializationHelper.clone( results );
+
+		for ( CompactQueryResults compact : Arrays.asList( results, copy ) ) {
+			assertEquals( 2, compact.size() );
+			assertEquals( 11, compact.getColumnCount() );
+			// read out of order, to check that each row is located independently
+			for ( int i = rows.length - 1; i >= 0; i-- ) {
+				assertArrayEquals( rows[i], (Object[]) compact.get( i ) );
+			}
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private Long id;
+		private int severity;
+		private String name;
+		private String label;
+		private Double amount;
+		private Boolean flag;
+		private byte[] payload;
+		private LocalDate readOn;
+
+		public Reading() {
+		}
+
+		public Reading(
+				Long id,
+				int severity,
+				String name,
+				String label,
+				Double amount,
+				Boolean flag,
+				byte[] payload,
+				LocalDate readOn) {
+			this.id = id;
+			this.severity = severity;
+			this.name = name;
+			this.label = label;
+			this.amount = amount;
+			this.flag = flag;
+			this.payload = payload;
+			this.readOn = readOn;
+		}
+	}
+}
@@ -6,12 +6,19 @@
  */
 package org.hibernate.orm.test.stat.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.hibernate.stat.internal.QueryStatisticsImpl;
 
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Vlad Mihalcea
@@ -42,4 +49,60 @@ public class ConcurrentQueryStatisticsTest extends BaseUnitTestCase {
 		assertEquals( 11, stats.getExecutionAvgTime() );
 		assertEquals( 11.5, stats.getExecutionAvgTimeAsDouble(), 0.1 );
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testPercentiles() {
+		final QueryStatisticsImpl stats = new QueryStatisticsImpl( "percentiles" );
+		assertEquals( 0, stats.getExecutionTimePercentile( 50 ) );
+
+		for ( int time = 1; time <= 1000; time++ ) {
+			stats.executed( 1, time );
+		}
+
+		// exact below 16
+		assertEquals( 1, stats.getExecutionTimePercentile( 0 ) );
+		assertEquals( 10, stats.getExecutionTimePercentile( 1 ) );
+		// within 12.5% above
+		assertWithin( 500, stats.getExecutionTimePercentile( 50 ) );
+		assertWithin( 990, stats.getExecutionTimePercentile( 99 ) );
+		// never above the max
+		assertEquals( 1000, stats.getExecutionTimePercentile( 100 ) );
+	}
+
+	@Test
+	public void testConcurrentExecutions() throws Exception {
+		final QueryStatisticsImpl stats = new QueryStatisticsImpl( "concurrent" );
+		final int threads = 8;
+		final int executionsPerThread = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				final int thread = i;
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < executionsPerThread; j++ ) {
+						stats.executed( 2, thread + 1 );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals( threads * executionsPerThread, stats.getExecutionCount() );
+		assertEquals( 2L * threads * executionsPerThread, stats.getExecutionRowCount() );
+		assertEquals( 36L * executionsPerThread, stats.getExecutionTotalTime() );
+		assertEquals( 1, stats.getExecutionMinTime() );
+		assertEquals( threads, stats.getExecutionMaxTime() );
+		assertEquals( 4.5, stats.getExecutionAvgTimeAsDouble(), 0.001 );
+		assertEquals( 4, stats.getExecutionTimePercentile( 50 ) );
+	}
+
+	private static void assertWithin(long expected, long actual) {
+		assertTrue( "Expected about " + expected + " but was " + actual, Math.abs( actual - expected ) <= expected / 8 );
+	}
+}
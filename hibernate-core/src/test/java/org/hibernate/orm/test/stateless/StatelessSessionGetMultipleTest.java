@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+
+@ServiceRegistry( settings = @Setting( name = GENERATE_STATISTICS, value = "true" ) )
+@DomainModel( annotatedClasses = StatelessSessionGetMultipleTest.Record.class )
+@SessionFactory
+public class StatelessSessionGetMultipleTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				session.insert( new Record( i, "Record " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Record" ).executeUpdate() );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> {
+			final List<Record> records = session.getMultiple( Record.class, asList( 3L, 99L, 1L, 5L, 3L ) );
+			assertThat( records ).hasSize( 5 );
+			assertThat( records.get( 0 ).message ).isEqualTo( "Record 3" );
+			assertThat( records.get( 1 ) ).isNull();
+			assertThat( records.get( 2 ).message ).isEqualTo( "Record 1" );
+			assertThat( records.get( 3 ).message ).isEqualTo( "Record 5" );
+			assertThat( records.get( 4 ) ).isSameAs( records.get( 0 ) );
+		} );
+		// a single query binding an array, or a single batch of ids
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testGetMultipleWithNullId(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> assertThatThrownBy(
+				() -> session.getMultiple( Record.class, asList( 1L, null ) )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		Long id;
+		String message;
+
+		Record() {
+		}
+
+		Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = {
+		StatelessSessionMultipleOperationsTest.Department.class,
+		StatelessSessionMultipleOperationsTest.Employee.class,
+		StatelessSessionMultipleOperationsTest.Product.class
+} )
+@SessionFactory
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMultipleOperationsAreBatchedByEntity(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Object> parentsAndChildren = new ArrayList<>();
+		for ( long i = 1; i <= 3; i++ ) {
+			final Department department = new Department( i, "Department " + i );
+			parentsAndChildren.add( department );
+			parentsAndChildren.add( new Employee( i, "Employee " + i, department ) );
+		}
+
+		// each department is inserted before its employee, and each table gets a single batch
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( parentsAndChildren ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		for ( Object entity : parentsAndChildren ) {
+			if ( entity instanceof Employee ) {
+				( (Employee) entity ).name += " (updated)";
+			}
+			else {
+				( (Department) entity ).name += " (updated)";
+			}
+		}
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( parentsAndChildren ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.upsertMultiple( parentsAndChildren ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Department.class, 2L ).name ).isEqualTo( "Department 2 (updated)" );
+			assertThat( session.get( Employee.class, 3L ).name ).isEqualTo( "Employee 3 (updated)" );
+		} );
+
+		// children first, so that the rows of each table can be deleted in one batch
+		final List<Object> childrenAndParents = new ArrayList<>( parentsAndChildren );
+		childrenAndParents.sort( (x, y) -> Boolean.compare( x instanceof Department, y instanceof Department ) );
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( childrenAndParents ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Department", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Test
+	public void testInsertMultipleWithPooledSequence(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Product> products = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			products.add( new Product( "Product " + i ) );
+		}
+
+		statistics.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( products ) );
+		// at most three sequence calls for the pooled optimizer, and a single batch of inserts
+		assertThat( statistics.getPrepareStatementCount() ).isLessThanOrEqualTo( 4 );
+		assertThat( products.stream().map( product -> product.id ).distinct() )
+				.doesNotContainNull()
+				.hasSize( 10 );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Long id;
+		String name;
+
+		Department() {
+		}
+
+		Department(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Long id;
+		String name;
+		@ManyToOne
+		Department department;
+
+		Employee() {
+		}
+
+		Employee(Long id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		@GeneratedValue(generator = "product_seq")
+		@SequenceGenerator(name = "product_seq", allocationSize = 5)
+		Long id;
+		String name;
+
+		Product() {
+		}
+
+		Product(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.LockMode;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that entities loaded by a stateless session, which are never dirty
+ * checked, are loaded without a snapshot when
+ * {@value AvailableSettings#STATELESS_SESSION_SKIP_SNAPSHOTS} is enabled
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionSnapshotTest.Ledger.class,
+		StatelessSessionSnapshotTest.Posting.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATELESS_SESSION_SKIP_SNAPSHOTS, value = "true"))
+@SessionFactory
+public class StatelessSessionSnapshotTest {
+
+	private static final AtomicInteger deepCopies = new AtomicInteger();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Ledger ledger = new Ledger( 1, "main" );
+					ledger.tags.add( "a" );
+					ledger.tags.add( "b" );
+					session.persist( ledger );
+					for ( int i = 1; i <= 5; i++ ) {
+						final Posting posting = new Posting( i, ledger, new Date( i * 1000L ) );
+						ledger.postings.add( posting );
+						session.persist( posting );
+					}
+				}
+		);
+		deepCopies.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Posting" ).executeUpdate();
+					session.remove( session.find( Ledger.class, 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testNoEntitySnapshot(SessionFactoryScope scope) {
+		scope.inStatelessSession(
+				session -> {
+					final List<Posting> postings = session.createSelectionQuery( "from Posting p order by p.id", Posting.class )
+							.getResultList();
+					assertEquals( 5, postings.size() );
+					assertEquals( new Date( 1000L ), postings.get( 0 ).bookedAt );
+				}
+		);
+		assertEquals( 0, deepCopies.get() );
+
+		// a stateful session still takes a snapshot, unless the entities are read-only
+		scope.inSession(
+				session -> {
+					session.createSelectionQuery( "from Posting", Posting.class ).setReadOnly( true ).getResultList();
+					assertEquals( 0, deepCopies.get() );
+					session.clear();
+					session.createSelectionQuery( "from Posting", Posting.class ).getResultList();
+					assertEquals( 5, deepCopies.get() );
+				}
+		);
+	}
+
+	@Test
+	public void testReattachCollectionLoadedByStatelessSession(SessionFactoryScope scope) {
+		final Ledger[] loaded = new Ledger[1];
+		scope.inStatelessSession(
+				session -> loaded[0] = session.createSelectionQuery( "from Ledger l join fetch l.tags", Ledger.class )
+						.getSingleResult()
+		);
+		final Ledger ledger = loaded[0];
+		assertTrue( ( (PersistentCollection<?>) ledger.tags ).wasInitialized() );
+		assertNotNull( ( (PersistentCollection<?>) ledger.tags ).getStoredSnapshot() );
+
+		scope.inTransaction(
+				session -> {
+					session.update( ledger );
+					ledger.tags.add( "c" );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					session.lock( ledger, LockMode.NONE );
+					ledger.tags.remove( "a" );
+				}
+		);
+		scope.inTransaction(
+				session -> assertEquals( Set.of( "b", "c" ), session.find( Ledger.class, 1 ).tags )
+		);
+	}
+
+	public static class CountingDateMutabilityPlan extends MutableMutabilityPlan<Date> {
+		@Override
+		protected Date deepCopyNotNull(Date value) {
+			deepCopies.incrementAndGet();
+			return new Date( value.getTime() );
+		}
+	}
+
+	@Entity(name = "Ledger")
+	public static class Ledger {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "ledger")
+		List<Posting> postings = new ArrayList<>();
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Ledger() {
+		}
+
+		public Ledger(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Posting")
+	public static class Posting {
+		@Id
+		Integer id;
+		@ManyToOne
+		Ledger ledger;
+		@Temporal(TemporalType.TIMESTAMP)
+		@Mutability(CountingDateMutabilityPlan.class)
+		Date bookedAt;
+
+		public Posting() {
+		}
+
+		public Posting(Integer id, Ledger ledger, Date bookedAt) {
+			this.id = id;
+			this.ledger = ledger;
+			this.bookedAt = bookedAt;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHashMapTest {
+
+	@Test
+	public void testBasicOperations() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( 1, map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 3, map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertFalse( map.containsKey( "c" ) );
+		assertNull( map.get( null ) );
+
+		assertEquals( 2, map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertEquals( 1, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+		assertThrows( NullPointerException.class, () -> map.put( null, 1 ) );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Map<CollidingKey, Integer> expected = new HashMap<>();
+		final Map<CollidingKey, Integer> actual = new OpenAddressingHashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 200_000; i++ ) {
+			// few distinct hashes, so that probe sequences are long and overlap
+			final CollidingKey key = new CollidingKey( random.nextInt( 5_000 ) );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					assertEquals( expected.put( key, i ), actual.put( key, i ) );
+					break;
+				case 1:
+					assertEquals( expected.remove( key ), actual.remove( key ) );
+					break;
+				default:
+					assertEquals( expected.get( key ), actual.get( key ) );
+			}
+			assertEquals( expected.size(), actual.size() );
+		}
+		assertEquals( expected, actual );
+		assertEquals( expected.keySet(), actual.keySet() );
+		assertEquals( new HashSet<>( expected.values() ), new HashSet<>( actual.values() ) );
+		assertEquals( expected.entrySet(), actual.entrySet() );
+	}
+
+	@Test
+	public void testIteratorFailsFast() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 10; i++ ) {
+			map.put( i, i );
+		}
+		final Iterator<Integer> iterator = map.values().iterator();
+		iterator.next();
+		map.put( 100, 100 );
+		assertThrows( ConcurrentModificationException.class, iterator::next );
+		assertThrows( UnsupportedOperationException.class, () -> map.keySet().iterator().remove() );
+	}
+
+	private static final class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value % 97;
+		}
+	}
+}
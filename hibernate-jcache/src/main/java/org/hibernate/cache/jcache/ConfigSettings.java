@@ -44,4 +44,19 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * Whether the timestamps region notifies the updates of timestamps through
+	 * the entry listeners of the underlying JCache {@link javax.cache.Cache}, allowing
+	 * {@link org.hibernate.cache.internal.NearTimestampsCacheFactory} to keep a local
+	 * copy of the timestamps.
+	 *
+	 * JCache does not require a provider to deliver the events of the other members
+	 * of a cluster to the listeners, so only enable this when the cache is local to
+	 * the JVM, or when the provider is known to deliver the events of the whole cluster.
+	 * Otherwise, the local copy would keep stale timestamps.
+	 *
+	 * Default value is {@code false}.
+	 */
+	String TIMESTAMPS_UPDATE_NOTIFICATIONS = PROP_PREFIX + "timestamps_update_notifications";
 }
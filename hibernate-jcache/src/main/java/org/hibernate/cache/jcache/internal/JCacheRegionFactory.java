@@ -29,11 +29,13 @@ import org.hibernate.cache.jcache.MissingCacheStrategy;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
+import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -45,6 +47,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile boolean timestampsUpdateNotifications;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -77,6 +80,17 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		);
 	}
 
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new JCacheTimestampsRegionImpl(
+				regionName,
+				this,
+				createTimestampsRegionStorageAccess( regionName, sessionFactory ),
+				timestampsUpdateNotifications
+		);
+	}
+
 	@Override
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
@@ -193,6 +207,10 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.timestampsUpdateNotifications = ConfigurationHelper.getBoolean(
+				ConfigSettings.TIMESTAMPS_UPDATE_NOTIFICATIONS,
+				configValues
+		);
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
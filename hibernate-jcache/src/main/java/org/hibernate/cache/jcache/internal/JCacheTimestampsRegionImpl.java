@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+
+/**
+ * TimestampsRegion which notifies the updates of timestamps using
+ * the entry listeners of the underlying JCache {@link Cache}.
+ * <p>
+ * Since {@link Cache#clear()} fires no events, clearing this region
+ * notifies the listeners directly.  A clear of the underlying cache
+ * by another process is not notified.
+ * <p>
+ * JCache does not require a provider to deliver the events of the
+ * other members of a cluster to the listeners, so updates are only
+ * notified when {@link org.hibernate.cache.jcache.ConfigSettings#TIMESTAMPS_UPDATE_NOTIFICATIONS}
+ * is enabled.
+ */
+public class JCacheTimestampsRegionImpl extends TimestampsRegionTemplate {
+	private final List<UpdateListener> listeners = new CopyOnWriteArrayList<>();
+	private final List<CacheEntryListenerConfiguration<Object, Object>> listenerConfigurations =
+			new CopyOnWriteArrayList<>();
+
+	private final boolean notifyUpdates;
+
+	public JCacheTimestampsRegionImpl(
+			String name,
+			RegionFactory regionFactory,
+			StorageAccess storageAccess,
+			boolean notifyUpdates) {
+		super( name, regionFactory, storageAccess );
+		this.notifyUpdates = notifyUpdates;
+	}
+
+	@Override
+	public boolean addUpdateListener(UpdateListener listener) {
+		if ( !notifyUpdates || !( getStorageAccess() instanceof JCacheAccessImpl ) ) {
+			return false;
+		}
+		final CacheEntryListenerConfiguration<Object, Object> listenerConfiguration =
+				new MutableCacheEntryListenerConfiguration<>(
+						new FactoryBuilder.SingletonFactory<>( new TimestampsEntryListener( listener ) ),
+						null,
+						false,
+						// synchronous, so that a put is notified before it returns
+						true
+				);
+		getUnderlyingCache().registerCacheEntryListener( listenerConfiguration );
+		listenerConfigurations.add( listenerConfiguration );
+		listeners.add( listener );
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		for ( UpdateListener listener : listeners ) {
+			listener.timestampsCleared();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if ( !listenerConfigurations.isEmpty() ) {
+			final Cache<Object, Object> cache = getUnderlyingCache();
+			if ( !cache.isClosed() ) {
+				for ( CacheEntryListenerConfiguration<Object, Object> listenerConfiguration : listenerConfigurations ) {
+					cache.deregisterCacheEntryListener( listenerConfiguration );
+				}
+			}
+		}
+		listenerConfigurations.clear();
+		listeners.clear();
+		super.destroy();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Object, Object> getUnderlyingCache() {
+		return ( (JCacheAccessImpl) getStorageAccess() ).getUnderlyingCache();
+	}
+
+	/**
+	 * A provider may serialize the listener, for example to register it on
+	 * the other members of a cluster.  A copy has no local listener to notify.
+	 */
+	private static class TimestampsEntryListener
+			implements CacheEntryCreatedListener<Object, Object>, CacheEntryUpdatedListener<Object, Object>,
+					CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object>,
+					Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final transient UpdateListener listener;
+
+		private TimestampsEntryListener(UpdateListener listener) {
+			this.listener = listener;
+		}
+
+		private void notifyListener(Iterable<CacheEntryEvent<?, ?>> events, boolean removed) {
+			if ( listener != null ) {
+				for ( CacheEntryEvent<?, ?> event : events ) {
+					listener.timestampUpdated( event.getKey(), removed ? null : event.getValue() );
+				}
+			}
+		}
+
+		@Override
+		public void onCreated(Iterable<CacheEntryEvent<?, ?>> events) {
+			notifyListener( events, false );
+		}
+
+		@Override
+		public void onUpdated(Iterable<CacheEntryEvent<?, ?>> events) {
+			notifyListener( events, false );
+		}
+
+		@Override
+		public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+			notifyListener( events, true );
+		}
+
+		@Override
+		public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+			notifyListener( events, true );
+		}
+	}
+}
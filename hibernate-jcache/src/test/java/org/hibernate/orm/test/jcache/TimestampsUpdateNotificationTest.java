@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.configuration.Factory;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.EventType;
+
+import org.hibernate.cache.internal.NearTimestampsCacheFactory;
+import org.hibernate.cache.internal.NearTimestampsCacheImpl;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests around the update notifications of
+ * {@link org.hibernate.cache.jcache.internal.JCacheTimestampsRegionImpl}
+ */
+@BaseUnitTest
+public class TimestampsUpdateNotificationTest {
+
+	@Test
+	public void testUpdatesNotified() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( true ) ) {
+			final TimestampsCache timestampsCache = sessionFactory.getCache().getTimestampsCache();
+			assertThat( timestampsCache, instanceOf( NearTimestampsCacheImpl.class ) );
+
+			final TimestampsRegion region = timestampsCache.getRegion();
+			final RecordingListener listener = new RecordingListener();
+			assertThat( region.addUpdateListener( listener ), equalTo( true ) );
+
+			final Cache<Object, Object> cache = getUnderlyingCache( region );
+
+			cache.put( "space", 1L );
+			assertThat( listener.notifications, equalTo( List.of( "space=1" ) ) );
+
+			cache.put( "space", 2L );
+			assertThat( listener.notifications, equalTo( List.of( "space=1", "space=2" ) ) );
+
+			cache.remove( "space" );
+			assertThat( listener.notifications, equalTo( List.of( "space=1", "space=2", "space=null" ) ) );
+
+			region.clear();
+			assertThat( listener.notifications, equalTo( List.of( "space=1", "space=2", "space=null", "cleared" ) ) );
+		}
+	}
+
+	@Test
+	public void testUpdatesNotNotifiedByDefault() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( false ) ) {
+			final TimestampsCache timestampsCache = sessionFactory.getCache().getTimestampsCache();
+			assertThat( timestampsCache, not( instanceOf( NearTimestampsCacheImpl.class ) ) );
+
+			final RecordingListener listener = new RecordingListener();
+			assertThat( timestampsCache.getRegion().addUpdateListener( listener ), equalTo( false ) );
+
+			getUnderlyingCache( timestampsCache.getRegion() ).put( "space", 1L );
+			assertThat( listener.notifications.isEmpty(), equalTo( true ) );
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testEntryListenerSerializable() {
+		TestHelper.preBuildAllCaches();
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( true ) ) {
+			final Cache<Object, Object> cache = getUnderlyingCache( sessionFactory.getCache().getTimestampsCache().getRegion() );
+
+			final CompleteConfiguration<Object, Object> configuration = cache.getConfiguration( CompleteConfiguration.class );
+
+			int serialized = 0;
+			for ( CacheEntryListenerConfiguration<Object, Object> listenerConfiguration :
+					configuration.getCacheEntryListenerConfigurations() ) {
+				final Factory<CacheEntryListener<? super Object, ? super Object>> copy =
+						(Factory<CacheEntryListener<? super Object, ? super Object>>)
+								SerializationHelper.clone( (Serializable) listenerConfiguration.getCacheEntryListenerFactory() );
+				final CacheEntryListener<? super Object, ? super Object> listener = copy.create();
+				// a copy has no local listener to notify, and must not fail
+				( (CacheEntryCreatedListener<Object, Object>) listener ).onCreated(
+						List.of( new TimestampEvent( cache, "space", 1L ) )
+				);
+				serialized++;
+			}
+			assertThat( serialized, equalTo( 1 ) );
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(boolean updateNotifications) {
+		return TestHelper.buildStandardSessionFactory(
+				builder -> builder
+						.applySetting( AvailableSettings.QUERY_CACHE_FACTORY, NearTimestampsCacheFactory.class.getName() )
+						.applySetting( ConfigSettings.TIMESTAMPS_UPDATE_NOTIFICATIONS, Boolean.toString( updateNotifications ) )
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cache<Object, Object> getUnderlyingCache(TimestampsRegion region) {
+		return ( (JCacheAccessImpl) ( (DirectAccessRegionTemplate) region ).getStorageAccess() ).getUnderlyingCache();
+	}
+
+	private static class RecordingListener implements TimestampsRegion.UpdateListener {
+		private final List<String> notifications = new ArrayList<>();
+
+		@Override
+		public void timestampUpdated(Object space, Object timestamp) {
+			notifications.add( space + "=" + timestamp );
+		}
+
+		@Override
+		public void timestampsCleared() {
+			notifications.add( "cleared" );
+		}
+	}
+
+	private static class TimestampEvent extends CacheEntryEvent<Object, Object> {
+		private final Object key;
+		private final Object value;
+
+		private TimestampEvent(Cache<Object, Object> source, Object key, Object value) {
+			super( source, EventType.CREATED );
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public Object getValue() {
+			return value;
+		}
+
+		@Override
+		public Object getOldValue() {
+			return null;
+		}
+
+		@Override
+		public boolean isOldValueAvailable() {
+			return false;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clazz) {
+			throw new IllegalArgumentException();
+		}
+	}
+}